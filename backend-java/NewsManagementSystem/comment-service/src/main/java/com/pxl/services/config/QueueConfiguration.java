@@ -0,0 +1,58 @@
+package com.pxl.services.config;
+
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.FanoutExchange;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class QueueConfiguration {
+    public static final String POST_DELETED_EXCHANGE = "postDeletedExchange";
+    public static final String POST_DELETED_QUEUE = "commentPostDeletedQueue";
+    public static final String POST_PURGED_QUEUE = "postPurgedQueue";
+    public static final String POST_COMMENTED_QUEUE = "postCommentedQueue";
+
+    @Bean
+    public MessageConverter jsonMessageConverter() {
+        return new Jackson2JsonMessageConverter();
+    }
+
+    @Bean
+    public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory) {
+        RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
+        rabbitTemplate.setMessageConverter(jsonMessageConverter());
+        return rabbitTemplate;
+    }
+
+    @Bean
+    public FanoutExchange postDeletedExchange() {
+        return new FanoutExchange(POST_DELETED_EXCHANGE);
+    }
+
+    @Bean
+    public Queue postDeletedQueue() {
+        return new Queue(POST_DELETED_QUEUE);
+    }
+
+    @Bean
+    public Binding postDeletedBinding(Queue postDeletedQueue, FanoutExchange postDeletedExchange) {
+        return BindingBuilder.bind(postDeletedQueue).to(postDeletedExchange);
+    }
+
+    @Bean
+    public Queue postPurgedQueue() {
+        return new Queue(POST_PURGED_QUEUE);
+    }
+
+    @Bean
+    public Queue postCommentedQueue() {
+        return new Queue(POST_COMMENTED_QUEUE);
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.pxl.services.controller;
 
 import com.pxl.services.domain.Comment;
+import com.pxl.services.domain.ListVersion;
 import com.pxl.services.services.CommentService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -8,7 +9,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.Optional;
 
@@ -38,11 +42,22 @@ public class CommentController {
                 .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
     }
 
+    /**
+     * The list is validated by a weak ETag built from the comment count and newest edit, so a
+     * polling client that already has the current list gets a 304 after a single aggregate query.
+     */
     @GetMapping("/post/{postId}")
-    public ResponseEntity<List<Comment>> getCommentsByPostId(@PathVariable Long postId) {
+    public ResponseEntity<List<Comment>> getCommentsByPostId(@PathVariable Long postId, WebRequest request) {
         log.info("Getting comment(s) with post id{}", postId);
+        ListVersion version = commentService.getCommentsVersion(postId);
+        String eTag = eTag(postId, version);
+        long lastModified = toEpochMilli(version.lastModified());
+        if (request.checkNotModified(eTag, lastModified)) {
+            return validated(HttpStatus.NOT_MODIFIED, eTag, lastModified).build();
+        }
+
         List<Comment> comments = commentService.getCommentsByPostId(postId);
-        return new ResponseEntity<>(comments, HttpStatus.OK);
+        return validated(HttpStatus.OK, eTag, lastModified).body(comments);
     }
 
     @PutMapping("/{id}")
@@ -66,4 +81,18 @@ public class CommentController {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
     }
-}
\ No newline at end of file
+
+    // An empty list has no edit time, and -1 would be sent as a Last-Modified in 1969
+    private static ResponseEntity.BodyBuilder validated(HttpStatus status, String eTag, long lastModified) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(status).eTag(eTag);
+        return lastModified < 0 ? builder : builder.lastModified(lastModified);
+    }
+
+    private static String eTag(Long postId, ListVersion version) {
+        return "W/\"" + postId + "-" + version.count() + "-" + toEpochMilli(version.lastModified()) + "\"";
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime == null ? -1 : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
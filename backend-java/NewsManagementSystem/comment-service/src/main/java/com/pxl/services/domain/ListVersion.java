@@ -0,0 +1,10 @@
+package com.pxl.services.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * Size and newest modification time of the comments on a post. Any create, edit or delete
+ * changes at least one of the two, which makes it usable as a weak validator for the list.
+ */
+public record ListVersion(Long count, LocalDateTime lastModified) {
+}
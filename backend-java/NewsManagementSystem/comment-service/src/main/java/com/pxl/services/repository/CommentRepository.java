@@ -1,12 +1,25 @@
 package com.pxl.services.repository;
 
 import com.pxl.services.domain.Comment;
+import com.pxl.services.domain.ListVersion;
+import com.pxl.services.purge.PostScopedRepository;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
-public interface CommentRepository extends JpaRepository<Comment, Long> {
+public interface CommentRepository extends JpaRepository<Comment, Long>, PostScopedRepository {
     List<Comment> findByPostId(Long postId);
+
+    @Override
+    @Query("select c.id from Comment c where c.postId = :postId order by c.id")
+    List<Long> findIdsByPostId(@Param("postId") Long postId, Pageable pageable);
+
+    @Query("select new com.pxl.services.domain.ListVersion(count(c), max(coalesce(c.editedAt, c.createdAt))) " +
+            "from Comment c where c.postId = :postId")
+    ListVersion findListVersionByPostId(@Param("postId") Long postId);
 }
@@ -1,6 +1,9 @@
 package com.pxl.services.services;
 
+import com.pxl.services.config.QueueConfiguration;
 import com.pxl.services.domain.Comment;
+import com.pxl.services.domain.DTO.PostCommentedMessage;
+import com.pxl.services.domain.ListVersion;
 import com.pxl.services.exceptions.CommentCreationException;
 import com.pxl.services.exceptions.CommentDeletionException;
 import com.pxl.services.exceptions.CommentNotFoundException;
@@ -9,6 +12,7 @@ import com.pxl.services.repository.CommentRepository;
 import jakarta.transaction.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -21,19 +25,34 @@ public class CommentService {
     private static final Logger log = LoggerFactory.getLogger(CommentService.class);
 
     private final CommentRepository commentRepository;
+    private final RabbitTemplate rabbitTemplate;
 
     @Autowired
-    public CommentService(CommentRepository commentRepository) {
+    public CommentService(CommentRepository commentRepository, RabbitTemplate rabbitTemplate) {
         this.commentRepository = commentRepository;
+        this.rabbitTemplate = rabbitTemplate;
     }
 
     public Comment createComment(Comment comment) {
         log.info("Creating comment {}", comment);
+        Comment saved;
         try {
-            return commentRepository.save(comment);
+            saved = commentRepository.save(comment);
         } catch (Exception e) {
             throw new CommentCreationException("Failed to create comment: " + e.getMessage());
         }
+        notifyPostCommented(saved);
+        return saved;
+    }
+
+    // Only feeds trending scores in post-service, so a broker outage must not fail the comment
+    private void notifyPostCommented(Comment comment) {
+        try {
+            rabbitTemplate.convertAndSend(QueueConfiguration.POST_COMMENTED_QUEUE,
+                    new PostCommentedMessage(comment.getPostId(), comment.getId()));
+        } catch (Exception e) {
+            log.warn("Failed to announce comment {} on post {}: {}", comment.getId(), comment.getPostId(), e.getMessage());
+        }
     }
 
     public Optional<Comment> getCommentById(Long id) {
@@ -60,6 +79,15 @@ public class CommentService {
         }
     }
 
+    public ListVersion getCommentsVersion(Long postId) {
+        log.info("Getting comments version by post id {}", postId);
+        try {
+            return commentRepository.findListVersionByPostId(postId);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to retrieve comments version for post ID " + postId + ": " + e.getMessage());
+        }
+    }
+
     @Transactional
     public Comment updateComment(Long id, String newContent) {
         log.info("Updating comment {}", id);
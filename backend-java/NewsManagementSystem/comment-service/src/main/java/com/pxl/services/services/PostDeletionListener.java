@@ -0,0 +1,32 @@
+package com.pxl.services.services;
+
+import com.pxl.services.config.QueueConfiguration;
+import com.pxl.services.domain.DTO.PostDeletedMessage;
+import com.pxl.services.purge.PostPurge;
+import com.pxl.services.repository.CommentRepository;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Purges the comments of a deleted post and confirms back to post-service, through the
+ * {@link PostPurge} shared with the other services that keep rows per post.
+ */
+@Service
+public class PostDeletionListener {
+    private static final String SERVICE_NAME = "comment-service";
+
+    private final PostPurge postPurge;
+
+    public PostDeletionListener(CommentRepository commentRepository, RabbitTemplate rabbitTemplate,
+                                @Value("${comments.purge.chunk-size:500}") int chunkSize) {
+        this.postPurge = new PostPurge(SERVICE_NAME, "comments", commentRepository, rabbitTemplate,
+                QueueConfiguration.POST_PURGED_QUEUE, chunkSize);
+    }
+
+    @RabbitListener(queues = QueueConfiguration.POST_DELETED_QUEUE)
+    public void onPostDeleted(PostDeletedMessage message) {
+        postPurge.purge(message.getPostId());
+    }
+}
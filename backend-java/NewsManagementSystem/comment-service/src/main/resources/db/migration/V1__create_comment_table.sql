@@ -0,0 +1,11 @@
+-- Baseline matching the schema previously generated by Hibernate (ddl-auto=update)
+create table if not exists comment
+(
+    id         bigint        not null auto_increment,
+    content    varchar(1000) not null,
+    created_at datetime(6)   not null,
+    edited_at  datetime(6),
+    post_id    bigint        not null,
+    posted_by  varchar(255),
+    primary key (id)
+) engine = InnoDB;
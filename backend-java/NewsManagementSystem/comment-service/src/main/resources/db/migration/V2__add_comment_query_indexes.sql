@@ -0,0 +1,2 @@
+-- findByPostId, returned in creation order
+create index idx_comment_post_id_created_at on comment (post_id, created_at);
@@ -2,6 +2,7 @@ package com.pxl.controller;
 
 import com.pxl.services.controller.CommentController;
 import com.pxl.services.domain.Comment;
+import com.pxl.services.domain.ListVersion;
 import com.pxl.services.services.CommentService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -9,8 +10,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -18,6 +23,8 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.*;
 
@@ -85,13 +92,41 @@ class CommentControllerTest {
                         .content("Another test comment")
                         .build());
 
+        when(commentService.getCommentsVersion(100L)).thenReturn(new ListVersion(2L, testComment.getCreatedAt()));
         when(commentService.getCommentsByPostId(100L)).thenReturn(postComments);
 
-        ResponseEntity<List<Comment>> response = commentController.getCommentsByPostId(100L);
+        ResponseEntity<List<Comment>> response = commentController.getCommentsByPostId(100L, webRequest(new MockHttpServletRequest()));
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(2, response.getBody().size());
         verify(commentService).getCommentsByPostId(100L);
+        assertNotNull(response.getHeaders().getETag());
+    }
+
+    @Test
+    void getCommentsByPostId_EmptyListHasNoLastModified() {
+        when(commentService.getCommentsVersion(100L)).thenReturn(new ListVersion(0L, null));
+        when(commentService.getCommentsByPostId(100L)).thenReturn(List.of());
+
+        ResponseEntity<List<Comment>> response = commentController.getCommentsByPostId(100L, webRequest(new MockHttpServletRequest()));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getHeaders().getETag());
+        assertFalse(response.getHeaders().containsKey(HttpHeaders.LAST_MODIFIED));
+    }
+
+    @Test
+    void getCommentsByPostId_NotModified() {
+        when(commentService.getCommentsVersion(100L)).thenReturn(new ListVersion(1L, testComment.getCreatedAt()));
+        ResponseEntity<List<Comment>> first = commentController.getCommentsByPostId(100L, webRequest(new MockHttpServletRequest()));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/comments/post/100");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, first.getHeaders().getETag());
+
+        ResponseEntity<List<Comment>> response = commentController.getCommentsByPostId(100L, webRequest(request));
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+        verify(commentService, times(1)).getCommentsByPostId(100L);
     }
 
     @Test
@@ -124,4 +159,8 @@ class CommentControllerTest {
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
         verify(commentService).deleteComment(1L);
     }
-}
\ No newline at end of file
+
+    private static ServletWebRequest webRequest(MockHttpServletRequest request) {
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+}
@@ -1,6 +1,7 @@
 package com.pxl.services;
 
 import com.pxl.services.domain.Comment;
+import com.pxl.services.domain.DTO.PostCommentedMessage;
 import com.pxl.services.exceptions.CommentCreationException;
 import com.pxl.services.exceptions.CommentDeletionException;
 import com.pxl.services.exceptions.CommentNotFoundException;
@@ -9,6 +10,7 @@ import com.pxl.services.repository.CommentRepository;
 import com.pxl.services.services.CommentService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -37,6 +39,8 @@ class CommentServiceTest {
             .withPassword("test");
     @MockBean
     private CommentRepository commentRepository;
+    @MockBean
+    private RabbitTemplate rabbitTemplate;
     @Autowired
     private CommentService commentService;
     private Comment testComment;
@@ -68,6 +72,7 @@ class CommentServiceTest {
 
         assertEquals(testComment, createdComment);
         verify(commentRepository).save(testComment);
+        verify(rabbitTemplate).convertAndSend(eq("postCommentedQueue"), any(PostCommentedMessage.class));
     }
 
     @Test
@@ -79,6 +84,7 @@ class CommentServiceTest {
 
         assertEquals("Failed to create comment: Database error", exception.getMessage());
         verify(commentRepository).save(testComment);
+        verifyNoInteractions(rabbitTemplate);
     }
 
     @Test
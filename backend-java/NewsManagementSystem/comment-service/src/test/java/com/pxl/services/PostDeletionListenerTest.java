@@ -0,0 +1,65 @@
+package com.pxl.services;
+
+import com.pxl.services.config.QueueConfiguration;
+import com.pxl.services.domain.DTO.PostDeletedMessage;
+import com.pxl.services.domain.DTO.PostPurgedMessage;
+import com.pxl.services.repository.CommentRepository;
+import com.pxl.services.services.PostDeletionListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class PostDeletionListenerTest {
+
+    private CommentRepository commentRepository;
+    private RabbitTemplate rabbitTemplate;
+    private PostDeletionListener listener;
+
+    @BeforeEach
+    void setUp() {
+        commentRepository = mock(CommentRepository.class);
+        rabbitTemplate = mock(RabbitTemplate.class);
+        listener = new PostDeletionListener(commentRepository, rabbitTemplate, 2);
+    }
+
+    @Test
+    void onPostDeleted_PurgesInChunksAndConfirms() {
+        when(commentRepository.findIdsByPostId(100L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(1L, 2L))
+                .thenReturn(List.of(3L));
+
+        listener.onPostDeleted(new PostDeletedMessage(100L));
+
+        verify(commentRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(commentRepository).deleteAllByIdInBatch(List.of(3L));
+        verify(rabbitTemplate).convertAndSend(QueueConfiguration.POST_PURGED_QUEUE,
+                new PostPurgedMessage(100L, "comment-service", 3));
+    }
+
+    @Test
+    void onPostDeleted_AlreadyPurgedStillConfirms() {
+        when(commentRepository.findIdsByPostId(100L, PageRequest.of(0, 2))).thenReturn(List.of());
+
+        listener.onPostDeleted(new PostDeletedMessage(100L));
+
+        verify(commentRepository, never()).deleteAllByIdInBatch(any());
+        verify(rabbitTemplate).convertAndSend(QueueConfiguration.POST_PURGED_QUEUE,
+                new PostPurgedMessage(100L, "comment-service", 0));
+    }
+
+    @Test
+    void onPostDeleted_FailureIsNotRequeued() {
+        when(commentRepository.findIdsByPostId(100L, PageRequest.of(0, 2))).thenThrow(new RuntimeException("Database error"));
+
+        assertThrows(AmqpRejectAndDontRequeueException.class, () -> listener.onPostDeleted(new PostDeletedMessage(100L)));
+        verifyNoInteractions(rabbitTemplate);
+    }
+}
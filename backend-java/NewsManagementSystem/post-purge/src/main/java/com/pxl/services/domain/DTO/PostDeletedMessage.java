@@ -0,0 +1,12 @@
+package com.pxl.services.domain.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostDeletedMessage {
+    private Long postId;
+}
@@ -0,0 +1,61 @@
+package com.pxl.services.purge;
+
+import com.pxl.services.domain.DTO.PostPurgedMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+/**
+ * Purges what one service keeps for a deleted post and confirms back to post-service. Rows are
+ * removed in chunks, each its own short transaction, and a repeated message simply finds nothing left.
+ */
+public class PostPurge {
+    private static final Logger log = LoggerFactory.getLogger(PostPurge.class);
+
+    private final String serviceName;
+    private final String rows;
+    private final PostScopedRepository repository;
+    private final RabbitTemplate rabbitTemplate;
+    private final String purgedQueue;
+    private final int chunkSize;
+
+    /**
+     * @param serviceName the name post-service knows the confirming service by
+     * @param rows        what the rows are, for the log
+     * @param purgedQueue the queue post-service reads confirmations from
+     */
+    public PostPurge(String serviceName, String rows, PostScopedRepository repository,
+                     RabbitTemplate rabbitTemplate, String purgedQueue, int chunkSize) {
+        this.serviceName = serviceName;
+        this.rows = rows;
+        this.repository = repository;
+        this.rabbitTemplate = rabbitTemplate;
+        this.purgedQueue = purgedQueue;
+        this.chunkSize = chunkSize;
+    }
+
+    public void purge(Long postId) {
+        log.info("Purging {} of deleted post {}", rows, postId);
+        try {
+            int purged = 0;
+            List<Long> ids;
+            do {
+                ids = repository.findIdsByPostId(postId, PageRequest.of(0, chunkSize));
+                if (!ids.isEmpty()) {
+                    repository.deleteAllByIdInBatch(ids);
+                    purged += ids.size();
+                }
+            } while (ids.size() == chunkSize);
+
+            rabbitTemplate.convertAndSend(purgedQueue, new PostPurgedMessage(postId, serviceName, purged));
+            log.info("Purged {} {} of post {}", purged, rows, postId);
+        } catch (Exception e) {
+            // post-service re-sends the deletion until it is confirmed, so do not requeue in a loop
+            throw new AmqpRejectAndDontRequeueException("Failed to purge " + rows + " of post " + postId, e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.pxl.services.purge;
+
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * The part of a repository a {@link PostPurge} needs: the ids of a post's rows, a page at a
+ * time, and a bulk delete by id. Spring Data repositories get the delete from JpaRepository.
+ */
+public interface PostScopedRepository {
+    List<Long> findIdsByPostId(Long postId, Pageable pageable);
+
+    void deleteAllByIdInBatch(Iterable<Long> ids);
+}
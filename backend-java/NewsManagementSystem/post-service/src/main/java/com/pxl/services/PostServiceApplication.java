@@ -3,11 +3,11 @@ package com.pxl.services;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
-import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableDiscoveryClient
-@EnableFeignClients
+@EnableScheduling
 public class PostServiceApplication {
     public static void main(String[] args) {
         SpringApplication.run(PostServiceApplication.class, args);
@@ -3,17 +3,33 @@ package com.pxl.services.config;
 import com.pxl.services.controller.PostController;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.FanoutExchange;
 import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.rabbit.config.RetryInterceptorBuilder;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.retry.MessageBatchRecoverer;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class QueueConfiguration {
     private static final Logger log = LoggerFactory.getLogger(PostController.class);
+    public static final String REVIEW_QUEUE = "reviewQueue";
+    public static final String REVIEW_DEAD_LETTER_EXCHANGE = "reviewDeadLetterExchange";
+    public static final String REVIEW_DEAD_LETTER_QUEUE = "reviewDeadLetterQueue";
+    public static final String POST_DELETED_EXCHANGE = "postDeletedExchange";
+    public static final String POST_PURGED_QUEUE = "postPurgedQueue";
+    public static final String POST_COMMENTED_QUEUE = "postCommentedQueue";
 
     @Bean
     public MessageConverter jsonMessageConverter() {
@@ -28,9 +44,81 @@ public class QueueConfiguration {
         return rabbitTemplate;
     }
 
+    /**
+     * Batches that still fail after the listener's retries are rejected into
+     * {@value #REVIEW_DEAD_LETTER_EXCHANGE} instead of being redelivered forever.
+     */
     @Bean
     public Queue reviewQueue() {
-        return new Queue("reviewQueue", false);
+        return QueueBuilder.nonDurable(REVIEW_QUEUE)
+                .deadLetterExchange(REVIEW_DEAD_LETTER_EXCHANGE)
+                .build();
+    }
+
+    @Bean
+    public FanoutExchange reviewDeadLetterExchange() {
+        return new FanoutExchange(REVIEW_DEAD_LETTER_EXCHANGE);
+    }
+
+    @Bean
+    public Queue reviewDeadLetterQueue() {
+        return new Queue(REVIEW_DEAD_LETTER_QUEUE);
+    }
+
+    @Bean
+    public Binding reviewDeadLetterBinding() {
+        return BindingBuilder.bind(reviewDeadLetterQueue()).to(reviewDeadLetterExchange());
+    }
+
+    @Bean
+    public FanoutExchange postDeletedExchange() {
+        return new FanoutExchange(POST_DELETED_EXCHANGE);
+    }
+
+    @Bean
+    public Queue postPurgedQueue() {
+        return new Queue(POST_PURGED_QUEUE);
+    }
+
+    @Bean
+    public Queue postCommentedQueue() {
+        return new Queue(POST_COMMENTED_QUEUE);
+    }
+
+    /**
+     * Delivers reviewQueue messages as lists of up to {@code batchSize} messages, or whatever
+     * arrived before {@code receiveTimeout} ms passed without a new one. The batch is acked as a whole.
+     * When the listener throws, the batch is retried in place with exponential backoff, up to
+     * {@code maxAttempts} calls in all. If the last call also fails, the batch is rejected without
+     * requeueing, so the broker moves it to {@value #REVIEW_DEAD_LETTER_QUEUE}.
+     */
+    @Bean
+    public SimpleRabbitListenerContainerFactory reviewBatchContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory,
+            @Value("${posts.review-queue.batch-size:100}") int batchSize,
+            @Value("${posts.review-queue.receive-timeout-ms:200}") long receiveTimeout,
+            @Value("${posts.review-queue.retry.max-attempts:3}") int maxAttempts,
+            @Value("${posts.review-queue.retry.initial-interval-ms:1000}") long initialInterval,
+            @Value("${posts.review-queue.retry.max-interval-ms:10000}") long maxInterval) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setPrefetchCount(batchSize);
+        factory.setReceiveTimeout(receiveTimeout);
+        MessageBatchRecoverer deadLetter = (messages, cause) -> {
+            log.error("Dead-lettering {} review messages after {} attempts: {}", messages.size(), maxAttempts, cause.getMessage());
+            throw new AmqpRejectAndDontRequeueException("Review batch failed after " + maxAttempts + " attempts", cause);
+        };
+        factory.setAdviceChain(RetryInterceptorBuilder.stateless()
+                .maxAttempts(maxAttempts)
+                .backOffOptions(initialInterval, 2.0, maxInterval)
+                .recoverer(deadLetter)
+                .build());
+        log.info("Review batch listener factory created with batch size {}", batchSize);
+        return factory;
     }
 
 }
\ No newline at end of file
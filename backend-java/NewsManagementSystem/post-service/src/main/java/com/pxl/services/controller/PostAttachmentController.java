@@ -0,0 +1,179 @@
+package com.pxl.services.controller;
+
+import com.pxl.services.domain.DTO.PostAttachmentDTO;
+import com.pxl.services.domain.PostAttachment;
+import com.pxl.services.services.attachment.AttachmentStore;
+import com.pxl.services.services.attachment.PostAttachmentService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api/posts")
+public class PostAttachmentController {
+    private static final Logger log = LoggerFactory.getLogger(PostAttachmentController.class);
+    // Request attributes through which Tomcat's NIO connector sends a file straight from the page cache
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    private static final Duration MAX_AGE = Duration.ofDays(365);
+
+    private final PostAttachmentService postAttachmentService;
+    private final AttachmentStore attachmentStore;
+
+    @Autowired
+    public PostAttachmentController(PostAttachmentService postAttachmentService, AttachmentStore attachmentStore) {
+        this.postAttachmentService = postAttachmentService;
+        this.attachmentStore = attachmentStore;
+    }
+
+    /**
+     * Takes the file as the raw request body, not as multipart form data, so it can be streamed
+     * to disk as it arrives.
+     */
+    @PostMapping("/{id}/attachments")
+    public ResponseEntity<PostAttachmentDTO> addAttachment(@PathVariable Long id,
+                                                           @RequestParam String fileName,
+                                                           @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                           @RequestHeader(value = HttpHeaders.CONTENT_LENGTH, required = false) Long contentLength,
+                                                           InputStream body) throws IOException {
+        log.info("Adding attachment to post with id {}", id);
+        PostAttachmentDTO attachment = postAttachmentService.addAttachment(id, fileName, contentType, contentLength, body);
+        return new ResponseEntity<>(attachment, HttpStatus.CREATED);
+    }
+
+    @GetMapping("/{id}/attachments")
+    public List<PostAttachmentDTO> getAttachments(@PathVariable Long id) {
+        log.info("Getting attachments of post with id {}", id);
+        return postAttachmentService.getAttachments(id);
+    }
+
+    /**
+     * Serves the attachment, or the single byte range asked for. Attachments never change, so
+     * the ETag is the content hash and responses may be cached for good. Where Tomcat supports
+     * sendfile the body is left to the connector; elsewhere it is copied with
+     * {@link java.nio.channels.FileChannel#transferTo}.
+     */
+    @GetMapping("/{id}/attachments/{attachmentId}")
+    public ResponseEntity<StreamingResponseBody> getAttachment(@PathVariable Long id, @PathVariable Long attachmentId,
+                                                               WebRequest request) {
+        log.info("Getting attachment {} of post with id {}", attachmentId, id);
+        Optional<PostAttachment> found = postAttachmentService.getAttachment(id, attachmentId);
+        if (found.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        PostAttachment attachment = found.get();
+        if (!attachmentStore.exists(attachment.getSha256())) {
+            log.error("File {} of attachment {} is missing", attachment.getSha256(), attachmentId);
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+
+        String eTag = "\"" + attachment.getSha256() + "\"";
+        CacheControl cacheControl = CacheControl.maxAge(MAX_AGE).cachePublic().immutable();
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(cacheControl).build();
+        }
+
+        long size = attachment.getSize();
+        long start = 0;
+        long end = size - 1;
+        HttpStatus status = HttpStatus.OK;
+        List<HttpRange> ranges = requestedRanges(request, eTag);
+        // Several ranges would need a multipart body; answering with the whole file is allowed instead
+        if (ranges.size() == 1) {
+            try {
+                start = ranges.get(0).getRangeStart(size);
+                end = ranges.get(0).getRangeEnd(size);
+            } catch (IllegalArgumentException e) {
+                start = size;
+            }
+            if (start >= size || start > end) {
+                return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                        .header(HttpHeaders.CONTENT_RANGE, "bytes */" + size)
+                        .build();
+            }
+            status = HttpStatus.PARTIAL_CONTENT;
+        }
+        long length = end - start + 1;
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(status)
+                .contentType(MediaType.parseMediaType(attachment.getContentType()))
+                .contentLength(length)
+                .eTag(eTag)
+                .cacheControl(cacheControl)
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition(attachment.getFileName()))
+                .header("X-Content-Type-Options", "nosniff");
+        if (status == HttpStatus.PARTIAL_CONTENT) {
+            response.header(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+        }
+        if (length == 0) {
+            return response.build();
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT, RequestAttributes.SCOPE_REQUEST))) {
+            String file = attachmentStore.path(attachment.getSha256()).toAbsolutePath().toString();
+            request.setAttribute(SENDFILE_FILENAME, file, RequestAttributes.SCOPE_REQUEST);
+            request.setAttribute(SENDFILE_START, start, RequestAttributes.SCOPE_REQUEST);
+            request.setAttribute(SENDFILE_END, end + 1, RequestAttributes.SCOPE_REQUEST);
+            return response.build();
+        }
+        long from = start;
+        return response.body(out -> attachmentStore.transferTo(attachment.getSha256(), from, length, out));
+    }
+
+    @DeleteMapping("/{id}/attachments/{attachmentId}")
+    public ResponseEntity<Void> deleteAttachment(@PathVariable Long id, @PathVariable Long attachmentId) {
+        log.info("Deleting attachment {} of post with id {}", attachmentId, id);
+        if (postAttachmentService.deleteAttachment(id, attachmentId)) {
+            return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+        }
+        return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+    }
+
+    private static String contentDisposition(String fileName) {
+        ContentDisposition.Builder disposition = ContentDisposition.inline();
+        if (StandardCharsets.US_ASCII.newEncoder().canEncode(fileName)) {
+            disposition.filename(fileName);
+        } else {
+            disposition.filename(fileName, StandardCharsets.UTF_8);
+        }
+        return disposition.build().toString();
+    }
+
+    private static List<HttpRange> requestedRanges(WebRequest request, String eTag) {
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (range == null) {
+            return List.of();
+        }
+        // A range only applies to the representation the client already holds part of
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.equals(eTag)) {
+            return List.of();
+        }
+        try {
+            return HttpRange.parseRanges(range);
+        } catch (IllegalArgumentException e) {
+            return List.of();
+        }
+    }
+}
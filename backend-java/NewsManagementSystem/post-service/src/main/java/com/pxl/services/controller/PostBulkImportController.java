@@ -0,0 +1,38 @@
+package com.pxl.services.controller;
+
+import com.pxl.services.domain.DTO.BulkImportResultDTO;
+import com.pxl.services.services.PostBulkImportService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/api/posts")
+public class PostBulkImportController {
+    private static final Logger log = LoggerFactory.getLogger(PostBulkImportController.class);
+    private final PostBulkImportService postBulkImportService;
+
+    @Autowired
+    public PostBulkImportController(PostBulkImportService postBulkImportService) {
+        this.postBulkImportService = postBulkImportService;
+    }
+
+    /**
+     * Accepts one post per line (application/x-ndjson). The body is read as a stream, so the
+     * request size is not limited by heap. Records that fail are listed in the result by line number.
+     */
+    @PostMapping(value = "/bulk", consumes = {"application/x-ndjson", "application/json", "text/plain"})
+    public ResponseEntity<BulkImportResultDTO> importPosts(InputStream body) throws IOException {
+        log.info("Bulk importing posts");
+        BulkImportResultDTO result = postBulkImportService.importPosts(body);
+        return new ResponseEntity<>(result, HttpStatus.OK);
+    }
+}
@@ -1,29 +1,69 @@
 package com.pxl.services.controller;
 
+import com.pxl.services.domain.DTO.CacheStatsDTO;
+import com.pxl.services.domain.DTO.DraftPatchDTO;
+import com.pxl.services.domain.DTO.DraftStateDTO;
+import com.pxl.services.domain.DTO.PostCriterionDTO;
 import com.pxl.services.domain.DTO.PostDTO;
+import com.pxl.services.domain.DTO.PostDraftDTO;
+import com.pxl.services.domain.DTO.PostFacetCountsDTO;
+import com.pxl.services.domain.DTO.PostPageDTO;
+import com.pxl.services.domain.DTO.PostRevisionDTO;
+import com.pxl.services.domain.DTO.PostRevisionInfoDTO;
+import com.pxl.services.domain.DTO.PostSummaryDTO;
+import com.pxl.services.domain.DTO.PostViewsDTO;
+import com.pxl.services.domain.DTO.PublicationScheduleDTO;
+import com.pxl.services.domain.DTO.SuggestionDTO;
+import com.pxl.services.domain.DTO.TrendingPostDTO;
 import com.pxl.services.domain.Post;
+import com.pxl.services.domain.PostHtml;
+import com.pxl.services.domain.ReviewStatus;
 import com.pxl.services.services.PostService;
+import com.pxl.services.services.criteria.PostCriteriaSearch;
+import com.pxl.services.services.draft.PostDraftBuffer;
+import com.pxl.services.services.facet.FacetFilter;
+import com.pxl.services.services.html.PostHtmlService;
+import com.pxl.services.services.views.PostViewCounter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/posts")
 public class PostController {
     private static final Logger log = LoggerFactory.getLogger(PostController.class);
+    private static final MediaType HTML_UTF8 = new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8);
+    private static final Duration HTML_MAX_AGE = Duration.ofDays(365);
     private final PostService postService;
+    private final PostViewCounter postViewCounter;
+    private final PostDraftBuffer postDraftBuffer;
+    private final PostHtmlService postHtmlService;
+    private final PostCriteriaSearch postCriteriaSearch;
 
     @Autowired
-    public PostController(PostService postService) {
+    public PostController(PostService postService, PostViewCounter postViewCounter, PostDraftBuffer postDraftBuffer,
+                          PostHtmlService postHtmlService, PostCriteriaSearch postCriteriaSearch) {
         this.postService = postService;
+        this.postViewCounter = postViewCounter;
+        this.postDraftBuffer = postDraftBuffer;
+        this.postHtmlService = postHtmlService;
+        this.postCriteriaSearch = postCriteriaSearch;
     }
 
     @PostMapping
@@ -47,6 +87,22 @@ public class PostController {
                 .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
     }
 
+    /**
+     * Autosave: applies text edits to the buffered draft of the post. The draft is written to the
+     * post on the next flush, or right away when the patch sets {@code save}.
+     */
+    @PatchMapping("/{id}/draft")
+    public DraftStateDTO patchDraft(@PathVariable Long id, @RequestBody DraftPatchDTO patch) {
+        log.debug("Patching draft of post with id {}", id);
+        return postDraftBuffer.patch(id, patch);
+    }
+
+    @GetMapping("/{id}/draft")
+    public PostDraftDTO getDraft(@PathVariable Long id) {
+        log.info("Getting draft of post with id {}", id);
+        return postDraftBuffer.getDraft(id);
+    }
+
     @PutMapping("/{id}/updateStatus")
     public ResponseEntity<Post> updateStatus(@PathVariable Long id, @RequestBody String newStatus) {
         log.info("Updating post with it {}", id);
@@ -55,12 +111,46 @@ public class PostController {
                 .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
     }
 
+    @PutMapping("/{id}/schedule")
+    public ResponseEntity<Post> schedulePublication(@PathVariable Long id, @RequestBody PublicationScheduleDTO schedule) {
+        log.info("Scheduling publication of post with id {}", id);
+        return postService.schedulePublication(id, schedule.getPublishAt())
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    @DeleteMapping("/{id}/schedule")
+    public ResponseEntity<Post> cancelPublication(@PathVariable Long id) {
+        log.info("Cancelling scheduled publication of post with id {}", id);
+        return postService.cancelPublication(id)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
     @GetMapping
     public List<Post> getPosts() {
         log.info("Getting all posts");
         return postService.getPosts();
     }
 
+    @GetMapping("/page")
+    public PostPageDTO<Post> getPostPage(@RequestParam(required = false) String cursor,
+                                         @RequestParam(defaultValue = "" + PostService.DEFAULT_PAGE_SIZE) int size,
+                                         @RequestParam(required = false) ReviewStatus status,
+                                         @RequestParam(required = false) String category) {
+        log.info("Getting page of posts");
+        return postService.getPostPage(cursor, size, status, category);
+    }
+
+    @GetMapping("/summaries")
+    public PostPageDTO<PostSummaryDTO> getPostSummaries(@RequestParam(required = false) String cursor,
+                                                        @RequestParam(defaultValue = "" + PostService.DEFAULT_PAGE_SIZE) int size,
+                                                        @RequestParam(required = false) ReviewStatus status,
+                                                        @RequestParam(required = false) String category) {
+        log.info("Getting page of post summaries");
+        return postService.getPostSummaries(cursor, size, status, category);
+    }
+
     @GetMapping("/search")
     public List<Post> searchPosts(@RequestParam(required = false) String content,
                                   @RequestParam(required = false) String category,
@@ -69,14 +159,133 @@ public class PostController {
         return postService.searchPosts(content, category, author);
     }
 
+    /**
+     * Searches with a boolean filter in the request body, see {@link PostCriterionDTO}. An empty
+     * body lists every post.
+     */
+    @PostMapping("/search")
+    public PostPageDTO<PostSummaryDTO> searchPosts(@RequestBody(required = false) PostCriterionDTO filter,
+                                                   @RequestParam(required = false) String cursor,
+                                                   @RequestParam(defaultValue = "" + PostService.DEFAULT_PAGE_SIZE) int size) {
+        log.info("Searching posts by criteria");
+        return postCriteriaSearch.search(filter, cursor, size);
+    }
+
+    @GetMapping("/suggest")
+    public List<SuggestionDTO> suggest(@RequestParam String prefix, @RequestParam(defaultValue = "10") int limit) {
+        log.debug("Suggesting posts for prefix {}", prefix);
+        return postService.suggest(prefix, limit);
+    }
+
+    @GetMapping("/filter")
+    public List<Post> filterPosts(@RequestParam(required = false) Set<ReviewStatus> status,
+                                  @RequestParam(required = false) Set<String> category,
+                                  @RequestParam(required = false) Set<String> author,
+                                  @RequestParam(defaultValue = "" + PostService.MAX_PAGE_SIZE) int limit) {
+        log.info("Filtering posts");
+        return postService.filterPosts(new FacetFilter(status, category, author), limit);
+    }
+
+    @GetMapping("/facets")
+    public PostFacetCountsDTO getFacetCounts(@RequestParam(required = false) Set<ReviewStatus> status,
+                                             @RequestParam(required = false) Set<String> category,
+                                             @RequestParam(required = false) Set<String> author) {
+        log.info("Getting post facet counts");
+        return postService.getFacetCounts(new FacetFilter(status, category, author));
+    }
+
+    @GetMapping("/trending")
+    public List<TrendingPostDTO> getTrendingPosts(@RequestParam(defaultValue = "10") int limit) {
+        log.info("Getting trending posts");
+        return postService.getTrendingPosts(limit);
+    }
+
+    @GetMapping("/cache/stats")
+    public List<CacheStatsDTO> getCacheStats() {
+        log.info("Getting post cache statistics");
+        return postService.getCacheStats();
+    }
+
+    /**
+     * Answers {@code If-None-Match}/{@code If-Modified-Since} from the post's version alone, so
+     * an unchanged post is neither loaded nor serialized.
+     */
     @GetMapping("/{id}")
-    public ResponseEntity<Post> getPostById(@PathVariable Long id) {
+    public ResponseEntity<Post> getPostById(@PathVariable Long id, WebRequest request) {
         log.info("Getting post with id {}", id);
+        Optional<LocalDateTime> version = postService.getPostVersion(id);
+        if (version.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        String eTag = eTag(id, version.get());
+        long lastModified = toEpochMilli(version.get());
+        if (request.checkNotModified(eTag, lastModified)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).lastModified(lastModified).build();
+        }
+
         Optional<Post> post = postService.getPostById(id);
-        return post.map(value -> new ResponseEntity<>(value, HttpStatus.OK))
+        post.ifPresent(value -> postViewCounter.recordView(id));
+        return post.map(value -> ResponseEntity.ok()
+                        .eTag(eTag(id, value.getUpdatedAt()))
+                        .lastModified(toEpochMilli(value.getUpdatedAt()))
+                        .body(value))
                 .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
     }
 
+    /**
+     * Serves the pre-rendered HTML of the post, tagged with its content hash. A request whose
+     * {@code v} equals that hash addresses this exact rendering and may be cached for good; without
+     * it the response has to be revalidated, which costs a 304 while the content is unchanged.
+     */
+    @GetMapping("/{id}/html")
+    public ResponseEntity<String> getPostHtml(@PathVariable Long id, @RequestParam(required = false) String v,
+                                              WebRequest request) {
+        log.info("Getting HTML of post with id {}", id);
+        Optional<PostHtml> html = postHtmlService.getHtml(id);
+        if (html.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        String hash = html.get().getContentHash();
+        String eTag = "\"" + hash + "\"";
+        CacheControl cacheControl = hash.equals(v)
+                ? CacheControl.maxAge(HTML_MAX_AGE).cachePublic().immutable()
+                : CacheControl.noCache().cachePublic();
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok()
+                .contentType(HTML_UTF8)
+                .eTag(eTag)
+                .cacheControl(cacheControl)
+                .body(html.get().getHtml());
+    }
+
+    @GetMapping("/{id}/views")
+    public PostViewsDTO getPostViews(@PathVariable Long id) {
+        log.info("Getting views of post with id {}", id);
+        return postViewCounter.getViews(id);
+    }
+
+    @GetMapping("/{id}/revisions")
+    public List<PostRevisionInfoDTO> getRevisions(@PathVariable Long id) {
+        log.info("Getting revisions of post with id {}", id);
+        return postService.getRevisions(id);
+    }
+
+    @GetMapping("/{id}/revisions/{revision}")
+    public ResponseEntity<PostRevisionDTO> getRevision(@PathVariable Long id, @PathVariable int revision) {
+        log.info("Getting revision {} of post with id {}", revision, id);
+        return postService.getRevision(id, revision)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    @GetMapping("/{id}/related")
+    public List<Post> getRelatedPosts(@PathVariable Long id, @RequestParam(defaultValue = "5") int limit) {
+        log.info("Getting posts related to post with id {}", id);
+        return postService.getRelatedPosts(id, limit);
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deletePost(@PathVariable Long id) {
         log.info("Deleting post with id {}", id);
@@ -85,4 +294,12 @@ public class PostController {
         }
         return new ResponseEntity<>(HttpStatus.NOT_FOUND);
     }
-}
\ No newline at end of file
+
+    private static String eTag(Long id, LocalDateTime updatedAt) {
+        return "\"" + id + "-" + toEpochMilli(updatedAt) + "\"";
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,66 @@
+package com.pxl.services.controller;
+
+import com.pxl.services.domain.ReviewStatus;
+import com.pxl.services.services.PostExportService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@RequestMapping("/api/posts")
+public class PostExportController {
+    private static final Logger log = LoggerFactory.getLogger(PostExportController.class);
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private final PostExportService postExportService;
+
+    @Autowired
+    public PostExportController(PostExportService postExportService) {
+        this.postExportService = postExportService;
+    }
+
+    /**
+     * Streams posts as newline-delimited JSON. Pass the {@code updatedAt} and {@code id} of the
+     * last exported line as {@code updatedAfter} and {@code afterId} to fetch only what changed
+     * since the previous export. Posts updated shortly before that line are sent again, so
+     * consumers should apply lines by id.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportPosts(
+            @RequestParam(required = false) ReviewStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedAfter,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        log.info("Exporting posts");
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream compressed = new GZIPOutputStream(out, BUFFER_SIZE);
+                postExportService.exportPosts(status, updatedAfter, afterId, compressed);
+                compressed.finish();
+            } else {
+                BufferedOutputStream buffered = new BufferedOutputStream(out, BUFFER_SIZE);
+                postExportService.exportPosts(status, updatedAfter, afterId, buffered);
+                buffered.flush();
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().contentType(NDJSON);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+}
@@ -0,0 +1,63 @@
+package com.pxl.services.controller;
+
+import com.pxl.services.services.feed.FeedFormat;
+import com.pxl.services.services.feed.PostFeeds;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api/posts")
+public class PostFeedController {
+    private static final Logger log = LoggerFactory.getLogger(PostFeedController.class);
+    private static final Duration MAX_AGE = Duration.ofSeconds(60);
+
+    private final PostFeeds postFeeds;
+
+    @Autowired
+    public PostFeedController(PostFeeds postFeeds) {
+        this.postFeeds = postFeeds;
+    }
+
+    /**
+     * Serves the latest published posts as an RSS, Atom or JSON feed, optionally limited to one
+     * category. The body is sent as prepared by {@link PostFeeds}; readers polling with
+     * If-None-Match get a 304 until a post is published or withdrawn.
+     */
+    @GetMapping("/feed/{format}")
+    public ResponseEntity<byte[]> getFeed(@PathVariable String format,
+                                          @RequestParam(required = false) String category,
+                                          WebRequest request) {
+        log.info("Getting {} feed for category {}", format, category);
+        Optional<FeedFormat> feedFormat = Arrays.stream(FeedFormat.values())
+                .filter(candidate -> candidate.extension().equals(format))
+                .findFirst();
+        if (feedFormat.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        PostFeeds.FeedBody feed = postFeeds.getFeed(feedFormat.get(), category);
+        CacheControl cacheControl = CacheControl.maxAge(MAX_AGE).cachePublic();
+        if (request.checkNotModified(feed.eTag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(feed.eTag()).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok()
+                .contentType(feed.mediaType())
+                .contentLength(feed.body().length)
+                .eTag(feed.eTag())
+                .cacheControl(cacheControl)
+                .body(feed.body());
+    }
+}
@@ -0,0 +1,61 @@
+package com.pxl.services.controller;
+
+import com.pxl.services.domain.DTO.PostPageDTO;
+import com.pxl.services.domain.DTO.PostSummaryDTO;
+import com.pxl.services.services.PostService;
+import com.pxl.services.services.timeline.PostTimelines;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/posts")
+public class PostTimelineController {
+    private static final Logger log = LoggerFactory.getLogger(PostTimelineController.class);
+
+    private final PostTimelines postTimelines;
+
+    @Autowired
+    public PostTimelineController(PostTimelines postTimelines) {
+        this.postTimelines = postTimelines;
+    }
+
+    @GetMapping("/follows/{reader}")
+    public List<String> getFollowing(@PathVariable String reader) {
+        log.info("Getting authors followed by {}", reader);
+        return postTimelines.getFollowing(reader);
+    }
+
+    @PutMapping("/follows/{reader}/{author}")
+    public ResponseEntity<Void> follow(@PathVariable String reader, @PathVariable String author) {
+        log.info("Following {} for {}", author, reader);
+        postTimelines.follow(reader, author);
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+
+    @DeleteMapping("/follows/{reader}/{author}")
+    public ResponseEntity<Void> unfollow(@PathVariable String reader, @PathVariable String author) {
+        log.info("Unfollowing {} for {}", author, reader);
+        if (postTimelines.unfollow(reader, author)) {
+            return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+        }
+        return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+    }
+
+    /**
+     * Published posts of the authors {@code reader} follows, newest first, paged like
+     * {@code /summaries}.
+     */
+    @GetMapping("/timeline/{reader}")
+    public PostPageDTO<PostSummaryDTO> getTimeline(@PathVariable String reader,
+                                                   @RequestParam(required = false) String cursor,
+                                                   @RequestParam(defaultValue = "" + PostService.DEFAULT_PAGE_SIZE) int size) {
+        log.info("Getting timeline of {}", reader);
+        return postTimelines.getTimeline(reader, cursor, size);
+    }
+}
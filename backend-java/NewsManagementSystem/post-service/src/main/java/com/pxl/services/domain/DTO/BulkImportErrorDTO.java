@@ -0,0 +1,15 @@
+package com.pxl.services.domain.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkImportErrorDTO {
+    private long line;
+    private String message;
+}
@@ -0,0 +1,21 @@
+package com.pxl.services.domain.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkImportResultDTO {
+    private long received;
+    private long imported;
+    private long failed;
+    @Builder.Default
+    private List<BulkImportErrorDTO> errors = new ArrayList<>();
+}
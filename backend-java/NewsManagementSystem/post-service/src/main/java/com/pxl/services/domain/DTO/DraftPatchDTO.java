@@ -0,0 +1,19 @@
+package com.pxl.services.domain.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DraftPatchDTO {
+    private Long baseVersion;
+    private List<TextEditDTO> title;
+    private List<TextEditDTO> content;
+    private boolean save;
+}
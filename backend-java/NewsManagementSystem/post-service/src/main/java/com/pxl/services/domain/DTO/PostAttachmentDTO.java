@@ -0,0 +1,22 @@
+package com.pxl.services.domain.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostAttachmentDTO {
+    private Long id;
+    private Long postId;
+    private String fileName;
+    private String contentType;
+    private long size;
+    private String sha256;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,28 @@
+package com.pxl.services.domain.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * One node of a search filter. {@code op} is {@code and}, {@code or} or {@code not} over
+ * {@code criteria}; {@code in} over the {@code values} of {@code field} (status, category or
+ * author); {@code between} {@code from} (inclusive) and {@code to} (exclusive) on {@code field}
+ * (createdAt or updatedAt); or {@code text} for posts matching {@code values[0]}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostCriterionDTO {
+    private String op;
+    private String field;
+    private List<String> values;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private List<PostCriterionDTO> criteria;
+}
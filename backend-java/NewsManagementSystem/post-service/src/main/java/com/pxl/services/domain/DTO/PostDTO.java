@@ -19,4 +19,5 @@ public class PostDTO {
     private LocalDateTime updatedAt;
     private String status;
     private String category;
+    private LocalDateTime publishAt;
 }
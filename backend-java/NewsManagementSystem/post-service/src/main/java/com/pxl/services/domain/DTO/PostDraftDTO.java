@@ -0,0 +1,18 @@
+package com.pxl.services.domain.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostDraftDTO {
+    private Long postId;
+    private long version;
+    private String title;
+    private String content;
+    private boolean dirty;
+}
@@ -0,0 +1,19 @@
+package com.pxl.services.domain.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostFacetCountsDTO {
+    private long total;
+    private Map<String, Long> status;
+    private Map<String, Long> category;
+    private Map<String, Long> author;
+}
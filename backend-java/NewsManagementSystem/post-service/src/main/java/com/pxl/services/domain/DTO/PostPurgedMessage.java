@@ -0,0 +1,14 @@
+package com.pxl.services.domain.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostPurgedMessage {
+    private Long postId;
+    private String service;
+    private int purged;
+}
@@ -0,0 +1,22 @@
+package com.pxl.services.domain.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostRevisionDTO {
+    private Long postId;
+    private int revision;
+    private String title;
+    private String content;
+    private String author;
+    private String category;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,21 @@
+package com.pxl.services.domain.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostRevisionInfoDTO {
+    private int revision;
+    private LocalDateTime updatedAt;
+    private LocalDateTime replacedAt;
+    // Bytes stored for this revision; the current revision lives in the post row
+    private int storedBytes;
+    private boolean current;
+}
@@ -0,0 +1,24 @@
+package com.pxl.services.domain.DTO;
+
+import com.pxl.services.domain.ReviewStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostSummaryDTO {
+    private Long id;
+    private String title;
+    private String excerpt;
+    private String author;
+    private String category;
+    private ReviewStatus status;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,21 @@
+package com.pxl.services.domain.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Replaces {@code delete} characters at {@code position} with {@code insert}. Positions refer to
+ * the text as left by the previous edit of the same patch and count UTF-16 code units, the way
+ * JavaScript string indices do.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TextEditDTO {
+    private int position;
+    private int delete;
+    private String insert;
+}
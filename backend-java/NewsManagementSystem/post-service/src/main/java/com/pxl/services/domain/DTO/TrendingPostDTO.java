@@ -0,0 +1,16 @@
+package com.pxl.services.domain.DTO;
+
+import com.pxl.services.domain.Post;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrendingPostDTO {
+    private Post post;
+    private double score;
+}
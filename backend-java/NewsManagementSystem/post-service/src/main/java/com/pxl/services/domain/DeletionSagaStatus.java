@@ -0,0 +1,5 @@
+package com.pxl.services.domain;
+
+public enum DeletionSagaStatus {
+    PENDING, COMPLETED, FAILED
+}
@@ -1,5 +1,8 @@
 package com.pxl.services.domain;
 
+import com.pxl.services.services.dictionary.AuthorConverter;
+import com.pxl.services.services.dictionary.CategoryConverter;
+import com.pxl.services.services.dictionary.PostDictionaryListener;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -7,20 +10,27 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "post")
+@EntityListeners(PostDictionaryListener.class)
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 @RequiredArgsConstructor
 public class Post {
+    public static final int EXCERPT_LENGTH = 160;
+
+    // Pooled ids (one post_seq round trip per 50 inserts) let Hibernate batch inserts, which IDENTITY prevents
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_seq")
+    @SequenceGenerator(name = "post_seq", sequenceName = "post_seq", allocationSize = 50)
     private Long id;
     @NonNull
     private String title;
     @NonNull
     private String content;
     @NonNull
+    @Convert(converter = AuthorConverter.class)
+    @Column(name = "author_id")
     private String author;
     @NonNull
     private LocalDateTime createdAt;
@@ -30,5 +40,33 @@ public class Post {
     @Enumerated(EnumType.STRING)
     private ReviewStatus status;
     @NonNull
+    @Convert(converter = CategoryConverter.class)
+    @Column(name = "category_id")
     private String category;
+    // Set while an approved post waits for PublicationScheduler to publish it
+    private LocalDateTime publishAt;
+    // Derived from content on every write so list views never have to read the body
+    private String excerpt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onPersistOrUpdate() {
+        this.excerpt = excerptOf(content);
+    }
+
+    /**
+     * Plain-text start of the content: markup is stripped, whitespace collapsed and the text
+     * cut at the last word boundary before {@link #EXCERPT_LENGTH} characters.
+     */
+    public static String excerptOf(String content) {
+        if (content == null) {
+            return null;
+        }
+        String text = content.replaceAll("<[^>]*>", " ").replaceAll("\\s+", " ").trim();
+        if (text.length() <= EXCERPT_LENGTH) {
+            return text;
+        }
+        int cut = text.lastIndexOf(' ', EXCERPT_LENGTH);
+        return text.substring(0, cut > 0 ? cut : EXCERPT_LENGTH) + "…";
+    }
 }
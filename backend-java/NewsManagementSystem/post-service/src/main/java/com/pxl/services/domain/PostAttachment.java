@@ -0,0 +1,43 @@
+package com.pxl.services.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A file attached to a post. The bytes are not in the database but in the attachment store,
+ * under their SHA-256, so posts that attach the same file share one copy.
+ */
+@Entity
+@Table(name = "post_attachment")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostAttachment {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(nullable = false, length = 64)
+    private String sha256;
+
+    @Column(nullable = false)
+    private String fileName;
+
+    @Column(nullable = false, length = 127)
+    private String contentType;
+
+    @Column(nullable = false)
+    private long size;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,23 @@
+package com.pxl.services.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Dictionary row for {@link Post#getAuthor()}. Rows are only ever added, through
+ * {@link com.pxl.services.services.dictionary.PostDictionaries}.
+ */
+@Entity
+@Table(name = "post_author")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostAuthor {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+    @Column(nullable = false, unique = true)
+    private String name;
+}
@@ -0,0 +1,41 @@
+package com.pxl.services.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Tracks which services still have to purge the data of a deleted post. The row is written in
+ * the same transaction as the delete, so a post can never disappear without one.
+ */
+@Entity
+@Table(name = "post_deletion_saga")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostDeletionSaga {
+    @Id
+    private Long postId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private DeletionSagaStatus status;
+
+    private boolean reviewsPurged;
+
+    private boolean commentsPurged;
+
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime startedAt;
+
+    private LocalDateTime lastAttemptAt;
+
+    private LocalDateTime completedAt;
+}
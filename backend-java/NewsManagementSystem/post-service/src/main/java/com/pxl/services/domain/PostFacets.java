@@ -0,0 +1,11 @@
+package com.pxl.services.domain;
+
+/**
+ * The filterable attributes of a post, loaded without its text.
+ */
+public record PostFacets(Long id, ReviewStatus status, String category, String author) {
+
+    public static PostFacets of(Post post) {
+        return new PostFacets(post.getId(), post.getStatus(), post.getCategory(), post.getAuthor());
+    }
+}
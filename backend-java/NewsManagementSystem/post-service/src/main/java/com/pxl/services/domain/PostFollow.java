@@ -0,0 +1,34 @@
+package com.pxl.services.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A reader following an author, whose published posts then appear in the reader's timeline.
+ */
+@Entity
+@Table(name = "post_follow",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"reader", "author"}))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostFollow {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String reader;
+
+    @Column(nullable = false)
+    private String author;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
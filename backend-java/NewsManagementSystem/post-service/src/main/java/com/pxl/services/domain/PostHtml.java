@@ -0,0 +1,39 @@
+package com.pxl.services.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * The rendered, sanitized HTML of a post's content. {@code contentHash} is the SHA-256 of the
+ * content it was rendered from, so an edit that leaves the content alone is not rendered again.
+ */
+@Entity
+@Table(name = "post_html")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostHtml {
+    @Id
+    private Long postId;
+
+    @Column(nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(nullable = false)
+    private int rendererVersion;
+
+    @Column(nullable = false, columnDefinition = "mediumtext")
+    private String html;
+
+    @Column(nullable = false)
+    private LocalDateTime renderedAt;
+}
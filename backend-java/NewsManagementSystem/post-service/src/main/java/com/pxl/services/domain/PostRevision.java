@@ -0,0 +1,44 @@
+package com.pxl.services.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * An earlier version of a post. Only the current version is stored in full, in the post row;
+ * {@code delta} turns version {@code revision + 1} back into this one, see
+ * {@link com.pxl.services.services.revision.BinaryDelta}.
+ */
+@Entity
+@Table(name = "post_revision",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"post_id", "revision"}))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostRevision {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(nullable = false)
+    private int revision;
+
+    @Column(nullable = false, columnDefinition = "mediumblob")
+    private byte[] delta;
+
+    @Column(nullable = false)
+    private int deltaSize;
+
+    private LocalDateTime updatedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime replacedAt;
+}
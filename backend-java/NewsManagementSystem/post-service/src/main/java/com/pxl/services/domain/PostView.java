@@ -0,0 +1,21 @@
+package com.pxl.services.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "post_view")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostView {
+    @Id
+    private Long postId;
+    @Column(nullable = false)
+    private long viewCount;
+}
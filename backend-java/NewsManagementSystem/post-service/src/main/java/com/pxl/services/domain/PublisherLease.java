@@ -0,0 +1,28 @@
+package com.pxl.services.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A named lease that at most one replica holds at a time, see
+ * {@link com.pxl.services.repository.PublisherLeaseRepository#acquire}.
+ */
+@Entity
+@Table(name = "publisher_lease")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PublisherLease {
+    @Id
+    private String name;
+    private String owner;
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+}
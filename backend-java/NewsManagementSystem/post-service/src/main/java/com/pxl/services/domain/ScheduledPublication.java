@@ -0,0 +1,6 @@
+package com.pxl.services.domain;
+
+import java.time.LocalDateTime;
+
+public record ScheduledPublication(Long postId, LocalDateTime publishAt) {
+}
@@ -0,0 +1,42 @@
+package com.pxl.services.domain.event;
+
+import com.pxl.services.domain.DTO.PostSummaryDTO;
+import com.pxl.services.domain.Post;
+import com.pxl.services.domain.ReviewStatus;
+
+/**
+ * Published by {@link com.pxl.services.services.PostService} after every successful write so that
+ * in-memory structures (indexes, caches) can follow the database without polling it.
+ * {@code post} is only present for CREATED and UPDATED changes. {@code summary} is only present
+ * for STATUS_CHANGED changes to PUBLISHED whose publisher already loaded it for the whole batch,
+ * so listeners do not each read the post back one by one.
+ */
+public record PostChangedEvent(ChangeType type, Long postId, Post post, ReviewStatus status, PostSummaryDTO summary) {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        STATUS_CHANGED,
+        DELETED
+    }
+
+    public static PostChangedEvent created(Post post) {
+        return new PostChangedEvent(ChangeType.CREATED, post.getId(), post, post.getStatus(), null);
+    }
+
+    public static PostChangedEvent updated(Post post) {
+        return new PostChangedEvent(ChangeType.UPDATED, post.getId(), post, post.getStatus(), null);
+    }
+
+    public static PostChangedEvent statusChanged(Long postId, ReviewStatus status) {
+        return new PostChangedEvent(ChangeType.STATUS_CHANGED, postId, null, status, null);
+    }
+
+    public static PostChangedEvent published(PostSummaryDTO summary) {
+        return new PostChangedEvent(ChangeType.STATUS_CHANGED, summary.getId(), null, ReviewStatus.PUBLISHED, summary);
+    }
+
+    public static PostChangedEvent deleted(Long postId) {
+        return new PostChangedEvent(ChangeType.DELETED, postId, null, null, null);
+    }
+}
@@ -0,0 +1,7 @@
+package com.pxl.services.exceptions;
+
+public class AttachmentTooLargeException extends RuntimeException {
+    public AttachmentTooLargeException(String message) {
+        super(message);
+    }
+}
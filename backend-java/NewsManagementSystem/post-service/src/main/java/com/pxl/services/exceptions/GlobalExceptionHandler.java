@@ -14,12 +14,18 @@ public class GlobalExceptionHandler {
 
     private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
-    private static final Map<Class<? extends RuntimeException>, HttpStatus> exceptionStatusMap = Map.of(
-            PostCreationException.class, HttpStatus.UNPROCESSABLE_ENTITY,
-            PostDeletionException.class, HttpStatus.FORBIDDEN,
-            PostNotFoundException.class, HttpStatus.NOT_FOUND,
-            PostPublishException.class, HttpStatus.FORBIDDEN,
-            PostUpdateException.class, HttpStatus.CONFLICT
+    private static final Map<Class<? extends RuntimeException>, HttpStatus> exceptionStatusMap = Map.ofEntries(
+            Map.entry(AttachmentTooLargeException.class, HttpStatus.PAYLOAD_TOO_LARGE),
+            Map.entry(InvalidAttachmentException.class, HttpStatus.BAD_REQUEST),
+            Map.entry(InvalidCriteriaException.class, HttpStatus.BAD_REQUEST),
+            Map.entry(InvalidCursorException.class, HttpStatus.BAD_REQUEST),
+            Map.entry(InvalidDraftPatchException.class, HttpStatus.BAD_REQUEST),
+            Map.entry(InvalidScheduleException.class, HttpStatus.BAD_REQUEST),
+            Map.entry(PostCreationException.class, HttpStatus.UNPROCESSABLE_ENTITY),
+            Map.entry(PostDeletionException.class, HttpStatus.FORBIDDEN),
+            Map.entry(PostNotFoundException.class, HttpStatus.NOT_FOUND),
+            Map.entry(PostPublishException.class, HttpStatus.FORBIDDEN),
+            Map.entry(PostUpdateException.class, HttpStatus.CONFLICT)
     );
 
     @ExceptionHandler(RuntimeException.class)
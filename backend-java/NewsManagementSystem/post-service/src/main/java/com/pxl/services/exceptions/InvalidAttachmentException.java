@@ -0,0 +1,7 @@
+package com.pxl.services.exceptions;
+
+public class InvalidAttachmentException extends RuntimeException {
+    public InvalidAttachmentException(String message) {
+        super(message);
+    }
+}
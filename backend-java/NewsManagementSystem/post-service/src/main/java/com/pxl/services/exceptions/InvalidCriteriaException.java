@@ -0,0 +1,7 @@
+package com.pxl.services.exceptions;
+
+public class InvalidCriteriaException extends RuntimeException {
+    public InvalidCriteriaException(String message) {
+        super(message);
+    }
+}
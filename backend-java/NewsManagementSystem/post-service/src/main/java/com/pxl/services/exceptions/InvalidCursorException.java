@@ -0,0 +1,7 @@
+package com.pxl.services.exceptions;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.pxl.services.exceptions;
+
+public class InvalidDraftPatchException extends RuntimeException {
+    public InvalidDraftPatchException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.pxl.services.exceptions;
+
+public class InvalidScheduleException extends RuntimeException {
+    public InvalidScheduleException(String message) {
+        super(message);
+    }
+}
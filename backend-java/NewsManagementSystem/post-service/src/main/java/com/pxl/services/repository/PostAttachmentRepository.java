@@ -0,0 +1,22 @@
+package com.pxl.services.repository;
+
+import com.pxl.services.domain.PostAttachment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PostAttachmentRepository extends JpaRepository<PostAttachment, Long> {
+
+    List<PostAttachment> findByPostIdOrderByIdAsc(Long postId);
+
+    Optional<PostAttachment> findByIdAndPostId(Long id, Long postId);
+
+    @Query("select distinct a.sha256 from PostAttachment a where a.sha256 in :hashes")
+    List<String> findReferencedHashes(@Param("hashes") Collection<String> hashes);
+}
@@ -0,0 +1,14 @@
+package com.pxl.services.repository;
+
+import com.pxl.services.domain.DeletionSagaStatus;
+import com.pxl.services.domain.PostDeletionSaga;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface PostDeletionSagaRepository extends JpaRepository<PostDeletionSaga, Long> {
+    List<PostDeletionSaga> findByStatusAndLastAttemptAtBefore(DeletionSagaStatus status, LocalDateTime lastAttemptAt);
+}
@@ -0,0 +1,27 @@
+package com.pxl.services.repository;
+
+import com.pxl.services.domain.PostFollow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface PostFollowRepository extends JpaRepository<PostFollow, Long> {
+
+    boolean existsByReaderAndAuthor(String reader, String author);
+
+    @Transactional
+    long deleteByReaderAndAuthor(String reader, String author);
+
+    long countByAuthor(String author);
+
+    @Query("select f.author from PostFollow f where f.reader = :reader order by f.author")
+    List<String> findAuthorsByReader(@Param("reader") String reader);
+
+    @Query("select f.reader from PostFollow f where f.author = :author")
+    List<String> findReadersByAuthor(@Param("author") String author);
+}
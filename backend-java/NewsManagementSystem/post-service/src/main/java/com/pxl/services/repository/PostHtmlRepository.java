@@ -0,0 +1,9 @@
+package com.pxl.services.repository;
+
+import com.pxl.services.domain.PostHtml;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PostHtmlRepository extends JpaRepository<PostHtml, Long> {
+}
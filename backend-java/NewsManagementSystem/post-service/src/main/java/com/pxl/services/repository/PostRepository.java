@@ -1,19 +1,162 @@
 package com.pxl.services.repository;
 
+import com.pxl.services.domain.DTO.PostSummaryDTO;
 import com.pxl.services.domain.Post;
+import com.pxl.services.domain.PostCursor;
+import com.pxl.services.domain.PostFacets;
 import com.pxl.services.domain.ReviewStatus;
+import com.pxl.services.domain.ScheduledPublication;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
+    // Everything a list view shows; content is deliberately left out
+    String SUMMARY_COLUMNS = "p.id, p.title, p.excerpt, p.author, p.category, p.status, p.createdAt, p.updatedAt";
+
     List<Post> findByStatus(ReviewStatus status);
 
     List<Post> findByCategory(String category);
 
     List<Post> findByAuthor(String author);
 
-    List<Post> findByContentContainingOrCategoryOrAuthor(String content, String category, String author);
+    List<Post> findByCategoryOrAuthor(String category, String author);
+
+    // Keyset pages in id order, for rebuilding the in-memory indexes without loading every post at once
+    @Query("select p from Post p where p.id > :id order by p.id")
+    List<Post> findPageAfterId(@Param("id") Long id, Pageable pageable);
+
+    @Query("select new com.pxl.services.domain.PostFacets(p.id, p.status, p.category, p.author) from Post p " +
+            "where p.id > :id order by p.id")
+    List<PostFacets> findFacetsPageAfterId(@Param("id") Long id, Pageable pageable);
+
+    @Query("select new com.pxl.services.domain.DTO.PostSummaryDTO(" + SUMMARY_COLUMNS + ") from Post p " +
+            "where p.status = :status and p.id > :id order by p.id")
+    List<PostSummaryDTO> findSummaryPageAfterId(@Param("status") ReviewStatus status,
+                                                @Param("id") Long id,
+                                                Pageable pageable);
+
+    @Query("select p.updatedAt from Post p where p.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") Long id);
+
+    @Query("select p from Post p " +
+            "where (:status is null or p.status = :status) " +
+            "and (:category is null or p.category = :category) " +
+            "order by p.createdAt desc, p.id desc")
+    List<Post> findFirstPage(@Param("status") ReviewStatus status,
+                             @Param("category") String category,
+                             Pageable pageable);
+
+    @Query("select p from Post p " +
+            "where (:status is null or p.status = :status) " +
+            "and (:category is null or p.category = :category) " +
+            "and (p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id)) " +
+            "order by p.createdAt desc, p.id desc")
+    List<Post> findPageAfter(@Param("status") ReviewStatus status,
+                             @Param("category") String category,
+                             @Param("createdAt") LocalDateTime createdAt,
+                             @Param("id") Long id,
+                             Pageable pageable);
+
+    @Query("select new com.pxl.services.domain.DTO.PostSummaryDTO(" + SUMMARY_COLUMNS + ") from Post p where p.id = :id")
+    Optional<PostSummaryDTO> findSummaryById(@Param("id") Long id);
+
+    @Query("select new com.pxl.services.domain.DTO.PostSummaryDTO(" + SUMMARY_COLUMNS + ") from Post p " +
+            "where (:status is null or p.status = :status) " +
+            "and (:category is null or p.category = :category) " +
+            "order by p.createdAt desc, p.id desc")
+    List<PostSummaryDTO> findFirstSummaryPage(@Param("status") ReviewStatus status,
+                                              @Param("category") String category,
+                                              Pageable pageable);
+
+    @Query("select new com.pxl.services.domain.DTO.PostSummaryDTO(" + SUMMARY_COLUMNS + ") from Post p " +
+            "where (:status is null or p.status = :status) " +
+            "and (:category is null or p.category = :category) " +
+            "and (p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id)) " +
+            "order by p.createdAt desc, p.id desc")
+    List<PostSummaryDTO> findSummaryPageAfter(@Param("status") ReviewStatus status,
+                                              @Param("category") String category,
+                                              @Param("createdAt") LocalDateTime createdAt,
+                                              @Param("id") Long id,
+                                              Pageable pageable);
+
+    @Query("select new com.pxl.services.domain.DTO.PostSummaryDTO(" + SUMMARY_COLUMNS + ") from Post p " +
+            "where p.id in :ids and p.status = :status")
+    List<PostSummaryDTO> findSummariesByIdIn(@Param("ids") Collection<Long> ids,
+                                             @Param("status") ReviewStatus status);
+
+    @Query("select new com.pxl.services.domain.PostCursor(p.createdAt, p.id) from Post p " +
+            "where p.status = :status and p.author in :authors " +
+            "and (:createdAt is null or p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id)) " +
+            "order by p.createdAt desc, p.id desc")
+    List<PostCursor> findPositionsByAuthorIn(@Param("status") ReviewStatus status,
+                                             @Param("authors") Collection<String> authors,
+                                             @Param("createdAt") LocalDateTime createdAt,
+                                             @Param("id") Long id,
+                                             Pageable pageable);
+
+    @Query("select p.id from Post p where p.id in :ids")
+    List<Long> findIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Post p set p.status = :status, p.updatedAt = :updatedAt where p.id in :ids")
+    int updateStatusByIdIn(@Param("status") ReviewStatus status,
+                           @Param("updatedAt") LocalDateTime updatedAt,
+                           @Param("ids") Collection<Long> ids);
+
+    @Query("select new com.pxl.services.domain.ScheduledPublication(p.id, p.publishAt) from Post p " +
+            "where p.publishAt is not null and p.status = com.pxl.services.domain.ReviewStatus.APPROVED")
+    List<ScheduledPublication> findScheduledPublications();
+
+    /**
+     * Locks the due posts until the caller's transaction ends, so an edit or withdrawal cannot
+     * slip in between this read and {@link #publishDue} and every returned id is really published.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p.id from Post p where p.id in :ids and p.publishAt <= :now " +
+            "and p.status = com.pxl.services.domain.ReviewStatus.APPROVED")
+    List<Long> findDuePublications(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update Post p set p.status = com.pxl.services.domain.ReviewStatus.PUBLISHED, p.publishAt = null, " +
+            "p.updatedAt = :now where p.id in :ids and p.publishAt <= :now " +
+            "and p.status = com.pxl.services.domain.ReviewStatus.APPROVED")
+    int publishDue(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * Streams posts in watermark order, starting after the {@code (updatedAt, id)} cursor so that
+     * posts sharing the cursor's timestamp are neither skipped nor repeated. A fetch size of Integer.MIN_VALUE makes MySQL Connector/J
+     * stream rows one by one instead of buffering the full result; callers must hold a transaction.
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("select p from Post p " +
+            "where (:status is null or p.status = :status) " +
+            "and (:updatedAfter is null or p.updatedAt > :updatedAfter " +
+            "or (p.updatedAt = :updatedAfter and p.id > :afterId)) " +
+            "order by p.updatedAt, p.id")
+    Stream<Post> streamForExport(@Param("status") ReviewStatus status,
+                                 @Param("updatedAfter") LocalDateTime updatedAfter,
+                                 @Param("afterId") long afterId);
 }
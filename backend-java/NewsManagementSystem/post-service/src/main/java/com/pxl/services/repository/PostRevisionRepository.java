@@ -0,0 +1,20 @@
+package com.pxl.services.repository;
+
+import com.pxl.services.domain.PostRevision;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface PostRevisionRepository extends JpaRepository<PostRevision, Long> {
+
+    List<PostRevision> findByPostIdOrderByRevisionDesc(Long postId);
+
+    List<PostRevision> findByPostIdAndRevisionGreaterThanEqualOrderByRevisionDesc(Long postId, int revision);
+
+    @Query("select max(r.revision) from PostRevision r where r.postId = :postId")
+    Integer findLatestRevision(@Param("postId") Long postId);
+}
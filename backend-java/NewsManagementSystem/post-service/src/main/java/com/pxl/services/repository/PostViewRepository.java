@@ -0,0 +1,9 @@
+package com.pxl.services.repository;
+
+import com.pxl.services.domain.PostView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PostViewRepository extends JpaRepository<PostView, Long> {
+}
@@ -0,0 +1,33 @@
+package com.pxl.services.repository;
+
+import com.pxl.services.domain.PublisherLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface PublisherLeaseRepository extends JpaRepository<PublisherLease, String> {
+
+    /**
+     * Takes or renews the lease in one conditional update and returns 1 if {@code owner} holds it
+     * afterwards. Taking it over only succeeds once the previous holder let it expire.
+     */
+    @Transactional
+    @Modifying
+    @Query("update PublisherLease l set l.owner = :owner, l.expiresAt = :expiresAt " +
+            "where l.name = :name and (l.owner = :owner or l.expiresAt < :now)")
+    int acquire(@Param("name") String name,
+                @Param("owner") String owner,
+                @Param("now") LocalDateTime now,
+                @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Transactional
+    @Modifying
+    @Query("update PublisherLease l set l.expiresAt = :now where l.name = :name and l.owner = :owner")
+    int release(@Param("name") String name, @Param("owner") String owner, @Param("now") LocalDateTime now);
+}
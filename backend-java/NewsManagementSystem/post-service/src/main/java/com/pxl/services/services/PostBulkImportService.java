@@ -0,0 +1,164 @@
+package com.pxl.services.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pxl.services.domain.DTO.BulkImportErrorDTO;
+import com.pxl.services.domain.DTO.BulkImportResultDTO;
+import com.pxl.services.domain.DTO.PostDTO;
+import com.pxl.services.domain.Post;
+import com.pxl.services.domain.ReviewStatus;
+import com.pxl.services.domain.event.PostChangedEvent;
+import com.pxl.services.domain.mapper.PostMapper;
+import com.pxl.services.services.dictionary.PostDictionaries;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Imports newline-delimited {@link PostDTO}s. Records are persisted in chunks, one transaction
+ * per chunk, and Hibernate sends each chunk as JDBC batches. A chunk that fails is retried record
+ * by record so one bad row only rejects itself.
+ */
+@Service
+public class PostBulkImportService {
+    private static final Logger log = LoggerFactory.getLogger(PostBulkImportService.class);
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final PostMapper postMapper;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PostDictionaries postDictionaries;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public PostBulkImportService(PostMapper postMapper, EntityManager entityManager, ObjectMapper objectMapper,
+                                 ApplicationEventPublisher eventPublisher, PostDictionaries postDictionaries,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${posts.bulk.chunk-size:1000}") int chunkSize) {
+        this.postMapper = postMapper;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.postDictionaries = postDictionaries;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    public BulkImportResultDTO importPosts(InputStream ndjson) throws IOException {
+        log.info("Importing posts in chunks of {}", chunkSize);
+        BulkImportResultDTO result = BulkImportResultDTO.builder().build();
+        List<PendingPost> chunk = new ArrayList<>(chunkSize);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(ndjson, StandardCharsets.UTF_8));
+
+        String line;
+        long lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            result.setReceived(result.getReceived() + 1);
+            try {
+                chunk.add(new PendingPost(lineNumber, toPost(objectMapper.readValue(line, PostDTO.class))));
+            } catch (Exception e) {
+                reportError(result, lineNumber, e);
+            }
+            if (chunk.size() >= chunkSize) {
+                persistChunk(chunk, result);
+                chunk.clear();
+            }
+        }
+        persistChunk(chunk, result);
+
+        log.info("Imported {} of {} posts, {} failed", result.getImported(), result.getReceived(), result.getFailed());
+        return result;
+    }
+
+    private Post toPost(PostDTO postDTO) {
+        LocalDateTime now = LocalDateTime.now();
+        if (postDTO.getCreatedAt() == null) {
+            postDTO.setCreatedAt(now);
+        }
+        if (postDTO.getUpdatedAt() == null) {
+            postDTO.setUpdatedAt(postDTO.getCreatedAt());
+        }
+        if (postDTO.getStatus() == null) {
+            postDTO.setStatus(ReviewStatus.DRAFT.name());
+        }
+        return postMapper.toPost(postDTO);
+    }
+
+    private void persistChunk(List<PendingPost> chunk, BulkImportResultDTO result) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            chunk.forEach(pending -> postDictionaries.register(pending.post()));
+            transactionTemplate.executeWithoutResult(tx -> {
+                chunk.forEach(pending -> entityManager.persist(pending.post()));
+                entityManager.flush();
+                entityManager.clear();
+            });
+        } catch (Exception e) {
+            log.warn("Chunk of {} posts failed, retrying one by one: {}", chunk.size(), e.getMessage());
+            chunk.forEach(pending -> persistSingle(pending, result));
+            return;
+        }
+        chunk.forEach(pending -> imported(pending.post(), result));
+    }
+
+    private void persistSingle(PendingPost pending, BulkImportResultDTO result) {
+        // The failed chunk already assigned an id, which would make persist treat the post as detached
+        pending.post().setId(null);
+        try {
+            postDictionaries.register(pending.post());
+            transactionTemplate.executeWithoutResult(tx -> {
+                entityManager.persist(pending.post());
+                entityManager.flush();
+                entityManager.clear();
+            });
+        } catch (Exception e) {
+            reportError(result, pending.line(), e);
+            return;
+        }
+        imported(pending.post(), result);
+    }
+
+    /**
+     * Counts a committed post and announces it. The post is in the database whatever a listener
+     * does, so a listener failure is only logged: letting it escape would make the chunk retry
+     * insert the post a second time.
+     */
+    private void imported(Post post, BulkImportResultDTO result) {
+        result.setImported(result.getImported() + 1);
+        try {
+            eventPublisher.publishEvent(PostChangedEvent.created(post));
+        } catch (Exception e) {
+            log.warn("Listener failed for imported post {}: {}", post.getId(), e.getMessage());
+        }
+    }
+
+    private static void reportError(BulkImportResultDTO result, long line, Exception e) {
+        result.setFailed(result.getFailed() + 1);
+        if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+            result.getErrors().add(new BulkImportErrorDTO(line, e.getMessage()));
+        }
+    }
+
+    private record PendingPost(long line, Post post) {
+    }
+}
@@ -0,0 +1,79 @@
+package com.pxl.services.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pxl.services.domain.Post;
+import com.pxl.services.domain.ReviewStatus;
+import com.pxl.services.repository.PostRepository;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+public class PostExportService {
+    private static final Logger log = LoggerFactory.getLogger(PostExportService.class);
+    private static final byte NEWLINE = '\n';
+
+    private final PostRepository postRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration overlap;
+
+    public PostExportService(PostRepository postRepository, EntityManager entityManager,
+                             ObjectMapper objectMapper, PlatformTransactionManager transactionManager,
+                             @Value("${posts.export.overlap:PT5S}") Duration overlap) {
+        this.postRepository = postRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.overlap = overlap;
+    }
+
+    /**
+     * Writes every matching post as one JSON document per line, ordered by {@code updatedAt} and id.
+     * Rows are streamed from the database and detached once written, so memory use does not
+     * grow with the number of posts. Returns the number of posts written.
+     * <p>
+     * {@code updatedAt} is set before a transaction commits, so a post can become visible with a
+     * timestamp older than a cursor that was already handed out. The export therefore starts
+     * {@code overlap} before the cursor and sends the posts in that window again; only a zero
+     * overlap resumes exactly after the {@code (updatedAfter, afterId)} cursor.
+     */
+    public long exportPosts(ReviewStatus status, LocalDateTime updatedAfter, Long afterId, OutputStream out) {
+        LocalDateTime from = updatedAfter == null ? null : updatedAfter.minus(overlap);
+        long fromId = afterId == null || !overlap.isZero() ? 0 : afterId;
+        log.info("Exporting posts with status {} after ({}, {})", status, from, fromId);
+        Long exported = transactionTemplate.execute(tx -> {
+            long count = 0;
+            try (Stream<Post> posts = postRepository.streamForExport(status, from, fromId)) {
+                Iterator<Post> iterator = posts.iterator();
+                while (iterator.hasNext()) {
+                    Post post = iterator.next();
+                    out.write(objectMapper.writeValueAsBytes(post));
+                    out.write(NEWLINE);
+                    entityManager.detach(post);
+                    count++;
+                }
+                out.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to export posts", e);
+            }
+            return count;
+        });
+        log.info("Exported {} posts", exported);
+        return exported == null ? 0 : exported;
+    }
+}
@@ -1,66 +1,170 @@
 package com.pxl.services.services;
 
-import com.pxl.services.clients.ReviewClient;
+import com.pxl.services.config.QueueConfiguration;
+import com.pxl.services.domain.DTO.CacheStatsDTO;
 import com.pxl.services.domain.DTO.PostDTO;
+import com.pxl.services.domain.DTO.PostFacetCountsDTO;
+import com.pxl.services.domain.DTO.PostPageDTO;
+import com.pxl.services.domain.DTO.PostSummaryDTO;
+import com.pxl.services.domain.DTO.PostRevisionDTO;
+import com.pxl.services.domain.DTO.PostRevisionInfoDTO;
 import com.pxl.services.domain.DTO.ReviewDTO;
+import com.pxl.services.domain.DTO.SuggestionDTO;
+import com.pxl.services.domain.DTO.TrendingPostDTO;
 import com.pxl.services.domain.Post;
+import com.pxl.services.domain.PostCursor;
 import com.pxl.services.domain.ReviewStatus;
+import com.pxl.services.domain.event.PostChangedEvent;
 import com.pxl.services.domain.mapper.PostMapper;
 import com.pxl.services.exceptions.*;
 import com.pxl.services.repository.PostRepository;
-import feign.FeignException;
+import com.pxl.services.services.cache.PostCache;
+import com.pxl.services.services.deletion.PostDeletionSagaService;
+import com.pxl.services.services.dictionary.PostDictionaries;
+import com.pxl.services.services.draft.DraftText;
+import com.pxl.services.services.facet.FacetFilter;
+import com.pxl.services.services.facet.PostFacetIndex;
+import com.pxl.services.services.related.RelatedPostIndex;
+import com.pxl.services.services.revision.PostRevisionService;
+import com.pxl.services.services.search.PostSearchIndex;
+import com.pxl.services.services.suggest.PostSuggestionIndex;
+import com.pxl.services.services.trending.TrendingPosts;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @RabbitListener
 @Service
 public class PostService {
     private static final Logger log = LoggerFactory.getLogger(PostService.class);
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int SEARCH_RESULT_LIMIT = 50;
+    private static final String ALL_POSTS_KEY = "all";
     private final PostRepository postRepository;
     private final PostMapper postMapper;
-    private final ReviewClient reviewClient;
+    private final PostSearchIndex postSearchIndex;
+    private final PostFacetIndex postFacetIndex;
+    private final PostCache postCache;
+    private final PostDeletionSagaService postDeletionSagaService;
+    private final TrendingPosts trendingPosts;
+    private final RelatedPostIndex relatedPostIndex;
+    private final PostSuggestionIndex postSuggestionIndex;
+    private final PostRevisionService postRevisionService;
+    private final PostDictionaries postDictionaries;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
-    public PostService(PostRepository postRepository, PostMapper postMapper, ReviewClient reviewClient) {
+    public PostService(PostRepository postRepository, PostMapper postMapper,
+                       PostSearchIndex postSearchIndex, PostFacetIndex postFacetIndex, PostCache postCache,
+                       PostDeletionSagaService postDeletionSagaService, TrendingPosts trendingPosts,
+                       RelatedPostIndex relatedPostIndex, PostSuggestionIndex postSuggestionIndex,
+                       PostRevisionService postRevisionService, PostDictionaries postDictionaries,
+                       ApplicationEventPublisher eventPublisher, PlatformTransactionManager transactionManager) {
         this.postRepository = postRepository;
         this.postMapper = postMapper;
-        this.reviewClient = reviewClient;
+        this.postSearchIndex = postSearchIndex;
+        this.postFacetIndex = postFacetIndex;
+        this.postCache = postCache;
+        this.postDeletionSagaService = postDeletionSagaService;
+        this.trendingPosts = trendingPosts;
+        this.relatedPostIndex = relatedPostIndex;
+        this.postSuggestionIndex = postSuggestionIndex;
+        this.postRevisionService = postRevisionService;
+        this.postDictionaries = postDictionaries;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     public Post createPost(PostDTO postDTO) {
         log.info("Creating new post");
         try {
             Post post = postMapper.toPost(postDTO);
-            return postRepository.save(post);
+            postDictionaries.register(post);
+            Post savedPost = postRepository.save(post);
+            eventPublisher.publishEvent(PostChangedEvent.created(savedPost));
+            return savedPost;
         } catch (Exception e) {
             log.error("Failed to create posts: {}", e.getMessage());
             throw new PostCreationException("Failed to create posts: " + e.getMessage());
         }
     }
 
+    /**
+     * New author and category values are registered before the transaction opens, so the
+     * dictionary converters never need a second connection while it holds one.
+     */
     public Optional<Post> updatePost(Long id, Post updatedPost) {
         log.info("Updating post");
         try {
-            return postRepository.findById(id)
-                    .map(post -> {
-                        post.setTitle(updatedPost.getTitle());
-                        post.setContent(updatedPost.getContent());
-                        post.setAuthor(updatedPost.getAuthor());
-                        post.setCategory(updatedPost.getCategory());
-                        post.setUpdatedAt(LocalDateTime.now());
-                        return postRepository.save(post);
-                    });
+            postDictionaries.register(updatedPost);
+            return transactionTemplate.execute(tx -> postRepository.findById(id)
+                    .map(post -> applyEdit(post, edited -> {
+                        edited.setTitle(updatedPost.getTitle());
+                        edited.setContent(updatedPost.getContent());
+                        edited.setAuthor(updatedPost.getAuthor());
+                        edited.setCategory(updatedPost.getCategory());
+                    })));
         } catch (Exception e) {
             log.error("Failed to update posts: {}", e.getMessage());
             throw new PostUpdateException("Failed to update posts: " + e.getMessage());
         }
     }
 
+    /**
+     * Writes the title and content of an autosaved draft, leaving author and category as they
+     * are. Goes through the same revision and change-event path as {@link #updatePost}. Returns
+     * empty when the post is gone or its stored text no longer equals {@code base}, the text the
+     * draft was started from, so a draft never overwrites an edit it has not seen.
+     */
+    @Transactional
+    public Optional<Post> saveDraft(Long id, DraftText base, DraftText draft) {
+        log.debug("Saving draft of post {}", id);
+        try {
+            return postRepository.findById(id)
+                    .filter(base::matches)
+                    .map(post -> applyEdit(post, edited -> {
+                        edited.setTitle(draft.title());
+                        edited.setContent(draft.content());
+                    }));
+        } catch (Exception e) {
+            log.error("Failed to save draft of post {}: {}", id, e.getMessage());
+            throw new PostUpdateException("Failed to save draft of post " + id + ": " + e.getMessage());
+        }
+    }
+
+    private Post applyEdit(Post post, Consumer<Post> edit) {
+        byte[] previous = PostRevisionService.snapshot(post);
+        LocalDateTime previousUpdatedAt = post.getUpdatedAt();
+        edit.accept(post);
+        post.setUpdatedAt(LocalDateTime.now());
+        Post savedPost = postRepository.save(post);
+        postRevisionService.recordEdit(savedPost, previous, previousUpdatedAt);
+        eventPublisher.publishEvent(PostChangedEvent.updated(savedPost));
+        return savedPost;
+    }
+
     public Optional<Post> updateStatus(Long id, String newStatus) {
         log.info("Updating status");
         try {
@@ -70,7 +174,9 @@ public class PostService {
                     .map(post -> {
                         post.setStatus(status);
                         post.setUpdatedAt(LocalDateTime.now());
-                        return postRepository.save(post);
+                        Post savedPost = postRepository.save(post);
+                        eventPublisher.publishEvent(PostChangedEvent.statusChanged(id, status));
+                        return savedPost;
                     });
         } catch (IllegalArgumentException e) {
             log.error("Invalid status: {}", newStatus);
@@ -81,45 +187,229 @@ public class PostService {
         }
     }
 
+    /**
+     * Sets the time at which an approved post goes live; the publication itself is done by
+     * {@link com.pxl.services.services.publishing.PublicationScheduler}.
+     */
+    @Transactional
+    public Optional<Post> schedulePublication(Long id, LocalDateTime publishAt) {
+        log.info("Scheduling post {} for publication at {}", id, publishAt);
+        if (publishAt == null || !publishAt.isAfter(LocalDateTime.now())) {
+            throw new InvalidScheduleException("Publication time must be in the future");
+        }
+        return postRepository.findById(id)
+                .map(post -> {
+                    if (post.getStatus() != ReviewStatus.APPROVED) {
+                        throw new PostPublishException("Only approved posts can be scheduled, post " + id + " is " + post.getStatus());
+                    }
+                    return savePublishAt(post, publishAt);
+                });
+    }
+
+    @Transactional
+    public Optional<Post> cancelPublication(Long id) {
+        log.info("Cancelling scheduled publication of post {}", id);
+        return postRepository.findById(id).map(post -> savePublishAt(post, null));
+    }
+
+    private Post savePublishAt(Post post, LocalDateTime publishAt) {
+        post.setPublishAt(publishAt);
+        post.setUpdatedAt(LocalDateTime.now());
+        Post savedPost = postRepository.save(post);
+        eventPublisher.publishEvent(PostChangedEvent.updated(savedPost));
+        return savedPost;
+    }
+
     public List<Post> getPosts() {
         log.info("Getting posts");
         try {
-            return postRepository.findAll();
+            return postCache.getPostList(ALL_POSTS_KEY, postRepository::findAll);
         } catch (Exception e) {
             log.error("Failed to retrieve posts: {}", e.getMessage());
             throw new PostPublishException("Failed to retrieve PUBLISHED posts: " + e.getMessage());
         }
     }
 
+    public PostPageDTO<Post> getPostPage(String cursor, int size, ReviewStatus status, String category) {
+        log.info("Getting page of posts");
+        return page(cursor, size, PostCursor::of,
+                limit -> postRepository.findFirstPage(status, category, limit),
+                (position, limit) -> postRepository.findPageAfter(status, category, position.createdAt(), position.id(), limit));
+    }
+
+    public PostPageDTO<PostSummaryDTO> getPostSummaries(String cursor, int size, ReviewStatus status, String category) {
+        log.info("Getting page of post summaries");
+        return page(cursor, size, summary -> new PostCursor(summary.getCreatedAt(), summary.getId()),
+                limit -> postRepository.findFirstSummaryPage(status, category, limit),
+                (position, limit) -> postRepository.findSummaryPageAfter(status, category, position.createdAt(), position.id(), limit));
+    }
+
+    private static <T> PostPageDTO<T> page(String cursor, int size, Function<T, PostCursor> cursorOf,
+                                           Function<PageRequest, List<T>> firstPage,
+                                           BiFunction<PostCursor, PageRequest, List<T>> pageAfter) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        // Fetch one extra row to learn whether another page exists without a count query
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<T> rows = cursor == null || cursor.isBlank()
+                ? firstPage.apply(limit)
+                : pageAfter.apply(PostCursor.decode(cursor), limit);
+
+        boolean hasMore = rows.size() > pageSize;
+        List<T> items = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasMore ? cursorOf.apply(items.get(items.size() - 1)).encode() : null;
+        return PostPageDTO.<T>builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .build();
+    }
+
     public List<Post> searchPosts(String content, String category, String author) {
         log.info("Searching posts");
         try {
-            return postRepository.findByContentContainingOrCategoryOrAuthor(content, category, author);
+            String key = searchKey(content, category, author);
+            List<Post> loaded = new ArrayList<>();
+            List<Long> ids = postCache.getSearchResult(key, () -> {
+                loaded.addAll(findPosts(content, category, author));
+                return loaded.stream().map(Post::getId).toList();
+            });
+            if (!loaded.isEmpty()) {
+                return loaded;
+            }
+            List<Post> results = new ArrayList<>(ids.size());
+            ids.forEach(id -> postCache.getPost(id, postRepository::findById).ifPresent(results::add));
+            return results;
         } catch (Exception e) {
             log.error("Failed to search posts: {}", e.getMessage());
             throw new RuntimeException("Failed to search posts: " + e.getMessage());
         }
     }
 
+    private List<Post> findPosts(String content, String category, String author) {
+        if (content == null || content.isBlank()) {
+            return postRepository.findByCategoryOrAuthor(category, author);
+        }
+
+        List<Post> results = findAllInOrder(postSearchIndex.search(content, SEARCH_RESULT_LIMIT));
+
+        if (category != null || author != null) {
+            // Exact category/author matches are not ranked and follow the text matches
+            Map<Long, Post> merged = new LinkedHashMap<>();
+            results.forEach(post -> merged.put(post.getId(), post));
+            postRepository.findByCategoryOrAuthor(category, author)
+                    .forEach(post -> merged.putIfAbsent(post.getId(), post));
+            return new ArrayList<>(merged.values());
+        }
+        return results;
+    }
+
+    public List<SuggestionDTO> suggest(String prefix, int limit) {
+        return postSuggestionIndex.suggest(prefix, Math.min(Math.max(limit, 1), MAX_PAGE_SIZE));
+    }
+
+    public List<Post> filterPosts(FacetFilter filter, int limit) {
+        log.info("Filtering posts by {}", filter);
+        int maxResults = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        return findAllInOrder(postFacetIndex.filter(filter, maxResults));
+    }
+
+    public PostFacetCountsDTO getFacetCounts(FacetFilter filter) {
+        log.info("Counting post facets for {}", filter);
+        return postFacetIndex.counts(filter);
+    }
+
+    /**
+     * Ranks from the in-memory trending scores; posts come from the post cache, so a warm
+     * request does not touch the database. Only published posts are scored, and any post that
+     * is no longer published by the time it is read is left out.
+     */
+    public List<TrendingPostDTO> getTrendingPosts(int limit) {
+        log.info("Getting {} trending posts", limit);
+        List<TrendingPostDTO> trending = new ArrayList<>();
+        trendingPosts.top(Math.min(Math.max(limit, 1), MAX_PAGE_SIZE)).forEach((id, score) ->
+                postCache.getPost(id, postRepository::findById)
+                        .filter(post -> post.getStatus() == ReviewStatus.PUBLISHED)
+                        .ifPresent(post -> trending.add(new TrendingPostDTO(post, score))));
+        return trending;
+    }
+
+    public List<Post> getRelatedPosts(Long id, int limit) {
+        log.info("Getting posts related to {}", id);
+        if (!relatedPostIndex.contains(id) && getPostVersion(id).isEmpty()) {
+            throw new PostNotFoundException("Post with ID " + id + " not found.");
+        }
+        List<Post> related = new ArrayList<>();
+        relatedPostIndex.related(id, Math.min(Math.max(limit, 1), MAX_PAGE_SIZE)).forEach(relatedId ->
+                postCache.getPost(relatedId, postRepository::findById).ifPresent(related::add));
+        return related;
+    }
+
+    // Loads the posts with one query and returns them in the order of the given ids
+    private List<Post> findAllInOrder(List<Long> ids) {
+        Map<Long, Post> postsById = postRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+        return ids.stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    /**
+     * Returns the last modification time of a post without loading it, preferring the cached
+     * copy and otherwise reading the single column. Used to answer conditional requests.
+     */
+    public Optional<LocalDateTime> getPostVersion(Long id) {
+        return postCache.peekPost(id)
+                .map(Post::getUpdatedAt)
+                .or(() -> postRepository.findUpdatedAtById(id));
+    }
+
     public Optional<Post> getPostById(Long id) {
         log.info("Getting post by id");
         try {
-            return postRepository.findById(id);
+            return postCache.getPost(id, postRepository::findById);
         } catch (Exception e) {
             log.error("Post with ID {} not found", id);
             throw new PostNotFoundException("Post with ID " + id + " not found.");
         }
     }
 
+    /**
+     * Revisions are deltas back from the current text, so the post is read from the database in
+     * the same read-only transaction as the deltas rather than taken from the cache, which could
+     * hold an older version than the deltas were recorded against.
+     */
+    @Transactional(readOnly = true)
+    public List<PostRevisionInfoDTO> getRevisions(Long id) {
+        log.info("Getting revisions of post {}", id);
+        Post post = postRepository.findById(id).orElseThrow(() -> new PostNotFoundException("Post with ID " + id + " not found."));
+        return postRevisionService.getRevisions(post);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<PostRevisionDTO> getRevision(Long id, int revision) {
+        log.info("Getting revision {} of post {}", revision, id);
+        Post post = postRepository.findById(id).orElseThrow(() -> new PostNotFoundException("Post with ID " + id + " not found."));
+        return postRevisionService.getRevision(post, revision);
+    }
+
+    public List<CacheStatsDTO> getCacheStats() {
+        return postCache.stats();
+    }
+
+    /**
+     * Deletes the post and starts its deletion saga in one transaction. Reviews and comments are
+     * purged asynchronously by their own services once the delete has committed.
+     */
+    @Transactional
     public boolean deletePost(Long id) {
         log.info("Deleting post by id");
         if (postRepository.existsById(id)) {
             try {
-                reviewClient.deleteReviewsByPostId(id);
                 postRepository.deleteById(id);
+                postDeletionSagaService.begin(id);
+                eventPublisher.publishEvent(PostChangedEvent.deleted(id));
                 return true;
-            } catch (FeignException e) {
-                throw new PostDeletionException("Failed to delete associated reviews: " + e.getMessage());
             } catch (Exception e) {
                 throw new PostDeletionException("Failed to delete post with ID " + id + ": " + e.getMessage());
             }
@@ -129,19 +419,89 @@ public class PostService {
         }
     }
 
-    @RabbitListener(queues = "reviewQueue")
-    public void processReviewMessage(ReviewDTO review) {
-        try {
-            log.info("Processing review message");
-            Optional<Post> post = postRepository.findById(review.getPostId());
-            if (post.isPresent()) {
-                post.get().setStatus(review.getStatus());
-                postRepository.save(post.get());
-            } else {
-                throw new PostNotFoundException("Post with ID " + review.getPostId() + " not found.");
+    /**
+     * Applies a batch of review messages. Only the last status per post survives, and each
+     * distinct status is written with a single bulk UPDATE instead of a find and save per message.
+     * The batch runs in one transaction; a failure rolls it back and is rethrown so the container
+     * retries the batch and finally dead-letters it instead of acking it. Messages for posts that
+     * no longer exist are skipped.
+     */
+    @Transactional
+    @RabbitListener(queues = QueueConfiguration.REVIEW_QUEUE, containerFactory = "reviewBatchContainerFactory")
+    public void processReviewMessages(List<ReviewDTO> reviews) {
+        log.info("Processing {} review messages", reviews.size());
+        Map<Long, ReviewStatus> latestStatus = new LinkedHashMap<>();
+        for (ReviewDTO review : reviews) {
+            if (review.getPostId() != null && review.getStatus() != null) {
+                latestStatus.put(review.getPostId(), review.getStatus());
             }
-        } catch (Exception e) {
-            log.error("Failed to process review message: " + e.getMessage());
         }
+        if (latestStatus.isEmpty()) {
+            return;
+        }
+
+        Set<Long> existing = new HashSet<>(postRepository.findIdsByIdIn(latestStatus.keySet()));
+        if (existing.size() < latestStatus.size()) {
+            log.warn("Skipping review messages for {} posts that were not found", latestStatus.size() - existing.size());
+        }
+        Map<ReviewStatus, List<Long>> postIdsByStatus = latestStatus.entrySet().stream()
+                .filter(entry -> existing.contains(entry.getKey()))
+                .collect(Collectors.groupingBy(Map.Entry::getValue,
+                        () -> new EnumMap<>(ReviewStatus.class),
+                        Collectors.mapping(Map.Entry::getKey, Collectors.toList())));
+
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            postIdsByStatus.forEach((status, postIds) -> {
+                postRepository.updateStatusByIdIn(status, now, postIds);
+                publishStatusChanges(status, postIds);
+            });
+        } catch (RuntimeException e) {
+            log.error("Failed to process review messages, the batch will be retried: {}", e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * Newly published posts are loaded as summaries in one query, so the listeners that show
+     * them do not each read every post back.
+     */
+    private void publishStatusChanges(ReviewStatus status, List<Long> postIds) {
+        Map<Long, PostSummaryDTO> summaries = status == ReviewStatus.PUBLISHED
+                ? postRepository.findSummariesByIdIn(postIds, status).stream()
+                        .collect(Collectors.toMap(PostSummaryDTO::getId, Function.identity()))
+                : Map.of();
+        postIds.forEach(postId -> {
+            PostSummaryDTO summary = summaries.get(postId);
+            eventPublisher.publishEvent(summary != null
+                    ? PostChangedEvent.published(summary)
+                    : PostChangedEvent.statusChanged(postId, status));
+        });
+    }
+
+    /**
+     * Only the content is normalized: the full-text search ignores case and spacing, but
+     * category and author are matched exactly, so {@code null}, {@code "  "} and differently
+     * cased values each get their own key.
+     */
+    private static String searchKey(String content, String category, String author) {
+        StringBuilder key = new StringBuilder();
+        appendKeyPart(key, normalize(content));
+        appendKeyPart(key, category);
+        appendKeyPart(key, author);
+        return key.toString();
+    }
+
+    // Length-prefixed, so no value can run into the next part whatever characters it holds
+    private static void appendKeyPart(StringBuilder key, String value) {
+        if (value == null) {
+            key.append('-');
+        } else {
+            key.append(value.length()).append(':').append(value);
+        }
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().replaceAll("\\s+", " ").toLowerCase();
     }
 }
@@ -0,0 +1,182 @@
+package com.pxl.services.services.attachment;
+
+import com.pxl.services.exceptions.AttachmentTooLargeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Keeps attachment bytes on the local file system, one file per distinct content, named by its
+ * SHA-256 under a two-character fan-out directory. Uploads stream through a fixed buffer into a
+ * temporary file that is renamed into place once its hash is known, so a reader never sees a
+ * partial file and a file already stored is not written twice.
+ */
+@Component
+public class AttachmentStore {
+    private static final Logger log = LoggerFactory.getLogger(AttachmentStore.class);
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final Pattern SHA256 = Pattern.compile("[0-9a-f]{64}");
+
+    private final Path blobs;
+    private final Path uploads;
+
+    public AttachmentStore(@Value("${posts.attachments.directory:data/attachments}") Path directory) {
+        this.blobs = directory.resolve("blobs");
+        this.uploads = directory.resolve("uploads");
+    }
+
+    /**
+     * Copies {@code in} into the store and returns the hash and size of what was read. Fails
+     * with {@link AttachmentTooLargeException} as soon as more than {@code maxSize} bytes arrive.
+     */
+    public StoredBlob write(InputStream in, long maxSize) throws IOException {
+        Files.createDirectories(uploads);
+        Path upload = Files.createTempFile(uploads, "upload-", ".part");
+        try {
+            MessageDigest digest = sha256();
+            long size = 0;
+            try (FileChannel out = FileChannel.open(upload, StandardOpenOption.WRITE)) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    size += read;
+                    if (size > maxSize) {
+                        throw new AttachmentTooLargeException("Attachment exceeds the limit of " + maxSize + " bytes");
+                    }
+                    digest.update(buffer, 0, read);
+                    ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, read);
+                    while (chunk.hasRemaining()) {
+                        out.write(chunk);
+                    }
+                }
+                out.force(true);
+            }
+
+            String hash = HexFormat.of().formatHex(digest.digest());
+            Path blob = path(hash);
+            if (Files.exists(blob)) {
+                // Keeps the sweep from deleting a blob that is about to be referenced again
+                Files.setLastModifiedTime(blob, FileTime.from(Instant.now()));
+            } else {
+                Files.createDirectories(blob.getParent());
+                Files.move(upload, blob, StandardCopyOption.ATOMIC_MOVE);
+            }
+            return new StoredBlob(hash, size);
+        } finally {
+            Files.deleteIfExists(upload);
+        }
+    }
+
+    public Path path(String sha256) {
+        if (!SHA256.matcher(sha256).matches()) {
+            throw new IllegalArgumentException("Not a SHA-256 hash: " + sha256);
+        }
+        return blobs.resolve(sha256.substring(0, 2)).resolve(sha256);
+    }
+
+    public boolean exists(String sha256) {
+        return Files.isRegularFile(path(sha256));
+    }
+
+    /**
+     * Sends {@code count} bytes starting at {@code position} with {@link FileChannel#transferTo},
+     * which leaves the copying to the kernel when the target allows it.
+     */
+    public void transferTo(String sha256, long position, long count, OutputStream out) throws IOException {
+        try (FileChannel channel = FileChannel.open(path(sha256), StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(out);
+            long sent = 0;
+            while (sent < count) {
+                long transferred = channel.transferTo(position + sent, count - sent, target);
+                if (transferred <= 0) {
+                    throw new EOFException("Attachment " + sha256 + " ended after " + (position + sent) + " bytes");
+                }
+                sent += transferred;
+            }
+            out.flush();
+        }
+    }
+
+    /**
+     * Hashes of the stored blobs last written before {@code cutoff}.
+     */
+    public List<String> listOlderThan(Instant cutoff) throws IOException {
+        if (!Files.isDirectory(blobs)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.walk(blobs, 2)) {
+            return files.filter(file -> SHA256.matcher(file.getFileName().toString()).matches())
+                    .filter(file -> modifiedBefore(file, cutoff))
+                    .map(file -> file.getFileName().toString())
+                    .toList();
+        }
+    }
+
+    /**
+     * Deletes the blob unless it was written again since {@code cutoff}.
+     */
+    public boolean deleteIfOlderThan(String sha256, Instant cutoff) throws IOException {
+        Path blob = path(sha256);
+        if (!Files.exists(blob) || !modifiedBefore(blob, cutoff)) {
+            return false;
+        }
+        return Files.deleteIfExists(blob);
+    }
+
+    /**
+     * Removes uploads left behind by a process that died mid-upload.
+     */
+    public void deleteAbandonedUploads(Instant cutoff) throws IOException {
+        if (!Files.isDirectory(uploads)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(uploads)) {
+            for (Path upload : files.filter(file -> modifiedBefore(file, cutoff)).toList()) {
+                log.debug("Deleting abandoned upload {}", upload);
+                Files.deleteIfExists(upload);
+            }
+        }
+    }
+
+    private static boolean modifiedBefore(Path file, Instant cutoff) {
+        try {
+            return Files.getLastModifiedTime(file).toInstant().isBefore(cutoff);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public record StoredBlob(String sha256, long size) {
+    }
+}
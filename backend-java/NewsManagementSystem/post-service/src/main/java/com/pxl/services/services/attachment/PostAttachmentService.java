@@ -0,0 +1,162 @@
+package com.pxl.services.services.attachment;
+
+import com.pxl.services.domain.DTO.PostAttachmentDTO;
+import com.pxl.services.domain.PostAttachment;
+import com.pxl.services.exceptions.AttachmentTooLargeException;
+import com.pxl.services.exceptions.InvalidAttachmentException;
+import com.pxl.services.exceptions.PostNotFoundException;
+import com.pxl.services.repository.PostAttachmentRepository;
+import com.pxl.services.repository.PostRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Attaches files to posts. Metadata goes to post_attachment, the bytes to the
+ * {@link AttachmentStore}. Deleting an attachment, or its post, only removes the row; blobs no
+ * row refers to any more are removed by a periodic sweep once they are older than
+ * {@code orphan-grace}, which also keeps the sweep away from uploads still being committed.
+ */
+@Service
+public class PostAttachmentService {
+    private static final Logger log = LoggerFactory.getLogger(PostAttachmentService.class);
+    private static final int SWEEP_BATCH_SIZE = 500;
+
+    private final PostAttachmentRepository postAttachmentRepository;
+    private final PostRepository postRepository;
+    private final AttachmentStore attachmentStore;
+    private final long maxSize;
+    private final Set<String> allowedTypes;
+    private final Duration orphanGrace;
+
+    public PostAttachmentService(PostAttachmentRepository postAttachmentRepository, PostRepository postRepository,
+                                 AttachmentStore attachmentStore,
+                                 @Value("${posts.attachments.max-size:20MB}") DataSize maxSize,
+                                 @Value("${posts.attachments.allowed-types:image/png,image/jpeg,image/gif,image/webp,application/pdf}") Set<String> allowedTypes,
+                                 @Value("${posts.attachments.orphan-grace:PT1H}") Duration orphanGrace) {
+        this.postAttachmentRepository = postAttachmentRepository;
+        this.postRepository = postRepository;
+        this.attachmentStore = attachmentStore;
+        this.maxSize = maxSize.toBytes();
+        this.allowedTypes = allowedTypes;
+        this.orphanGrace = orphanGrace;
+    }
+
+    public PostAttachmentDTO addAttachment(Long postId, String fileName, String contentType, Long contentLength,
+                                           InputStream content) throws IOException {
+        log.info("Attaching {} to post {}", fileName, postId);
+        if (!postRepository.existsById(postId)) {
+            throw new PostNotFoundException("Post with ID " + postId + " not found.");
+        }
+        String type = validType(contentType);
+        String name = validFileName(fileName);
+        if (contentLength != null && contentLength > maxSize) {
+            throw new AttachmentTooLargeException("Attachment exceeds the limit of " + maxSize + " bytes");
+        }
+
+        AttachmentStore.StoredBlob blob = attachmentStore.write(content, maxSize);
+        PostAttachment attachment = postAttachmentRepository.save(PostAttachment.builder()
+                .postId(postId)
+                .sha256(blob.sha256())
+                .fileName(name)
+                .contentType(type)
+                .size(blob.size())
+                .createdAt(LocalDateTime.now())
+                .build());
+        return toDTO(attachment);
+    }
+
+    public List<PostAttachmentDTO> getAttachments(Long postId) {
+        log.info("Getting attachments of post {}", postId);
+        return postAttachmentRepository.findByPostIdOrderByIdAsc(postId).stream()
+                .map(PostAttachmentService::toDTO)
+                .toList();
+    }
+
+    public Optional<PostAttachment> getAttachment(Long postId, Long attachmentId) {
+        return postAttachmentRepository.findByIdAndPostId(attachmentId, postId);
+    }
+
+    public boolean deleteAttachment(Long postId, Long attachmentId) {
+        log.info("Deleting attachment {} of post {}", attachmentId, postId);
+        Optional<PostAttachment> attachment = postAttachmentRepository.findByIdAndPostId(attachmentId, postId);
+        attachment.ifPresent(postAttachmentRepository::delete);
+        return attachment.isPresent();
+    }
+
+    @Scheduled(fixedDelayString = "${posts.attachments.sweep-interval:PT1H}")
+    public void sweepOrphans() {
+        Instant cutoff = Instant.now().minus(orphanGrace);
+        try {
+            attachmentStore.deleteAbandonedUploads(cutoff);
+            List<String> candidates = attachmentStore.listOlderThan(cutoff);
+            int deleted = 0;
+            for (int from = 0; from < candidates.size(); from += SWEEP_BATCH_SIZE) {
+                List<String> batch = candidates.subList(from, Math.min(from + SWEEP_BATCH_SIZE, candidates.size()));
+                Set<String> referenced = new HashSet<>(postAttachmentRepository.findReferencedHashes(batch));
+                for (String hash : batch) {
+                    if (!referenced.contains(hash) && attachmentStore.deleteIfOlderThan(hash, cutoff)) {
+                        deleted++;
+                    }
+                }
+            }
+            if (deleted > 0) {
+                log.info("Deleted {} unreferenced attachment files", deleted);
+            }
+        } catch (Exception e) {
+            log.error("Failed to sweep attachment files: {}", e.getMessage());
+        }
+    }
+
+    private String validType(String contentType) {
+        MediaType type;
+        try {
+            type = MediaType.parseMediaType(contentType);
+        } catch (Exception e) {
+            throw new InvalidAttachmentException("Invalid content type: " + contentType);
+        }
+        String essence = type.getType() + "/" + type.getSubtype();
+        if (!allowedTypes.contains(essence)) {
+            throw new InvalidAttachmentException("Attachments of type " + essence + " are not allowed");
+        }
+        return essence;
+    }
+
+    private static String validFileName(String fileName) {
+        if (fileName == null || fileName.isBlank()) {
+            throw new InvalidAttachmentException("A file name is required");
+        }
+        // Only the last path segment; a client path says nothing about the stored file
+        String name = fileName.substring(Math.max(fileName.lastIndexOf('/'), fileName.lastIndexOf('\\')) + 1).strip();
+        if (name.isEmpty() || name.length() > 255 || name.chars().anyMatch(Character::isISOControl)) {
+            throw new InvalidAttachmentException("Invalid file name: " + fileName);
+        }
+        return name;
+    }
+
+    private static PostAttachmentDTO toDTO(PostAttachment attachment) {
+        return PostAttachmentDTO.builder()
+                .id(attachment.getId())
+                .postId(attachment.getPostId())
+                .fileName(attachment.getFileName())
+                .contentType(attachment.getContentType())
+                .size(attachment.getSize())
+                .sha256(attachment.getSha256())
+                .createdAt(attachment.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,137 @@
+package com.pxl.services.services.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.pxl.services.domain.DTO.CacheStatsDTO;
+import com.pxl.services.domain.Post;
+import com.pxl.services.domain.event.PostChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache in front of {@link com.pxl.services.repository.PostRepository}.
+ * Single posts are invalidated by id on every {@link PostChangedEvent}, once the change has
+ * committed, so a read racing the write cannot put the old row back; list results cannot be
+ * mapped back to the posts they contain, so any change drops all of them.
+ * <p>
+ * Search results are cached as id lists tagged with the generation they were computed in.
+ * A change only bumps the generation, and an entry from an older generation counts as a miss
+ * and is recomputed in place. Invalidation therefore costs the same however many searches are cached.
+ */
+@Component
+public class PostCache {
+    private final Cache<Long, Post> posts;
+    private final Cache<String, List<Post>> postLists;
+    private final Cache<String, SearchResult> searchResults;
+    private final AtomicLong generation = new AtomicLong();
+    private final LongAdder searchHits = new LongAdder();
+    private final LongAdder searchMisses = new LongAdder();
+
+    public PostCache(@Value("${posts.cache.max-size:10000}") long maxSize,
+                     @Value("${posts.cache.max-lists:256}") long maxLists,
+                     @Value("${posts.cache.max-searches:1024}") long maxSearches,
+                     @Value("${posts.cache.ttl:PT5M}") Duration ttl) {
+        this.posts = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.postLists = Caffeine.newBuilder()
+                .maximumSize(maxLists)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.searchResults = Caffeine.newBuilder()
+                .maximumSize(maxSearches)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public Optional<Post> getPost(Long id, Function<Long, Optional<Post>> loader) {
+        // Absent posts are not cached: a null from the mapping function leaves no entry behind
+        return Optional.ofNullable(posts.get(id, key -> loader.apply(key).orElse(null)));
+    }
+
+    public Optional<Post> peekPost(Long id) {
+        return Optional.ofNullable(posts.getIfPresent(id));
+    }
+
+    public List<Post> getPostList(String key, Supplier<List<Post>> loader) {
+        return postLists.get(key, ignored -> List.copyOf(loader.get()));
+    }
+
+    /**
+     * Returns the cached ids for {@code key} if they were computed in the current generation,
+     * and otherwise runs {@code loader} and caches its result.
+     */
+    public List<Long> getSearchResult(String key, Supplier<List<Long>> loader) {
+        SearchResult cached = searchResults.getIfPresent(key);
+        if (cached != null && cached.generation() == generation.get()) {
+            searchHits.increment();
+            return cached.ids();
+        }
+        searchMisses.increment();
+        // Read before loading: a change during the load leaves the entry already stale
+        long loadedIn = generation.get();
+        List<Long> ids = List.copyOf(loader.get());
+        searchResults.put(key, new SearchResult(loadedIn, ids));
+        return ids;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        posts.invalidate(event.postId());
+        postLists.invalidateAll();
+        generation.incrementAndGet();
+    }
+
+    public void invalidateAll() {
+        posts.invalidateAll();
+        postLists.invalidateAll();
+        generation.incrementAndGet();
+    }
+
+    public List<CacheStatsDTO> stats() {
+        return List.of(toStats("posts", posts), toStats("postLists", postLists), searchStats());
+    }
+
+    private CacheStatsDTO searchStats() {
+        long hits = searchHits.sum();
+        long misses = searchMisses.sum();
+        return CacheStatsDTO.builder()
+                .name("searchResults")
+                .size(searchResults.estimatedSize())
+                .hitCount(hits)
+                .missCount(misses)
+                .hitRate(hits + misses == 0 ? 1.0 : (double) hits / (hits + misses))
+                .evictionCount(searchResults.stats().evictionCount())
+                .build();
+    }
+
+    private static CacheStatsDTO toStats(String name, Cache<?, ?> cache) {
+        CacheStats stats = cache.stats();
+        return CacheStatsDTO.builder()
+                .name(name)
+                .size(cache.estimatedSize())
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .build();
+    }
+
+    private record SearchResult(long generation, List<Long> ids) {
+    }
+}
@@ -0,0 +1,245 @@
+package com.pxl.services.services.criteria;
+
+import com.pxl.services.domain.DTO.PostCriterionDTO;
+import com.pxl.services.domain.ReviewStatus;
+import com.pxl.services.exceptions.InvalidCriteriaException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * A validated search filter. Every node can describe itself in three ways that walk the tree in
+ * the same order: its {@link #shape}, which leaves out all values; the values themselves
+ * ({@link #bind}); and a JPQL condition with one positional parameter per value
+ * ({@link #where}). Filters of the same shape therefore share one JPQL string and differ only
+ * in what is bound to it.
+ */
+public sealed interface Criterion {
+    int MAX_DEPTH = 8;
+    int MAX_NODES = 64;
+    int MAX_VALUES = 100;
+
+    void shape(StringBuilder shape);
+
+    /**
+     * Appends this node's parameter values; {@code textSearch} turns a text query into the ids
+     * of the posts it matches.
+     */
+    void bind(List<Object> values, Function<String, List<Long>> textSearch);
+
+    /**
+     * Appends the JPQL condition, numbering parameters from {@code next[0]} on.
+     */
+    void where(StringBuilder jpql, int[] next);
+
+    static Criterion parse(PostCriterionDTO dto) {
+        return parse(dto, 1, new int[]{0});
+    }
+
+    private static Criterion parse(PostCriterionDTO dto, int depth, int[] nodes) {
+        if (dto == null || dto.getOp() == null) {
+            throw new InvalidCriteriaException("Every criterion needs an op");
+        }
+        if (depth > MAX_DEPTH || ++nodes[0] > MAX_NODES) {
+            throw new InvalidCriteriaException("Filters may be at most " + MAX_DEPTH + " levels deep and have at most "
+                    + MAX_NODES + " criteria");
+        }
+        return switch (dto.getOp().toLowerCase(Locale.ROOT)) {
+            case "and", "or" -> {
+                List<PostCriterionDTO> criteria = dto.getCriteria();
+                if (criteria == null || criteria.isEmpty()) {
+                    throw new InvalidCriteriaException(dto.getOp() + " needs at least one criterion");
+                }
+                List<Criterion> children = new ArrayList<>(criteria.size());
+                for (PostCriterionDTO child : criteria) {
+                    children.add(parse(child, depth + 1, nodes));
+                }
+                yield new Junction(dto.getOp().toLowerCase(Locale.ROOT), children);
+            }
+            case "not" -> {
+                if (dto.getCriteria() == null || dto.getCriteria().size() != 1) {
+                    throw new InvalidCriteriaException("not needs exactly one criterion");
+                }
+                yield new Not(parse(dto.getCriteria().get(0), depth + 1, nodes));
+            }
+            case "in" -> In.of(dto.getField(), dto.getValues());
+            case "between" -> Between.of(dto.getField(), dto.getFrom(), dto.getTo());
+            case "text" -> {
+                if (dto.getValues() == null || dto.getValues().size() != 1 || dto.getValues().get(0).isBlank()) {
+                    throw new InvalidCriteriaException("text needs exactly one query");
+                }
+                yield new Text(dto.getValues().get(0));
+            }
+            default -> throw new InvalidCriteriaException("Unknown op: " + dto.getOp());
+        };
+    }
+
+    record Junction(String op, List<Criterion> children) implements Criterion {
+
+        @Override
+        public void shape(StringBuilder shape) {
+            shape.append(op).append('(');
+            for (int i = 0; i < children.size(); i++) {
+                if (i > 0) {
+                    shape.append(',');
+                }
+                children.get(i).shape(shape);
+            }
+            shape.append(')');
+        }
+
+        @Override
+        public void bind(List<Object> values, Function<String, List<Long>> textSearch) {
+            children.forEach(child -> child.bind(values, textSearch));
+        }
+
+        @Override
+        public void where(StringBuilder jpql, int[] next) {
+            jpql.append('(');
+            for (int i = 0; i < children.size(); i++) {
+                if (i > 0) {
+                    jpql.append(' ').append(op).append(' ');
+                }
+                children.get(i).where(jpql, next);
+            }
+            jpql.append(')');
+        }
+    }
+
+    record Not(Criterion child) implements Criterion {
+
+        @Override
+        public void shape(StringBuilder shape) {
+            shape.append("not(");
+            child.shape(shape);
+            shape.append(')');
+        }
+
+        @Override
+        public void bind(List<Object> values, Function<String, List<Long>> textSearch) {
+            child.bind(values, textSearch);
+        }
+
+        @Override
+        public void where(StringBuilder jpql, int[] next) {
+            jpql.append("not (");
+            child.where(jpql, next);
+            jpql.append(')');
+        }
+    }
+
+    /**
+     * The list is bound as one parameter, so its length is not part of the shape. Hibernate still
+     * expands it to one placeholder per element, padded to a power of two
+     * ({@code in_clause_parameter_padding}), so the SQL varies with the length in a few steps only.
+     */
+    record In(String field, List<?> values) implements Criterion {
+
+        static In of(String field, List<String> values) {
+            if (values == null || values.isEmpty() || values.size() > MAX_VALUES) {
+                throw new InvalidCriteriaException("in needs between 1 and " + MAX_VALUES + " values");
+            }
+            return switch (field == null ? "" : field) {
+                case "status" -> new In("status", values.stream().map(In::status).toList());
+                case "category", "author" -> new In(field, List.copyOf(values));
+                default -> throw new InvalidCriteriaException("in is not supported on field: " + field);
+            };
+        }
+
+        private static ReviewStatus status(String value) {
+            try {
+                return ReviewStatus.valueOf(value);
+            } catch (IllegalArgumentException | NullPointerException e) {
+                throw new InvalidCriteriaException("Invalid status: " + value);
+            }
+        }
+
+        @Override
+        public void shape(StringBuilder shape) {
+            shape.append(field).append(":in");
+        }
+
+        @Override
+        public void bind(List<Object> values, Function<String, List<Long>> textSearch) {
+            values.add(this.values);
+        }
+
+        @Override
+        public void where(StringBuilder jpql, int[] next) {
+            jpql.append("p.").append(field).append(" in ?").append(next[0]++);
+        }
+    }
+
+    /**
+     * {@code from} is inclusive and {@code to} exclusive; either may be left open.
+     */
+    record Between(String field, LocalDateTime from, LocalDateTime to) implements Criterion {
+
+        static Between of(String field, LocalDateTime from, LocalDateTime to) {
+            if (!"createdAt".equals(field) && !"updatedAt".equals(field)) {
+                throw new InvalidCriteriaException("between is not supported on field: " + field);
+            }
+            if (from == null && to == null) {
+                throw new InvalidCriteriaException("between needs from, to or both");
+            }
+            return new Between(field, from, to);
+        }
+
+        @Override
+        public void shape(StringBuilder shape) {
+            shape.append(field).append(':').append(from != null ? "from" : "").append(to != null ? "to" : "");
+        }
+
+        @Override
+        public void bind(List<Object> values, Function<String, List<Long>> textSearch) {
+            if (from != null) {
+                values.add(from);
+            }
+            if (to != null) {
+                values.add(to);
+            }
+        }
+
+        @Override
+        public void where(StringBuilder jpql, int[] next) {
+            jpql.append('(');
+            if (from != null) {
+                jpql.append("p.").append(field).append(" >= ?").append(next[0]++);
+            }
+            if (from != null && to != null) {
+                jpql.append(" and ");
+            }
+            if (to != null) {
+                jpql.append("p.").append(field).append(" < ?").append(next[0]++);
+            }
+            jpql.append(')');
+        }
+    }
+
+    /**
+     * Matched through the full-text index rather than with {@code like}, which no database
+     * index can serve; the condition only restricts the ids.
+     */
+    record Text(String query) implements Criterion {
+
+        @Override
+        public void shape(StringBuilder shape) {
+            shape.append("text");
+        }
+
+        @Override
+        public void bind(List<Object> values, Function<String, List<Long>> textSearch) {
+            List<Long> ids = textSearch.apply(query);
+            // An empty list cannot be bound to "in"; ids are positive, so this matches nothing
+            values.add(ids.isEmpty() ? List.of(0L) : ids);
+        }
+
+        @Override
+        public void where(StringBuilder jpql, int[] next) {
+            jpql.append("p.id in ?").append(next[0]++);
+        }
+    }
+}
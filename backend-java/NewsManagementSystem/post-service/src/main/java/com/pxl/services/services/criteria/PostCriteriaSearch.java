@@ -0,0 +1,110 @@
+package com.pxl.services.services.criteria;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pxl.services.domain.DTO.PostCriterionDTO;
+import com.pxl.services.domain.DTO.PostPageDTO;
+import com.pxl.services.domain.DTO.PostSummaryDTO;
+import com.pxl.services.domain.PostCursor;
+import com.pxl.services.repository.PostRepository;
+import com.pxl.services.services.PostService;
+import com.pxl.services.services.search.PostSearchIndex;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs boolean search filters in the database. A filter is compiled to JPQL once per
+ * {@link Criterion#shape}; later filters of that shape reuse the cached string and only bind
+ * their own values, so Hibernate also finds its parsed query in its plan cache. The SQL it
+ * renders still differs per padded IN-list length, see {@link Criterion.In}. Results are
+ * summaries ordered newest first and paged by cursor like {@code /summaries}. Text criteria
+ * match among the best {@code text-limit} hits of the full-text index.
+ */
+@Service
+public class PostCriteriaSearch {
+    private static final Logger log = LoggerFactory.getLogger(PostCriteriaSearch.class);
+    private static final String SELECT = "select new com.pxl.services.domain.DTO.PostSummaryDTO("
+            + PostRepository.SUMMARY_COLUMNS + ") from Post p";
+    private static final String ORDER = " order by p.createdAt desc, p.id desc";
+
+    private final EntityManager entityManager;
+    private final PostSearchIndex postSearchIndex;
+    private final int textLimit;
+    private final Cache<String, String> plans;
+
+    public PostCriteriaSearch(EntityManager entityManager, PostSearchIndex postSearchIndex,
+                              @Value("${posts.criteria.text-limit:1000}") int textLimit,
+                              @Value("${posts.criteria.max-plans:512}") long maxPlans) {
+        this.entityManager = entityManager;
+        this.postSearchIndex = postSearchIndex;
+        this.textLimit = textLimit;
+        this.plans = Caffeine.newBuilder()
+                .maximumSize(maxPlans)
+                .build();
+    }
+
+    public PostPageDTO<PostSummaryDTO> search(PostCriterionDTO filter, String cursor, int size) {
+        Criterion criterion = filter == null ? null : Criterion.parse(filter);
+        PostCursor after = cursor == null || cursor.isBlank() ? null : PostCursor.decode(cursor);
+        int pageSize = Math.max(1, Math.min(size, PostService.MAX_PAGE_SIZE));
+
+        StringBuilder shape = new StringBuilder();
+        List<Object> values = new ArrayList<>();
+        if (criterion != null) {
+            criterion.shape(shape);
+            criterion.bind(values, query -> postSearchIndex.search(query, textLimit));
+        }
+        if (after != null) {
+            shape.append("|after");
+            values.add(after.createdAt());
+            values.add(after.id());
+        }
+        String jpql = plans.get(shape.toString(), key -> compile(key, criterion, after != null));
+
+        TypedQuery<PostSummaryDTO> query = entityManager.createQuery(jpql, PostSummaryDTO.class);
+        for (int i = 0; i < values.size(); i++) {
+            query.setParameter(i + 1, values.get(i));
+        }
+        // One extra row tells whether another page exists
+        query.setMaxResults(pageSize + 1);
+        List<PostSummaryDTO> rows = query.getResultList();
+
+        boolean hasMore = rows.size() > pageSize;
+        List<PostSummaryDTO> items = hasMore ? rows.subList(0, pageSize) : rows;
+        PostSummaryDTO last = hasMore ? items.get(items.size() - 1) : null;
+        return PostPageDTO.<PostSummaryDTO>builder()
+                .items(items)
+                .nextCursor(last == null ? null : new PostCursor(last.getCreatedAt(), last.getId()).encode())
+                .hasMore(hasMore)
+                .build();
+    }
+
+    private static String compile(String shape, Criterion criterion, boolean keyset) {
+        StringBuilder jpql = new StringBuilder(SELECT);
+        int[] next = {1};
+        List<String> conditions = new ArrayList<>(2);
+        if (criterion != null) {
+            StringBuilder condition = new StringBuilder();
+            criterion.where(condition, next);
+            conditions.add(condition.toString());
+        }
+        if (keyset) {
+            int createdAt = next[0]++;
+            int id = next[0]++;
+            conditions.add("(p.createdAt < ?" + createdAt + " or (p.createdAt = ?" + createdAt + " and p.id < ?" + id + "))");
+        }
+        if (!conditions.isEmpty()) {
+            jpql.append(" where ").append(String.join(" and ", conditions));
+        }
+        jpql.append(ORDER);
+        log.debug("Compiled search shape {} to {}", shape, jpql);
+        return jpql.toString();
+    }
+}
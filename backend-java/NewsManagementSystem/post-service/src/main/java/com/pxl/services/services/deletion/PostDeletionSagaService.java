@@ -0,0 +1,130 @@
+package com.pxl.services.services.deletion;
+
+import com.pxl.services.config.QueueConfiguration;
+import com.pxl.services.domain.DTO.PostDeletedMessage;
+import com.pxl.services.domain.DTO.PostPurgedMessage;
+import com.pxl.services.domain.DeletionSagaStatus;
+import com.pxl.services.domain.PostDeletionSaga;
+import com.pxl.services.domain.event.PostChangedEvent;
+import com.pxl.services.repository.PostDeletionSagaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Drives the clean-up of a deleted post in review-service and comment-service. The post is
+ * removed locally right away; a PostDeletedMessage is broadcast after commit and re-broadcast
+ * until both services have confirmed their purge, at most {@code maxAttempts} times in all. A saga
+ * that runs out of attempts is marked FAILED and left for an operator; a confirmation that still
+ * arrives completes it. Purges are idempotent on the consumer side, so a retry that crosses a
+ * late confirmation does no harm.
+ */
+@Service
+public class PostDeletionSagaService {
+    private static final Logger log = LoggerFactory.getLogger(PostDeletionSagaService.class);
+    public static final String REVIEW_SERVICE = "review-service";
+    public static final String COMMENT_SERVICE = "comment-service";
+
+    private final PostDeletionSagaRepository sagaRepository;
+    private final RabbitTemplate rabbitTemplate;
+    private final Duration retryAfter;
+    private final int maxAttempts;
+
+    public PostDeletionSagaService(PostDeletionSagaRepository sagaRepository, RabbitTemplate rabbitTemplate,
+                                   @Value("${posts.deletion.retry-after:PT1M}") Duration retryAfter,
+                                   @Value("${posts.deletion.max-attempts:10}") int maxAttempts) {
+        this.sagaRepository = sagaRepository;
+        this.rabbitTemplate = rabbitTemplate;
+        this.retryAfter = retryAfter;
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * Records the saga for a post. Must run in the transaction that deletes the post.
+     */
+    public void begin(Long postId) {
+        LocalDateTime now = LocalDateTime.now();
+        sagaRepository.save(PostDeletionSaga.builder()
+                .postId(postId)
+                .status(DeletionSagaStatus.PENDING)
+                .attempts(1)
+                .startedAt(now)
+                .lastAttemptAt(now)
+                .build());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.type() == PostChangedEvent.ChangeType.DELETED) {
+            publish(event.postId());
+        }
+    }
+
+    @Transactional
+    @RabbitListener(queues = QueueConfiguration.POST_PURGED_QUEUE)
+    public void onPostPurged(PostPurgedMessage message) {
+        PostDeletionSaga saga = sagaRepository.findById(message.getPostId()).orElse(null);
+        if (saga == null || saga.getStatus() == DeletionSagaStatus.COMPLETED) {
+            log.info("Ignoring purge confirmation from {} for post {}", message.getService(), message.getPostId());
+            return;
+        }
+        switch (message.getService()) {
+            case REVIEW_SERVICE -> saga.setReviewsPurged(true);
+            case COMMENT_SERVICE -> saga.setCommentsPurged(true);
+            default -> {
+                log.warn("Purge confirmation from unknown service {}", message.getService());
+                return;
+            }
+        }
+        log.info("{} purged {} rows of post {}", message.getService(), message.getPurged(), message.getPostId());
+        if (saga.isReviewsPurged() && saga.isCommentsPurged()) {
+            saga.setStatus(DeletionSagaStatus.COMPLETED);
+            saga.setCompletedAt(LocalDateTime.now());
+        }
+        sagaRepository.save(saga);
+    }
+
+    /**
+     * Re-broadcasts sagas that have not completed within {@code retryAfter}, which also covers
+     * a publish lost between the delete commit and the broker.
+     */
+    @Scheduled(fixedDelayString = "${posts.deletion.retry-after:PT1M}")
+    public void retryPending() {
+        LocalDateTime now = LocalDateTime.now();
+        List<PostDeletionSaga> pending = sagaRepository.findByStatusAndLastAttemptAtBefore(
+                DeletionSagaStatus.PENDING, now.minus(retryAfter));
+        for (PostDeletionSaga saga : pending) {
+            if (saga.getAttempts() >= maxAttempts) {
+                saga.setStatus(DeletionSagaStatus.FAILED);
+                sagaRepository.save(saga);
+                log.error("Giving up deletion of post {} after {} attempts, reviews purged: {}, comments purged: {}",
+                        saga.getPostId(), saga.getAttempts(), saga.isReviewsPurged(), saga.isCommentsPurged());
+                continue;
+            }
+            saga.setAttempts(saga.getAttempts() + 1);
+            saga.setLastAttemptAt(now);
+            sagaRepository.save(saga);
+            log.warn("Retrying deletion of post {} (attempt {})", saga.getPostId(), saga.getAttempts());
+            publish(saga.getPostId());
+        }
+    }
+
+    private void publish(Long postId) {
+        try {
+            rabbitTemplate.convertAndSend(QueueConfiguration.POST_DELETED_EXCHANGE, "", new PostDeletedMessage(postId));
+        } catch (Exception e) {
+            log.error("Failed to publish deletion of post {}, will retry: {}", postId, e.getMessage());
+        }
+    }
+}
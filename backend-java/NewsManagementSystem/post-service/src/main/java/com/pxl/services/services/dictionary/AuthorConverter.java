@@ -0,0 +1,27 @@
+package com.pxl.services.services.dictionary;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Stores {@code Post.author} as its {@code post_author} id. Query parameters are converted too,
+ * so author filters compare integers.
+ */
+@Converter
+public class AuthorConverter implements AttributeConverter<String, Integer> {
+    private final PostDictionaries dictionaries;
+
+    public AuthorConverter(PostDictionaries dictionaries) {
+        this.dictionaries = dictionaries;
+    }
+
+    @Override
+    public Integer convertToDatabaseColumn(String author) {
+        return dictionaries.authors().lookup(author);
+    }
+
+    @Override
+    public String convertToEntityAttribute(Integer id) {
+        return dictionaries.authors().nameOf(id);
+    }
+}
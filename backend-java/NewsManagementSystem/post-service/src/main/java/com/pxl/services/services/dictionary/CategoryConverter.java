@@ -0,0 +1,26 @@
+package com.pxl.services.services.dictionary;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Stores {@code Post.category} as its {@code post_category} id.
+ */
+@Converter
+public class CategoryConverter implements AttributeConverter<String, Integer> {
+    private final PostDictionaries dictionaries;
+
+    public CategoryConverter(PostDictionaries dictionaries) {
+        this.dictionaries = dictionaries;
+    }
+
+    @Override
+    public Integer convertToDatabaseColumn(String category) {
+        return dictionaries.categories().lookup(category);
+    }
+
+    @Override
+    public String convertToEntityAttribute(Integer id) {
+        return dictionaries.categories().nameOf(id);
+    }
+}
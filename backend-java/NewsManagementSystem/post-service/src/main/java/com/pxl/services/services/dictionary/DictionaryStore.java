@@ -0,0 +1,20 @@
+package com.pxl.services.services.dictionary;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Persistent side of a {@link ValueDictionary}.
+ */
+public interface DictionaryStore {
+    Map<String, Integer> loadAll();
+
+    Optional<Integer> findId(String name);
+
+    Optional<String> findName(int id);
+
+    /**
+     * Adds the value, or returns the existing id when another writer added it first.
+     */
+    int insert(String name);
+}
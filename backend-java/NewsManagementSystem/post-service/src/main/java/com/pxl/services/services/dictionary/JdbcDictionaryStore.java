@@ -0,0 +1,96 @@
+package com.pxl.services.services.dictionary;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Reads and writes a dictionary table on its own auto-commit connection. Lookups happen while
+ * Hibernate is binding or flushing a post, so they must not go through the current transaction;
+ * an inserted value also has to survive a rollback of that transaction because it is cached.
+ * That costs a second pooled connection, which is why {@link ValueDictionary} caches hits and
+ * misses and writers register new values before their transaction opens.
+ */
+public class JdbcDictionaryStore implements DictionaryStore {
+    private final DataSource dataSource;
+    private final String table;
+
+    public JdbcDictionaryStore(DataSource dataSource, String table) {
+        this.dataSource = dataSource;
+        this.table = table;
+    }
+
+    @Override
+    public Map<String, Integer> loadAll() {
+        Map<String, Integer> values = new HashMap<>();
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("select id, name from " + table);
+             ResultSet rows = statement.executeQuery()) {
+            while (rows.next()) {
+                values.put(rows.getString(2), rows.getInt(1));
+            }
+            return values;
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to load " + table, e);
+        }
+    }
+
+    @Override
+    public Optional<Integer> findId(String name) {
+        try (Connection connection = dataSource.getConnection()) {
+            return findId(connection, name);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to look up " + name + " in " + table, e);
+        }
+    }
+
+    @Override
+    public Optional<String> findName(int id) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("select name from " + table + " where id = ?")) {
+            statement.setInt(1, id);
+            try (ResultSet rows = statement.executeQuery()) {
+                return rows.next() ? Optional.of(rows.getString(1)) : Optional.empty();
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to look up id " + id + " in " + table, e);
+        }
+    }
+
+    @Override
+    public int insert(String name) {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "insert into " + table + " (name) values (?)", Statement.RETURN_GENERATED_KEYS)) {
+                statement.setString(1, name);
+                statement.executeUpdate();
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    keys.next();
+                    return keys.getInt(1);
+                }
+            } catch (SQLIntegrityConstraintViolationException e) {
+                // Lost the race against another instance; its row is just as good
+                return findId(connection, name).orElseThrow(() -> e);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to add " + name + " to " + table, e);
+        }
+    }
+
+    private Optional<Integer> findId(Connection connection, String name) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("select id from " + table + " where name = ?")) {
+            statement.setString(1, name);
+            try (ResultSet rows = statement.executeQuery()) {
+                return rows.next() ? Optional.of(rows.getInt(1)) : Optional.empty();
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.pxl.services.services.dictionary;
+
+import com.pxl.services.domain.Post;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+@Component
+public class PostDictionaries {
+    private final ValueDictionary authors;
+    private final ValueDictionary categories;
+
+    public PostDictionaries(DataSource dataSource,
+                            @Value("${posts.dictionary.unknown-ttl:PT10S}") Duration unknownTtl) {
+        this.authors = new ValueDictionary(new JdbcDictionaryStore(dataSource, "post_author"), unknownTtl);
+        this.categories = new ValueDictionary(new JdbcDictionaryStore(dataSource, "post_category"), unknownTtl);
+    }
+
+    /**
+     * Adds the post's author and category when new. Writers call this before they open their
+     * transaction: the store inserts on its own connection, and doing that while the transaction
+     * holds one would need two pooled connections per write.
+     */
+    public void register(Post post) {
+        authors.register(post.getAuthor());
+        categories.register(post.getCategory());
+    }
+
+    public ValueDictionary authors() {
+        return authors;
+    }
+
+    public ValueDictionary categories() {
+        return categories;
+    }
+}
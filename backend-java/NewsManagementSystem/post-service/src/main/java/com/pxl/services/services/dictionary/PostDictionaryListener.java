@@ -0,0 +1,25 @@
+package com.pxl.services.services.dictionary;
+
+import com.pxl.services.domain.Post;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+
+/**
+ * Adds new author and category values to their dictionaries before a post is written, so the
+ * converters only ever have to look values up. Writers register values through
+ * {@link PostDictionaries#register} before their transaction opens, so this normally finds them
+ * in memory; it only reaches the store for a writer that skipped that step.
+ */
+public class PostDictionaryListener {
+    private final PostDictionaries dictionaries;
+
+    public PostDictionaryListener(PostDictionaries dictionaries) {
+        this.dictionaries = dictionaries;
+    }
+
+    @PrePersist
+    @PreUpdate
+    public void registerValues(Post post) {
+        dictionaries.register(post);
+    }
+}
@@ -0,0 +1,120 @@
+package com.pxl.services.services.dictionary;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bidirectional in-memory map between a low-cardinality string value and its dictionary id.
+ * Loaded lazily on first use; values added by other instances are picked up on a miss.
+ * Every loaded post shares the same String instance for a given value. A value the store does
+ * not know is remembered as unknown for {@code unknownTtl}, so repeated filters on it do not
+ * each take a connection.
+ */
+public class ValueDictionary {
+    /**
+     * Id used when a query filters on a value that was never stored. It matches no row, unlike
+     * null, which would turn {@code (:value is null or ...)} filters into match-all.
+     */
+    public static final int UNKNOWN_ID = -1;
+    private static final long MAX_UNKNOWN = 10_000;
+
+    private final DictionaryStore store;
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private final Map<Integer, String> names = new ConcurrentHashMap<>();
+    private final Cache<String, Boolean> unknown;
+    private volatile boolean loaded;
+
+    public ValueDictionary(DictionaryStore store, Duration unknownTtl) {
+        this.store = store;
+        this.unknown = Caffeine.newBuilder()
+                .maximumSize(MAX_UNKNOWN)
+                .expireAfterWrite(unknownTtl)
+                .build();
+    }
+
+    /**
+     * Id of a value for reads and query parameters; never adds to the dictionary.
+     */
+    public Integer lookup(String name) {
+        if (name == null) {
+            return null;
+        }
+        ensureLoaded();
+        Integer id = ids.get(name);
+        if (id == null) {
+            if (unknown.getIfPresent(name) != null) {
+                return UNKNOWN_ID;
+            }
+            id = store.findId(name).orElse(null);
+            if (id == null) {
+                unknown.put(name, Boolean.TRUE);
+                return UNKNOWN_ID;
+            }
+            put(name, id);
+        }
+        return id;
+    }
+
+    /**
+     * Id of a value that is about to be written, adding it to the dictionary when new.
+     */
+    public Integer register(String name) {
+        if (name == null) {
+            return null;
+        }
+        ensureLoaded();
+        Integer id = ids.get(name);
+        if (id == null) {
+            synchronized (this) {
+                id = ids.get(name);
+                if (id == null) {
+                    id = store.insert(name);
+                    put(name, id);
+                    unknown.invalidate(name);
+                }
+            }
+        }
+        return id;
+    }
+
+    public String nameOf(Integer id) {
+        if (id == null) {
+            return null;
+        }
+        ensureLoaded();
+        String name = names.get(id);
+        if (name == null) {
+            name = store.findName(id).orElse(null);
+            if (name != null) {
+                put(name, id);
+            }
+        }
+        return name;
+    }
+
+    public int size() {
+        ensureLoaded();
+        return ids.size();
+    }
+
+    private void put(String name, int id) {
+        // The map's own instance is the shared one; interning would pin user input in the string table
+        ids.put(name, id);
+        names.put(id, name);
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    store.loadAll().forEach(this::put);
+                    loaded = true;
+                }
+            }
+        }
+    }
+}
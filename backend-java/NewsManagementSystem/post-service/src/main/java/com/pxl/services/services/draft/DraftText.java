@@ -0,0 +1,16 @@
+package com.pxl.services.services.draft;
+
+import com.pxl.services.domain.Post;
+
+import java.util.Objects;
+
+public record DraftText(String title, String content) {
+
+    public static DraftText of(Post post) {
+        return new DraftText(post.getTitle(), post.getContent());
+    }
+
+    public boolean matches(Post post) {
+        return Objects.equals(title, post.getTitle()) && Objects.equals(content, post.getContent());
+    }
+}
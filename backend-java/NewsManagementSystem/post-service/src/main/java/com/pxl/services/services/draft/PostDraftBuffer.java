@@ -0,0 +1,248 @@
+package com.pxl.services.services.draft;
+
+import com.pxl.services.domain.DTO.DraftPatchDTO;
+import com.pxl.services.domain.DTO.DraftStateDTO;
+import com.pxl.services.domain.DTO.PostDraftDTO;
+import com.pxl.services.domain.DTO.TextEditDTO;
+import com.pxl.services.domain.Post;
+import com.pxl.services.domain.event.PostChangedEvent;
+import com.pxl.services.exceptions.InvalidDraftPatchException;
+import com.pxl.services.exceptions.PostNotFoundException;
+import com.pxl.services.exceptions.PostUpdateException;
+import com.pxl.services.services.PostService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Coalesces autosaved edits of posts in memory. Editors send small text edits against the draft
+ * version they last saw, and the buffered text is written to the post at most once per
+ * {@code flush-interval}, or straight away when a patch asks to be saved. A full update of the
+ * post discards its draft, and a flush is dropped when the stored text changed underneath it,
+ * for instance on another replica; either way the editor's next patch gets a version conflict
+ * and has to reload the draft. Drafts that stay clean for {@code idle-timeout} are evicted.
+ */
+@Component
+public class PostDraftBuffer {
+    private static final Logger log = LoggerFactory.getLogger(PostDraftBuffer.class);
+
+    private final PostService postService;
+    private final Duration idleTimeout;
+    private final Clock clock;
+    private final Map<Long, Draft> drafts = new ConcurrentHashMap<>();
+    // Versions come from one sequence so a reloaded draft never reuses a version a client already holds
+    private final AtomicLong versions;
+    // Post whose draft this thread is writing, so the update event of our own flush is not taken for someone else's
+    private final ThreadLocal<Long> flushing = new ThreadLocal<>();
+
+    @Autowired
+    public PostDraftBuffer(PostService postService,
+                           @Value("${posts.drafts.idle-timeout:PT10M}") Duration idleTimeout) {
+        this(postService, idleTimeout, Clock.systemUTC());
+    }
+
+    public PostDraftBuffer(PostService postService, Duration idleTimeout, Clock clock) {
+        this.postService = postService;
+        this.idleTimeout = idleTimeout;
+        this.clock = clock;
+        this.versions = new AtomicLong(clock.millis());
+    }
+
+    /**
+     * Applies the patch to the buffered draft. Edit positions only make sense against the text
+     * they were made on, so a patch without a {@code baseVersion}, or with one other than the
+     * draft's current version, is rejected as a whole, as is one with an edit out of bounds.
+     */
+    public DraftStateDTO patch(Long postId, DraftPatchDTO patch) {
+        if (patch.getBaseVersion() == null) {
+            throw new InvalidDraftPatchException("A draft patch needs the baseVersion it was made against");
+        }
+        while (true) {
+            Draft draft = draft(postId);
+            synchronized (draft) {
+                if (draft.discarded) {
+                    continue;
+                }
+                if (patch.getBaseVersion() != draft.version) {
+                    throw new PostUpdateException("Draft of post " + postId + " is at version " + draft.version
+                            + ", not " + patch.getBaseVersion());
+                }
+                checkBounds(draft.title, patch.getTitle());
+                checkBounds(draft.content, patch.getContent());
+                boolean changed = apply(draft.title, patch.getTitle()) | apply(draft.content, patch.getContent());
+                if (changed) {
+                    draft.version = versions.incrementAndGet();
+                    draft.dirty = true;
+                }
+                draft.lastTouched = clock.millis();
+                if (patch.isSave() && draft.dirty && !write(postId, draft)) {
+                    throw new PostUpdateException("Post " + postId + " was changed while its draft was edited");
+                }
+                return state(postId, draft);
+            }
+        }
+    }
+
+    public PostDraftDTO getDraft(Long postId) {
+        while (true) {
+            Draft draft = draft(postId);
+            synchronized (draft) {
+                if (draft.discarded) {
+                    continue;
+                }
+                draft.lastTouched = clock.millis();
+                return PostDraftDTO.builder()
+                        .postId(postId)
+                        .version(draft.version)
+                        .title(draft.title.toString())
+                        .content(draft.content.toString())
+                        .dirty(draft.dirty)
+                        .build();
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${posts.drafts.flush-interval:PT10S}")
+    public void flush() {
+        long idleSince = clock.millis() - idleTimeout.toMillis();
+        drafts.forEach((postId, draft) -> {
+            synchronized (draft) {
+                if (draft.discarded) {
+                    return;
+                }
+                if (draft.dirty) {
+                    try {
+                        write(postId, draft);
+                    } catch (Exception e) {
+                        log.error("Failed to flush draft of post {}, keeping it for the next flush: {}",
+                                postId, e.getMessage());
+                    }
+                } else if (draft.lastTouched < idleSince) {
+                    discard(postId, draft);
+                }
+            }
+        });
+    }
+
+    /**
+     * Runs after the commit, so an update that rolls back leaves the editor's draft alone. Our own
+     * flush commits inside {@link #write}, while {@code flushing} still names the post.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        boolean ownFlush = Objects.equals(flushing.get(), event.postId());
+        if (event.type() == PostChangedEvent.ChangeType.DELETED
+                || event.type() == PostChangedEvent.ChangeType.UPDATED && !ownFlush) {
+            // Only marked here: taking the draft's lock could deadlock with a flush waiting on this update's row lock
+            Draft draft = drafts.remove(event.postId());
+            if (draft != null) {
+                draft.discarded = true;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private Draft draft(Long postId) {
+        Draft draft = drafts.get(postId);
+        if (draft != null) {
+            return draft;
+        }
+        Post post = postService.getPostById(postId)
+                .orElseThrow(() -> new PostNotFoundException("Post with ID " + postId + " not found."));
+        Draft loaded = new Draft(DraftText.of(post), versions.incrementAndGet(), clock.millis());
+        Draft existing = drafts.putIfAbsent(postId, loaded);
+        return existing == null ? loaded : existing;
+    }
+
+    // Called with the draft's lock held; returns false when the draft was dropped because the post changed
+    private boolean write(Long postId, Draft draft) {
+        DraftText text = new DraftText(draft.title.toString(), draft.content.toString());
+        flushing.set(postId);
+        try {
+            if (postService.saveDraft(postId, draft.base, text).isEmpty()) {
+                log.warn("Dropping draft of post {}, the post was changed or deleted since the draft was loaded", postId);
+                discard(postId, draft);
+                return false;
+            }
+        } finally {
+            flushing.remove();
+        }
+        draft.base = text;
+        draft.dirty = false;
+        return true;
+    }
+
+    private void discard(Long postId, Draft draft) {
+        drafts.remove(postId, draft);
+        draft.discarded = true;
+    }
+
+    private static DraftStateDTO state(Long postId, Draft draft) {
+        return DraftStateDTO.builder()
+                .postId(postId)
+                .version(draft.version)
+                .dirty(draft.dirty)
+                .build();
+    }
+
+    private static void checkBounds(StringBuilder text, List<TextEditDTO> edits) {
+        if (edits == null) {
+            return;
+        }
+        long length = text.length();
+        for (TextEditDTO edit : edits) {
+            if (edit.getPosition() < 0 || edit.getDelete() < 0 || edit.getPosition() + (long) edit.getDelete() > length) {
+                throw new InvalidDraftPatchException("Edit at " + edit.getPosition() + " deleting " + edit.getDelete()
+                        + " characters is outside a text of length " + length);
+            }
+            length += (edit.getInsert() == null ? 0 : edit.getInsert().length()) - edit.getDelete();
+        }
+    }
+
+    private static boolean apply(StringBuilder text, List<TextEditDTO> edits) {
+        if (edits == null || edits.isEmpty()) {
+            return false;
+        }
+        for (TextEditDTO edit : edits) {
+            String insert = edit.getInsert() == null ? "" : edit.getInsert();
+            text.replace(edit.getPosition(), edit.getPosition() + edit.getDelete(), insert);
+        }
+        return true;
+    }
+
+    private static final class Draft {
+        private final StringBuilder title;
+        private final StringBuilder content;
+        private DraftText base;
+        private long version;
+        private boolean dirty;
+        private long lastTouched;
+        private volatile boolean discarded;
+
+        private Draft(DraftText base, long version, long lastTouched) {
+            this.title = new StringBuilder(base.title() == null ? "" : base.title());
+            this.content = new StringBuilder(base.content() == null ? "" : base.content());
+            this.base = base;
+            this.version = version;
+            this.lastTouched = lastTouched;
+        }
+    }
+}
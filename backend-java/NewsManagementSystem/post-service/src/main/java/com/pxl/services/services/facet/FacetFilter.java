@@ -0,0 +1,24 @@
+package com.pxl.services.services.facet;
+
+import com.pxl.services.domain.ReviewStatus;
+
+import java.util.Set;
+
+/**
+ * Values are OR-ed within a facet and facets are AND-ed together; an empty set leaves that
+ * facet unrestricted. This is the only shape of filter the facet index answers: there is no
+ * negation and no OR across facets. Arbitrary boolean filters go through
+ * {@link com.pxl.services.services.criteria.PostCriteriaSearch}, which runs them in the database.
+ */
+public record FacetFilter(Set<ReviewStatus> statuses, Set<String> categories, Set<String> authors) {
+
+    public FacetFilter {
+        statuses = statuses == null ? Set.of() : Set.copyOf(statuses);
+        categories = categories == null ? Set.of() : Set.copyOf(categories);
+        authors = authors == null ? Set.of() : Set.copyOf(authors);
+    }
+
+    public static FacetFilter none() {
+        return new FacetFilter(null, null, null);
+    }
+}
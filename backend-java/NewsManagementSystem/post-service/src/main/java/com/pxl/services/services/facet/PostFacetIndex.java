@@ -0,0 +1,269 @@
+package com.pxl.services.services.facet;
+
+import com.pxl.services.domain.DTO.PostFacetCountsDTO;
+import com.pxl.services.domain.Post;
+import com.pxl.services.domain.PostFacets;
+import com.pxl.services.domain.ReviewStatus;
+import com.pxl.services.domain.event.PostChangedEvent;
+import com.pxl.services.repository.PostRepository;
+import com.pxl.services.services.index.KeysetPages;
+import com.pxl.services.services.index.PostChangeBuffer;
+import org.roaringbitmap.longlong.LongIterator;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * One compressed bitmap of post ids per status, category and author value. Filters and facet
+ * counts are answered with bitmap intersections and unions instead of queries. Built once at
+ * startup from pages of a content-free projection and kept current through {@link PostChangedEvent}s;
+ * events that arrive during the build are replayed after it.
+ */
+@Component
+public class PostFacetIndex {
+    private static final Logger log = LoggerFactory.getLogger(PostFacetIndex.class);
+
+    private final PostRepository postRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final PostChangeBuffer changes = new PostChangeBuffer(this::apply);
+    private final Roaring64Bitmap all = new Roaring64Bitmap();
+    private final Map<ReviewStatus, Roaring64Bitmap> byStatus = new EnumMap<>(ReviewStatus.class);
+    private final Map<String, Roaring64Bitmap> byCategory = new HashMap<>();
+    private final Map<String, Roaring64Bitmap> byAuthor = new HashMap<>();
+    // post id -> indexed values, so a post can be moved or removed without loading it
+    private final Map<Long, PostFacets> facets = new HashMap<>();
+
+    public PostFacetIndex(PostRepository postRepository) {
+        this.postRepository = postRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        changes.hold();
+        try {
+            lock.writeLock().lock();
+            try {
+                all.clear();
+                byStatus.clear();
+                byCategory.clear();
+                byAuthor.clear();
+                facets.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            long rows = KeysetPages.forEach(postRepository::findFacetsPageAfterId, PostFacets::id, page -> {
+                lock.writeLock().lock();
+                try {
+                    page.forEach(this::add);
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            });
+            log.info("Facet index built with {} posts", rows);
+        } finally {
+            changes.release();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        changes.offer(event);
+    }
+
+    private void apply(PostChangedEvent event) {
+        switch (event.type()) {
+            case CREATED, UPDATED -> index(event.post());
+            case STATUS_CHANGED -> updateStatus(event.postId(), event.status());
+            case DELETED -> remove(event.postId());
+        }
+    }
+
+    public void index(Post post) {
+        if (post == null || post.getId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeFacets(post.getId());
+            add(PostFacets.of(post));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void updateStatus(Long postId, ReviewStatus status) {
+        lock.writeLock().lock();
+        try {
+            PostFacets current = facets.get(postId);
+            if (current != null && current.status() != status) {
+                removeFacets(postId);
+                add(new PostFacets(postId, status, current.category(), current.author()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            removeFacets(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} matching ids, highest (newest) first.
+     */
+    public List<Long> filter(FacetFilter filter, int limit) {
+        lock.readLock().lock();
+        try {
+            Roaring64Bitmap matches = match(filter.statuses(), filter.categories(), filter.authors());
+            List<Long> ids = new ArrayList<>(Math.min(limit, (int) Math.min(matches.getLongCardinality(), Integer.MAX_VALUE)));
+            LongIterator iterator = matches.getReverseLongIterator();
+            while (iterator.hasNext() && ids.size() < limit) {
+                ids.add(iterator.next());
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Counts per value of every facet. Each facet is counted against the filters on the other
+     * facets only, so selecting one status still shows how many posts the other statuses hold.
+     */
+    public PostFacetCountsDTO counts(FacetFilter filter) {
+        lock.readLock().lock();
+        try {
+            Map<String, Long> statusCounts = new TreeMap<>();
+            Roaring64Bitmap statusBase = match(Set.of(), filter.categories(), filter.authors());
+            byStatus.forEach((status, bitmap) -> statusCounts.put(status.name(), andCardinality(bitmap, statusBase)));
+            return PostFacetCountsDTO.builder()
+                    .total(match(filter.statuses(), filter.categories(), filter.authors()).getLongCardinality())
+                    .status(statusCounts)
+                    .category(countValues(byCategory, match(filter.statuses(), Set.of(), filter.authors())))
+                    .author(countValues(byAuthor, match(filter.statuses(), filter.categories(), Set.of())))
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean hasStatus(Long postId, ReviewStatus status) {
+        lock.readLock().lock();
+        try {
+            PostFacets current = facets.get(postId);
+            return current != null && current.status() == status;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return facets.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Roaring64Bitmap match(Set<ReviewStatus> statuses, Set<String> categories, Set<String> authors) {
+        Roaring64Bitmap result = all.clone();
+        if (!statuses.isEmpty()) {
+            result.and(union(statuses.stream().map(byStatus::get).toList()));
+        }
+        if (!categories.isEmpty()) {
+            result.and(union(categories.stream().map(byCategory::get).toList()));
+        }
+        if (!authors.isEmpty()) {
+            result.and(union(authors.stream().map(byAuthor::get).toList()));
+        }
+        return result;
+    }
+
+    private static Roaring64Bitmap union(List<Roaring64Bitmap> bitmaps) {
+        Roaring64Bitmap union = new Roaring64Bitmap();
+        for (Roaring64Bitmap bitmap : bitmaps) {
+            if (bitmap != null) {
+                union.or(bitmap);
+            }
+        }
+        return union;
+    }
+
+    private static Map<String, Long> countValues(Map<String, Roaring64Bitmap> values, Roaring64Bitmap base) {
+        Map<String, Long> counts = new TreeMap<>();
+        values.forEach((value, bitmap) -> {
+            long count = andCardinality(bitmap, base);
+            if (count > 0) {
+                counts.put(value, count);
+            }
+        });
+        return counts;
+    }
+
+    private static long andCardinality(Roaring64Bitmap bitmap, Roaring64Bitmap base) {
+        Roaring64Bitmap intersection = bitmap.clone();
+        intersection.and(base);
+        return intersection.getLongCardinality();
+    }
+
+    private void add(PostFacets post) {
+        long id = post.id();
+        all.addLong(id);
+        facets.put(post.id(), post);
+        if (post.status() != null) {
+            byStatus.computeIfAbsent(post.status(), key -> new Roaring64Bitmap()).addLong(id);
+        }
+        if (post.category() != null) {
+            byCategory.computeIfAbsent(post.category(), key -> new Roaring64Bitmap()).addLong(id);
+        }
+        if (post.author() != null) {
+            byAuthor.computeIfAbsent(post.author(), key -> new Roaring64Bitmap()).addLong(id);
+        }
+    }
+
+    private void removeFacets(Long postId) {
+        PostFacets post = facets.remove(postId);
+        if (post == null) {
+            return;
+        }
+        all.removeLong(postId);
+        removeFrom(byStatus, post.status(), postId);
+        removeFrom(byCategory, post.category(), postId);
+        removeFrom(byAuthor, post.author(), postId);
+    }
+
+    private static <K> void removeFrom(Map<K, Roaring64Bitmap> bitmaps, K key, long id) {
+        if (key == null) {
+            return;
+        }
+        Roaring64Bitmap bitmap = bitmaps.get(key);
+        if (bitmap != null) {
+            bitmap.removeLong(id);
+            // Drop empty values so facet counts and memory do not keep old categories and authors
+            if (bitmap.isEmpty()) {
+                bitmaps.remove(key);
+            }
+        }
+    }
+}
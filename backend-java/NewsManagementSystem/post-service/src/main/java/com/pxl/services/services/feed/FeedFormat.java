@@ -0,0 +1,25 @@
+package com.pxl.services.services.feed;
+
+import org.springframework.http.MediaType;
+
+public enum FeedFormat {
+    RSS("rss", "application/rss+xml;charset=UTF-8"),
+    ATOM("atom", "application/atom+xml;charset=UTF-8"),
+    JSON("json", "application/feed+json;charset=UTF-8");
+
+    private final String extension;
+    private final MediaType mediaType;
+
+    FeedFormat(String extension, String mediaType) {
+        this.extension = extension;
+        this.mediaType = MediaType.parseMediaType(mediaType);
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+}
@@ -0,0 +1,196 @@
+package com.pxl.services.services.feed;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pxl.services.domain.DTO.PostSummaryDTO;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.ByteArrayOutputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serializes a feed to RSS 2.0, Atom 1.0 or JSON Feed 1.1. Items link to the post's rendered
+ * HTML. Output depends only on the channel and the entries, so equal feeds give equal bytes on
+ * every replica.
+ */
+public final class FeedWriter {
+    private static final XMLOutputFactory XML = XMLOutputFactory.newFactory();
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final String ATOM_NS = "http://www.w3.org/2005/Atom";
+    private static final String DC_NS = "http://purl.org/dc/elements/1.1/";
+
+    private FeedWriter() {
+    }
+
+    public record Channel(String title, String siteUrl, String baseUrl, String category) {
+
+        public String selfUrl(FeedFormat format) {
+            String url = baseUrl + "/api/posts/feed/" + format.extension();
+            return category == null ? url : url + "?category=" + URLEncoder.encode(category, StandardCharsets.UTF_8);
+        }
+
+        public String itemUrl(Long postId) {
+            return baseUrl + "/api/posts/" + postId + "/html";
+        }
+
+        public String fullTitle() {
+            return category == null ? title : title + " - " + category;
+        }
+    }
+
+    public static byte[] write(FeedFormat format, Channel channel, List<PostSummaryDTO> entries) {
+        try {
+            return switch (format) {
+                case RSS -> rss(channel, entries);
+                case ATOM -> atom(channel, entries);
+                case JSON -> json(channel, entries);
+            };
+        } catch (XMLStreamException | JsonProcessingException e) {
+            throw new IllegalStateException("Failed to write " + format + " feed", e);
+        }
+    }
+
+    private static byte[] rss(Channel channel, List<PostSummaryDTO> entries) throws XMLStreamException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        XMLStreamWriter xml = XML.createXMLStreamWriter(out, "UTF-8");
+        xml.writeStartDocument("UTF-8", "1.0");
+        xml.writeStartElement("rss");
+        xml.writeAttribute("version", "2.0");
+        xml.writeNamespace("atom", ATOM_NS);
+        xml.writeNamespace("dc", DC_NS);
+        xml.writeStartElement("channel");
+        element(xml, "title", channel.fullTitle());
+        element(xml, "link", channel.siteUrl());
+        element(xml, "description", channel.fullTitle());
+        xml.writeEmptyElement(ATOM_NS, "link");
+        xml.writeAttribute("href", channel.selfUrl(FeedFormat.RSS));
+        xml.writeAttribute("rel", "self");
+        xml.writeAttribute("type", "application/rss+xml");
+        element(xml, "lastBuildDate", DateTimeFormatter.RFC_1123_DATE_TIME.format(zoned(lastUpdate(entries))));
+        for (PostSummaryDTO entry : entries) {
+            xml.writeStartElement("item");
+            element(xml, "title", entry.getTitle());
+            element(xml, "link", channel.itemUrl(entry.getId()));
+            xml.writeStartElement("guid");
+            xml.writeAttribute("isPermaLink", "true");
+            xml.writeCharacters(channel.itemUrl(entry.getId()));
+            xml.writeEndElement();
+            element(xml, "description", entry.getExcerpt());
+            xml.writeStartElement(DC_NS, "creator");
+            xml.writeCharacters(nullToEmpty(entry.getAuthor()));
+            xml.writeEndElement();
+            element(xml, "category", entry.getCategory());
+            element(xml, "pubDate", DateTimeFormatter.RFC_1123_DATE_TIME.format(zoned(entry.getCreatedAt())));
+            xml.writeEndElement();
+        }
+        xml.writeEndElement();
+        xml.writeEndElement();
+        xml.writeEndDocument();
+        xml.close();
+        return out.toByteArray();
+    }
+
+    private static byte[] atom(Channel channel, List<PostSummaryDTO> entries) throws XMLStreamException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        XMLStreamWriter xml = XML.createXMLStreamWriter(out, "UTF-8");
+        xml.writeStartDocument("UTF-8", "1.0");
+        xml.writeStartElement("feed");
+        xml.writeDefaultNamespace(ATOM_NS);
+        element(xml, "title", channel.fullTitle());
+        element(xml, "id", channel.selfUrl(FeedFormat.ATOM));
+        element(xml, "updated", rfc3339(lastUpdate(entries)));
+        link(xml, "self", channel.selfUrl(FeedFormat.ATOM));
+        link(xml, "alternate", channel.siteUrl());
+        for (PostSummaryDTO entry : entries) {
+            xml.writeStartElement("entry");
+            element(xml, "title", entry.getTitle());
+            element(xml, "id", channel.itemUrl(entry.getId()));
+            link(xml, "alternate", channel.itemUrl(entry.getId()));
+            element(xml, "published", rfc3339(entry.getCreatedAt()));
+            element(xml, "updated", rfc3339(entry.getUpdatedAt()));
+            xml.writeStartElement("author");
+            element(xml, "name", entry.getAuthor());
+            xml.writeEndElement();
+            if (entry.getCategory() != null) {
+                xml.writeEmptyElement("category");
+                xml.writeAttribute("term", entry.getCategory());
+            }
+            element(xml, "summary", entry.getExcerpt());
+            xml.writeEndElement();
+        }
+        xml.writeEndElement();
+        xml.writeEndDocument();
+        xml.close();
+        return out.toByteArray();
+    }
+
+    private static byte[] json(Channel channel, List<PostSummaryDTO> entries) throws JsonProcessingException {
+        Map<String, Object> feed = new LinkedHashMap<>();
+        feed.put("version", "https://jsonfeed.org/version/1.1");
+        feed.put("title", channel.fullTitle());
+        feed.put("home_page_url", channel.siteUrl());
+        feed.put("feed_url", channel.selfUrl(FeedFormat.JSON));
+        List<Map<String, Object>> items = new ArrayList<>(entries.size());
+        for (PostSummaryDTO entry : entries) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("id", String.valueOf(entry.getId()));
+            item.put("url", channel.itemUrl(entry.getId()));
+            item.put("title", nullToEmpty(entry.getTitle()));
+            item.put("summary", nullToEmpty(entry.getExcerpt()));
+            item.put("date_published", rfc3339(entry.getCreatedAt()));
+            item.put("date_modified", rfc3339(entry.getUpdatedAt()));
+            item.put("authors", List.of(Map.of("name", nullToEmpty(entry.getAuthor()))));
+            item.put("tags", entry.getCategory() == null ? List.of() : List.of(entry.getCategory()));
+            items.add(item);
+        }
+        feed.put("items", items);
+        return JSON.writeValueAsBytes(feed);
+    }
+
+    private static void element(XMLStreamWriter xml, String name, String text) throws XMLStreamException {
+        xml.writeStartElement(name);
+        xml.writeCharacters(nullToEmpty(text));
+        xml.writeEndElement();
+    }
+
+    private static void link(XMLStreamWriter xml, String rel, String href) throws XMLStreamException {
+        xml.writeEmptyElement("link");
+        xml.writeAttribute("rel", rel);
+        xml.writeAttribute("href", href);
+    }
+
+    private static LocalDateTime lastUpdate(List<PostSummaryDTO> entries) {
+        return entries.stream()
+                .map(PostSummaryDTO::getUpdatedAt)
+                .filter(updatedAt -> updatedAt != null)
+                .max(LocalDateTime::compareTo)
+                .orElse(null);
+    }
+
+    private static ZonedDateTime zoned(LocalDateTime dateTime) {
+        return dateTime == null
+                ? Instant.EPOCH.atZone(ZoneOffset.UTC)
+                : dateTime.atZone(ZoneId.systemDefault()).withZoneSameInstant(ZoneOffset.UTC);
+    }
+
+    private static String rfc3339(LocalDateTime dateTime) {
+        return DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(zoned(dateTime).withNano(0));
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
@@ -0,0 +1,245 @@
+package com.pxl.services.services.feed;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pxl.services.domain.DTO.PostSummaryDTO;
+import com.pxl.services.domain.Post;
+import com.pxl.services.domain.ReviewStatus;
+import com.pxl.services.domain.event.PostChangedEvent;
+import com.pxl.services.repository.PostRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Keeps the latest published posts, overall and per category, as ready-to-send RSS, Atom and
+ * JSON feeds. A feed's entries are read from the database once and then follow
+ * {@link PostChangedEvent}s: a post entering or leaving PUBLISHED is inserted or removed in
+ * place, and only a removal from a full feed reads the feed again to refill its last slot.
+ * A change drops the serialized bytes, which the next request rebuilds for all three formats.
+ */
+@Component
+public class PostFeeds {
+    private static final Logger log = LoggerFactory.getLogger(PostFeeds.class);
+    // Same order as findFirstSummaryPage: newest first
+    private static final Comparator<PostSummaryDTO> NEWEST_FIRST = Comparator
+            .comparing(PostSummaryDTO::getCreatedAt)
+            .thenComparing(PostSummaryDTO::getId)
+            .reversed();
+
+    private final PostRepository postRepository;
+    private final int size;
+    private final String title;
+    private final String siteUrl;
+    private final String baseUrl;
+    private final Feed overall;
+    private final Cache<String, Feed> categories;
+
+    public PostFeeds(PostRepository postRepository,
+                     @Value("${posts.feeds.size:50}") int size,
+                     @Value("${posts.feeds.max-categories:256}") long maxCategories,
+                     @Value("${posts.feeds.title:News}") String title,
+                     @Value("${posts.feeds.site-url:http://localhost:4200/articles}") String siteUrl,
+                     @Value("${posts.feeds.base-url:http://localhost:8086/post}") String baseUrl) {
+        this.postRepository = postRepository;
+        this.size = size;
+        this.title = title;
+        this.siteUrl = siteUrl;
+        this.baseUrl = baseUrl;
+        this.overall = new Feed(null);
+        this.categories = Caffeine.newBuilder()
+                .maximumSize(maxCategories)
+                .build();
+    }
+
+    public FeedBody getFeed(FeedFormat format, String category) {
+        Feed feed = category == null || category.isBlank()
+                ? overall
+                : categories.get(category.trim(), Feed::new);
+        return feed.rendered().get(format);
+    }
+
+    /**
+     * Runs after the commit so that a reload never reads the database from before the change.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        try {
+            switch (event.type()) {
+                case CREATED, UPDATED -> {
+                    if (event.status() == ReviewStatus.PUBLISHED) {
+                        publish(summaryOf(event.post()));
+                    } else {
+                        remove(event.postId());
+                    }
+                }
+                case STATUS_CHANGED -> {
+                    if (event.status() == ReviewStatus.PUBLISHED) {
+                        Optional.ofNullable(event.summary())
+                                .or(() -> postRepository.findSummaryById(event.postId()))
+                                .filter(summary -> summary.getStatus() == ReviewStatus.PUBLISHED)
+                                .ifPresentOrElse(this::publish, () -> remove(event.postId()));
+                    } else {
+                        remove(event.postId());
+                    }
+                }
+                case DELETED -> remove(event.postId());
+            }
+        } catch (Exception e) {
+            // A feed that missed a change would stay wrong, so start over from the database
+            log.error("Failed to update feeds for post {}: {}", event.postId(), e.getMessage());
+            overall.invalidate();
+            categories.invalidateAll();
+        }
+    }
+
+    private void publish(PostSummaryDTO summary) {
+        overall.put(summary);
+        // The post may have moved out of another category
+        categories.asMap().forEach((category, feed) -> {
+            if (category.equals(summary.getCategory())) {
+                feed.put(summary);
+            } else {
+                feed.remove(summary.getId());
+            }
+        });
+    }
+
+    private void remove(Long postId) {
+        overall.remove(postId);
+        categories.asMap().values().forEach(feed -> feed.remove(postId));
+    }
+
+    private static PostSummaryDTO summaryOf(Post post) {
+        return PostSummaryDTO.builder()
+                .id(post.getId())
+                .title(post.getTitle())
+                .excerpt(Post.excerptOf(post.getContent()))
+                .author(post.getAuthor())
+                .category(post.getCategory())
+                .status(post.getStatus())
+                .createdAt(post.getCreatedAt())
+                .updatedAt(post.getUpdatedAt())
+                .build();
+    }
+
+    public record FeedBody(byte[] body, String eTag, MediaType mediaType) {
+    }
+
+    /**
+     * One feed's entries, or {@code null} until they are read. All changes hold the monitor;
+     * readers only take it when the bytes have to be rebuilt.
+     */
+    private final class Feed {
+        private final String category;
+        private List<PostSummaryDTO> entries;
+        private volatile Map<FeedFormat, FeedBody> rendered;
+
+        Feed(String category) {
+            this.category = category;
+        }
+
+        Map<FeedFormat, FeedBody> rendered() {
+            Map<FeedFormat, FeedBody> current = rendered;
+            if (current != null) {
+                return current;
+            }
+            synchronized (this) {
+                if (rendered == null) {
+                    if (entries == null) {
+                        entries = new ArrayList<>(postRepository.findFirstSummaryPage(
+                                ReviewStatus.PUBLISHED, category, PageRequest.of(0, size)));
+                    }
+                    rendered = render();
+                }
+                return rendered;
+            }
+        }
+
+        synchronized void put(PostSummaryDTO summary) {
+            if (entries == null) {
+                return;
+            }
+            boolean replaced = entries.removeIf(entry -> entry.getId().equals(summary.getId()));
+            int position = insertionPoint(summary);
+            if (position >= size) {
+                // Older than everything kept; if it was kept before, the slot it leaves must be refilled
+                if (replaced) {
+                    invalidate();
+                }
+                return;
+            }
+            entries.add(position, summary);
+            if (entries.size() > size) {
+                entries.remove(entries.size() - 1);
+            }
+            rendered = null;
+        }
+
+        synchronized void remove(Long postId) {
+            if (entries == null) {
+                return;
+            }
+            boolean full = entries.size() >= size;
+            if (entries.removeIf(entry -> entry.getId().equals(postId))) {
+                if (full) {
+                    invalidate();
+                } else {
+                    rendered = null;
+                }
+            }
+        }
+
+        synchronized void invalidate() {
+            entries = null;
+            rendered = null;
+        }
+
+        private int insertionPoint(PostSummaryDTO summary) {
+            int position = 0;
+            while (position < entries.size() && NEWEST_FIRST.compare(entries.get(position), summary) < 0) {
+                position++;
+            }
+            return position;
+        }
+
+        private Map<FeedFormat, FeedBody> render() {
+            FeedWriter.Channel channel = new FeedWriter.Channel(title, siteUrl, baseUrl, category);
+            List<PostSummaryDTO> snapshot = List.copyOf(entries);
+            Map<FeedFormat, byte[]> bodies = new EnumMap<>(FeedFormat.class);
+            for (FeedFormat format : FeedFormat.values()) {
+                bodies.put(format, FeedWriter.write(format, channel, snapshot));
+            }
+            // The JSON carries every field the other formats do, so its hash versions all three
+            String version = HexFormat.of().formatHex(sha256(bodies.get(FeedFormat.JSON))).substring(0, 32);
+            Map<FeedFormat, FeedBody> result = new EnumMap<>(FeedFormat.class);
+            bodies.forEach((format, body) -> result.put(format,
+                    new FeedBody(body, "\"" + version + "-" + format.extension() + "\"", format.mediaType())));
+            log.debug("Rendered {} feed with {} entries", category == null ? "overall" : category, snapshot.size());
+            return result;
+        }
+    }
+
+    private static byte[] sha256(byte[] bytes) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(bytes);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
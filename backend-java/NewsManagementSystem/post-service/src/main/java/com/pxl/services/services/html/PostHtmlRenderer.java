@@ -0,0 +1,66 @@
+package com.pxl.services.services.html;
+
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.safety.Safelist;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+/**
+ * Turns post content into HTML that is safe to embed. Content written in the editor is already
+ * HTML and only goes through the sanitizer; anything else, such as seeded or imported text, is
+ * read as markdown first. Bump {@link #VERSION} whenever the output for the same content changes,
+ * so stored renderings are redone and clients holding the old hash stop matching.
+ */
+public final class PostHtmlRenderer {
+    public static final int VERSION = 1;
+
+    private static final Pattern BLOCK_TAG = Pattern.compile("<(p|div|h[1-6]|ul|ol|blockquote|pre|br)[\\s/>]",
+            Pattern.CASE_INSENSITIVE);
+    private static final Parser MARKDOWN = Parser.builder().build();
+    private static final HtmlRenderer MARKDOWN_RENDERER = HtmlRenderer.builder().build();
+    private static final Safelist SAFELIST = Safelist.relaxed()
+            .addTags("s", "del", "hr")
+            // The editor aligns and indents through ql-* classes
+            .addAttributes("p", "class")
+            .addAttributes("li", "class")
+            .addAttributes("span", "class")
+            .addAttributes("pre", "class")
+            .addProtocols("img", "src", "data")
+            .addEnforcedAttribute("a", "rel", "nofollow noopener noreferrer");
+    private static final Document.OutputSettings OUTPUT = new Document.OutputSettings().prettyPrint(false);
+
+    private PostHtmlRenderer() {
+    }
+
+    public static String render(String content) {
+        if (content == null || content.isBlank()) {
+            return "";
+        }
+        String html = BLOCK_TAG.matcher(content).find()
+                ? content
+                : MARKDOWN_RENDERER.render(MARKDOWN.parse(content));
+        return Jsoup.clean(html, "", SAFELIST, OUTPUT).strip();
+    }
+
+    /**
+     * SHA-256 of the content together with {@link #VERSION}, in hex. Equal hashes mean equal
+     * renderings, which makes the hash usable as an entity tag.
+     */
+    public static String hash(String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((VERSION + ":").getBytes(StandardCharsets.UTF_8));
+            digest.update((content == null ? "" : content).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
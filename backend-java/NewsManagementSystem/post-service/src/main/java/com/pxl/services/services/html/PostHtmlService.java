@@ -0,0 +1,79 @@
+package com.pxl.services.services.html;
+
+import com.pxl.services.domain.Post;
+import com.pxl.services.domain.PostHtml;
+import com.pxl.services.domain.event.PostChangedEvent;
+import com.pxl.services.repository.PostHtmlRepository;
+import com.pxl.services.services.PostService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Renders post content to HTML when a post is created or updated and stores it in post_html,
+ * so reading the HTML is a single row lookup. Posts written before rendering existed, or by an
+ * older {@link PostHtmlRenderer#VERSION}, are rendered on their first read.
+ */
+@Service
+public class PostHtmlService {
+    private static final Logger log = LoggerFactory.getLogger(PostHtmlService.class);
+
+    private final PostHtmlRepository postHtmlRepository;
+    private final PostService postService;
+
+    public PostHtmlService(PostHtmlRepository postHtmlRepository, PostService postService) {
+        this.postHtmlRepository = postHtmlRepository;
+        this.postService = postService;
+    }
+
+    public Optional<PostHtml> getHtml(Long postId) {
+        Optional<PostHtml> stored = postHtmlRepository.findById(postId);
+        if (stored.isPresent() && stored.get().getRendererVersion() == PostHtmlRenderer.VERSION) {
+            return stored;
+        }
+        return postService.getPostById(postId).map(this::render);
+    }
+
+    /**
+     * Runs after the post's own transaction has committed, in a new one, so rendering can neither
+     * roll back the write nor fail the request that made it. A rendering that fails is only
+     * logged; {@link #getHtml} renders the post on its first read instead.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.type() != PostChangedEvent.ChangeType.CREATED && event.type() != PostChangedEvent.ChangeType.UPDATED) {
+            return;
+        }
+        try {
+            render(event.post());
+        } catch (Exception e) {
+            log.warn("Failed to render HTML of post {}, it will be rendered on first read: {}",
+                    event.postId(), e.getMessage());
+        }
+    }
+
+    private PostHtml render(Post post) {
+        String hash = PostHtmlRenderer.hash(post.getContent());
+        Optional<PostHtml> stored = postHtmlRepository.findById(post.getId());
+        if (stored.isPresent() && stored.get().getContentHash().equals(hash)) {
+            return stored.get();
+        }
+        PostHtml html = PostHtml.builder()
+                .postId(post.getId())
+                .contentHash(hash)
+                .rendererVersion(PostHtmlRenderer.VERSION)
+                .html(PostHtmlRenderer.render(post.getContent()))
+                .renderedAt(LocalDateTime.now())
+                .build();
+        log.debug("Rendered HTML of post {}", post.getId());
+        return postHtmlRepository.save(html);
+    }
+}
@@ -0,0 +1,42 @@
+package com.pxl.services.services.index;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * Reads a table in id order one page at a time, each page starting after the last id of the
+ * previous one, so an index rebuild holds a single page in memory however many posts exist.
+ */
+public final class KeysetPages {
+    public static final int PAGE_SIZE = 500;
+
+    private KeysetPages() {
+    }
+
+    /**
+     * Hands every page returned by {@code pageAfter} to {@code consumer} and returns the number of rows read.
+     */
+    public static <T> long forEach(BiFunction<Long, Pageable, List<T>> pageAfter, ToLongFunction<T> idOf,
+                                   Consumer<List<T>> consumer) {
+        Pageable pageable = PageRequest.of(0, PAGE_SIZE);
+        long afterId = 0;
+        long rows = 0;
+        while (true) {
+            List<T> page = pageAfter.apply(afterId, pageable);
+            if (page.isEmpty()) {
+                return rows;
+            }
+            consumer.accept(page);
+            rows += page.size();
+            if (page.size() < PAGE_SIZE) {
+                return rows;
+            }
+            afterId = idOf.applyAsLong(page.get(page.size() - 1));
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.pxl.services.services.index;
+
+import com.pxl.services.domain.event.PostChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Sits between an in-memory index and its {@link PostChangedEvent}s. While the index is rebuilt
+ * from the database, events are held back instead of applied, and replayed in order once the
+ * rebuild is done. A change that committed after its row was read is then applied on top of the
+ * stale row, and one that committed before is harmlessly applied twice.
+ */
+public class PostChangeBuffer {
+    private static final Logger log = LoggerFactory.getLogger(PostChangeBuffer.class);
+
+    private final Consumer<PostChangedEvent> apply;
+    // null while events are applied straight away
+    private List<PostChangedEvent> held;
+
+    public PostChangeBuffer(Consumer<PostChangedEvent> apply) {
+        this.apply = apply;
+    }
+
+    public void offer(PostChangedEvent event) {
+        synchronized (this) {
+            if (held != null) {
+                held.add(event);
+                return;
+            }
+        }
+        apply.accept(event);
+    }
+
+    public synchronized void hold() {
+        if (held == null) {
+            held = new ArrayList<>();
+        }
+    }
+
+    /**
+     * Replays the held events, including any that arrive during the replay, then goes back to
+     * applying events as they come.
+     */
+    public void release() {
+        while (true) {
+            List<PostChangedEvent> events;
+            synchronized (this) {
+                if (held == null || held.isEmpty()) {
+                    held = null;
+                    return;
+                }
+                events = held;
+                held = new ArrayList<>();
+            }
+            for (PostChangedEvent event : events) {
+                try {
+                    apply.accept(event);
+                } catch (RuntimeException e) {
+                    log.warn("Failed to replay {} of post {}: {}", event.type(), event.postId(), e.getMessage());
+                }
+            }
+        }
+    }
+}
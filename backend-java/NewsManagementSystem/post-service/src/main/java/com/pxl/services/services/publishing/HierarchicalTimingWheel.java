@@ -0,0 +1,112 @@
+package com.pxl.services.services.publishing;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hierarchical timing wheel (Varghese &amp; Lauck). Level 0 has one bucket per tick, and each
+ * level above covers {@code wheelSize} times the span of the level below. Adding a timer
+ * is O(1): it goes into the lowest level whose span reaches its expiry. When a lower level
+ * wraps around, the matching bucket one level up is cascaded down. Each timer therefore
+ * moves at most once per level, however far ahead it was scheduled. Not thread-safe.
+ */
+public class HierarchicalTimingWheel<T> {
+    private final long tickMillis;
+    private final int wheelSize;
+    private final long[] levelSpans;
+    private final List<List<ArrayDeque<Timer<T>>>> levels = new ArrayList<>();
+    private final List<T> overdue = new ArrayList<>();
+    private long currentTick;
+    private int size;
+
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, int levelCount, long startMillis) {
+        if (tickMillis < 1 || wheelSize < 2 || levelCount < 1) {
+            throw new IllegalArgumentException("Invalid timing wheel dimensions");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.levelSpans = new long[levelCount];
+        long span = 1;
+        for (int level = 0; level < levelCount; level++) {
+            levelSpans[level] = span;
+            span = Math.multiplyExact(span, wheelSize);
+            List<ArrayDeque<Timer<T>>> buckets = new ArrayList<>(wheelSize);
+            for (int bucket = 0; bucket < wheelSize; bucket++) {
+                buckets.add(new ArrayDeque<>());
+            }
+            levels.add(buckets);
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * Schedules {@code item} to expire at {@code expiresAtMillis}; anything already due is
+     * returned by the next {@link #advanceTo}.
+     */
+    public void add(T item, long expiresAtMillis) {
+        // Rounded up so a timer never fires before its time
+        long expiryTick = Math.ceilDiv(expiresAtMillis, tickMillis);
+        place(new Timer<>(item, expiryTick));
+        size++;
+    }
+
+    /**
+     * Moves the wheel forward to {@code nowMillis} and returns every item that expired on the way.
+     */
+    public List<T> advanceTo(long nowMillis) {
+        List<T> expired = new ArrayList<>(overdue);
+        overdue.clear();
+        long targetTick = nowMillis / tickMillis;
+        while (currentTick < targetTick) {
+            currentTick++;
+            // Highest level first, so timers cascaded into a lower bucket that is due this tick are seen
+            for (int level = levelSpans.length - 1; level > 0; level--) {
+                if (currentTick % levelSpans[level] == 0) {
+                    ArrayDeque<Timer<T>> bucket = bucket(level, currentTick);
+                    List<Timer<T>> cascaded = new ArrayList<>(bucket);
+                    bucket.clear();
+                    cascaded.forEach(this::place);
+                }
+            }
+            ArrayDeque<Timer<T>> due = bucket(0, currentTick);
+            due.forEach(timer -> expired.add(timer.item()));
+            due.clear();
+        }
+        expired.addAll(overdue);
+        overdue.clear();
+        size -= expired.size();
+        return expired;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long spanMillis() {
+        return levelSpans[levelSpans.length - 1] * wheelSize * tickMillis;
+    }
+
+    private void place(Timer<T> timer) {
+        if (timer.expiryTick() <= currentTick) {
+            overdue.add(timer.item());
+            return;
+        }
+        for (int level = 0; level < levelSpans.length; level++) {
+            // Slots of this level between now and the expiry; fewer than a full turn keeps buckets unambiguous
+            long slots = timer.expiryTick() / levelSpans[level] - currentTick / levelSpans[level];
+            if (slots < wheelSize) {
+                bucket(level, timer.expiryTick()).add(timer);
+                return;
+            }
+        }
+        throw new IllegalArgumentException("Expiry is beyond the span of the timing wheel");
+    }
+
+    private ArrayDeque<Timer<T>> bucket(int level, long tick) {
+        return levels.get(level).get((int) ((tick / levelSpans[level]) % wheelSize));
+    }
+
+    private record Timer<T>(T item, long expiryTick) {
+    }
+}
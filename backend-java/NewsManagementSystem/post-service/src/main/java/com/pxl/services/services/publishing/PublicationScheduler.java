@@ -0,0 +1,198 @@
+package com.pxl.services.services.publishing;
+
+import com.pxl.services.domain.DTO.PostSummaryDTO;
+import com.pxl.services.domain.ReviewStatus;
+import com.pxl.services.domain.ScheduledPublication;
+import com.pxl.services.domain.event.PostChangedEvent;
+import com.pxl.services.repository.PostRepository;
+import com.pxl.services.repository.PublisherLeaseRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Publishes approved posts when their {@code publishAt} arrives. Upcoming publications wait in a
+ * {@link HierarchicalTimingWheel} with one-second ticks, and each tick publishes whatever expired
+ * with one batched update. Every replica keeps a wheel, but only the holder of the
+ * {@code post-publisher} lease fires it. A replica reloads all schedules from the database when
+ * it takes over the lease, and again every {@code reload-interval}, to pick up schedules made on
+ * other replicas.
+ */
+@Component
+public class PublicationScheduler {
+    private static final Logger log = LoggerFactory.getLogger(PublicationScheduler.class);
+    private static final String LEASE_NAME = "post-publisher";
+    private static final long TICK_MILLIS = 1000;
+    private static final int WHEEL_SIZE = 64;
+    private static final int LEVELS = 5;
+
+    private final PostRepository postRepository;
+    private final PublisherLeaseRepository leaseRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration leaseDuration;
+    private final int batchSize;
+    private final String instanceId = UUID.randomUUID().toString();
+    // post id -> the publishAt its wheel timer was added for; a timer whose time no longer matches is ignored
+    private final Map<Long, LocalDateTime> scheduled = new HashMap<>();
+    private HierarchicalTimingWheel<Long> wheel = newWheel();
+    private boolean leader;
+
+    public PublicationScheduler(PostRepository postRepository, PublisherLeaseRepository leaseRepository,
+                                ApplicationEventPublisher eventPublisher, PlatformTransactionManager transactionManager,
+                                @Value("${posts.publishing.lease-duration:PT15S}") Duration leaseDuration,
+                                @Value("${posts.publishing.batch-size:500}") int batchSize) {
+        this.postRepository = postRepository;
+        this.leaseRepository = leaseRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.leaseDuration = leaseDuration;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void reload() {
+        List<ScheduledPublication> publications = postRepository.findScheduledPublications();
+        Set<Long> current = publications.stream().map(ScheduledPublication::postId).collect(Collectors.toSet());
+        scheduled.keySet().retainAll(current);
+        publications.forEach(publication -> schedule(publication.postId(), publication.publishAt()));
+        log.debug("{} scheduled publications loaded", scheduled.size());
+    }
+
+    @Scheduled(fixedDelayString = "${posts.publishing.reload-interval:PT1M}")
+    public synchronized void reloadWhileLeader() {
+        if (leader) {
+            reload();
+        }
+    }
+
+    /**
+     * Runs after commit, so a change that rolls back never schedules or cancels a publication.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onPostChanged(PostChangedEvent event) {
+        switch (event.type()) {
+            case CREATED, UPDATED -> {
+                if (event.post().getPublishAt() != null && event.status() == ReviewStatus.APPROVED) {
+                    schedule(event.postId(), event.post().getPublishAt());
+                } else {
+                    scheduled.remove(event.postId());
+                }
+            }
+            case STATUS_CHANGED -> {
+                if (event.status() != ReviewStatus.APPROVED) {
+                    scheduled.remove(event.postId());
+                }
+            }
+            case DELETED -> scheduled.remove(event.postId());
+        }
+    }
+
+    @Scheduled(fixedDelay = TICK_MILLIS)
+    public synchronized void tick() {
+        LocalDateTime now = LocalDateTime.now();
+        boolean wasLeader = leader;
+        leader = tryAcquireLease(now);
+        if (leader && !wasLeader) {
+            log.info("Took over publishing as {}", instanceId);
+            // Another replica may have published or rescheduled while this one was a follower
+            scheduled.clear();
+            wheel = newWheel();
+            reload();
+        }
+
+        List<Long> due = wheel.advanceTo(toEpochMilli(now)).stream()
+                .filter(postId -> {
+                    LocalDateTime publishAt = scheduled.get(postId);
+                    return publishAt != null && !publishAt.isAfter(now);
+                })
+                .distinct()
+                .toList();
+        if (!leader || due.isEmpty()) {
+            return;
+        }
+        for (int from = 0; from < due.size(); from += batchSize) {
+            publish(due.subList(from, Math.min(from + batchSize, due.size())), now);
+        }
+    }
+
+    @PreDestroy
+    public void releaseLease() {
+        if (leader) {
+            leaseRepository.release(LEASE_NAME, instanceId, LocalDateTime.now());
+        }
+    }
+
+    private void publish(List<Long> postIds, LocalDateTime now) {
+        try {
+            // The summaries are loaded in the same transaction, so listeners need not read each post back
+            List<PostSummaryDTO> published = transactionTemplate.execute(tx -> {
+                List<Long> ids = postRepository.findDuePublications(postIds, now);
+                if (ids.isEmpty()) {
+                    return List.of();
+                }
+                postRepository.publishDue(ids, now);
+                return postRepository.findSummariesByIdIn(ids, ReviewStatus.PUBLISHED);
+            });
+            if (published == null || published.isEmpty()) {
+                return;
+            }
+            log.info("Published {} scheduled posts", published.size());
+            published.forEach(summary -> eventPublisher.publishEvent(PostChangedEvent.published(summary)));
+        } catch (Exception e) {
+            log.error("Failed to publish {} scheduled posts, retrying on the next reload: {}", postIds.size(), e.getMessage());
+        } finally {
+            // Forgotten either way: published posts are done, and failed ones come back with the next reload
+            postIds.forEach(scheduled::remove);
+        }
+    }
+
+    private void schedule(Long postId, LocalDateTime publishAt) {
+        if (publishAt.equals(scheduled.put(postId, publishAt))) {
+            return;
+        }
+        try {
+            wheel.add(postId, toEpochMilli(publishAt));
+        } catch (IllegalArgumentException e) {
+            log.warn("Publication of post {} at {} is too far ahead to schedule", postId, publishAt);
+            scheduled.remove(postId);
+        }
+    }
+
+    private boolean tryAcquireLease(LocalDateTime now) {
+        try {
+            return leaseRepository.acquire(LEASE_NAME, instanceId, now, now.plus(leaseDuration)) == 1;
+        } catch (Exception e) {
+            log.warn("Could not renew the publishing lease: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private static HierarchicalTimingWheel<Long> newWheel() {
+        return new HierarchicalTimingWheel<>(TICK_MILLIS, WHEEL_SIZE, LEVELS, System.currentTimeMillis());
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
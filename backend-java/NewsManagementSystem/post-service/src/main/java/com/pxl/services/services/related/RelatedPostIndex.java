@@ -0,0 +1,255 @@
+package com.pxl.services.services.related;
+
+import com.pxl.services.domain.Post;
+import com.pxl.services.domain.ReviewStatus;
+import com.pxl.services.domain.event.PostChangedEvent;
+import com.pxl.services.repository.PostRepository;
+import com.pxl.services.services.index.KeysetPages;
+import com.pxl.services.services.index.PostChangeBuffer;
+import com.pxl.services.services.search.TextTokenizer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Finds posts with similar content through MinHash signatures over word shingles, bucketed
+ * with locality-sensitive hashing. Two posts share a bucket with a probability that rises
+ * steeply around a Jaccard similarity of {@code (1 / BANDS)^(1 / ROWS)} (about 0.42), so a
+ * lookup only scores the handful of posts in the same buckets instead of every post. Built at
+ * startup page by page; events that arrive during the build are replayed after it.
+ */
+@Component
+public class RelatedPostIndex {
+    private static final Logger log = LoggerFactory.getLogger(RelatedPostIndex.class);
+    private static final int SHINGLE_SIZE = 3;
+    private static final int BANDS = 32;
+    private static final int ROWS = 4;
+    private static final int SIGNATURE_LENGTH = BANDS * ROWS;
+    private static final double MIN_SIMILARITY = 0.1;
+    private static final long[] SEEDS = new long[SIGNATURE_LENGTH];
+
+    static {
+        long seed = 0x2545F4914F6CDD1DL;
+        for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+            seed = mix(seed + 0x9E3779B97F4A7C15L);
+            SEEDS[i] = seed;
+        }
+    }
+
+    private final PostRepository postRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final PostChangeBuffer changes = new PostChangeBuffer(this::apply);
+    private final Map<Long, Entry> entries = new HashMap<>();
+    // band key -> ids of the posts whose signature has that band
+    private final Map<Long, Set<Long>> buckets = new HashMap<>();
+
+    public RelatedPostIndex(PostRepository postRepository) {
+        this.postRepository = postRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        changes.hold();
+        try {
+            lock.writeLock().lock();
+            try {
+                entries.clear();
+                buckets.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            KeysetPages.forEach(postRepository::findPageAfterId, Post::getId, page -> {
+                lock.writeLock().lock();
+                try {
+                    page.forEach(this::addPost);
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            });
+            log.info("Related posts index built with {} posts", size());
+        } finally {
+            changes.release();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        changes.offer(event);
+    }
+
+    private void apply(PostChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            switch (event.type()) {
+                case CREATED, UPDATED -> {
+                    removePost(event.postId());
+                    addPost(event.post());
+                }
+                case STATUS_CHANGED -> {
+                    Entry entry = entries.get(event.postId());
+                    if (entry != null) {
+                        entries.put(event.postId(), entry.withStatus(event.status()));
+                    }
+                }
+                case DELETED -> removePost(event.postId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the ids of the published posts most similar to the given post, most similar first.
+     */
+    public List<Long> related(Long postId, int limit) {
+        List<Map.Entry<Long, Double>> scored = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            Entry entry = entries.get(postId);
+            if (entry == null) {
+                return List.of();
+            }
+            Set<Long> candidates = new HashSet<>();
+            for (long bandKey : entry.bandKeys()) {
+                candidates.addAll(buckets.get(bandKey));
+            }
+            candidates.remove(postId);
+            for (Long candidateId : candidates) {
+                Entry candidate = entries.get(candidateId);
+                if (candidate.status() != ReviewStatus.PUBLISHED) {
+                    continue;
+                }
+                double similarity = similarity(entry.signature(), candidate.signature());
+                if (similarity >= MIN_SIMILARITY) {
+                    scored.add(Map.entry(candidateId, similarity));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return scored.stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean contains(Long postId) {
+        lock.readLock().lock();
+        try {
+            return entries.containsKey(postId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Estimates the Jaccard similarity of two shingle sets as the fraction of equal minimums.
+     */
+    private static double similarity(int[] first, int[] second) {
+        int equal = 0;
+        for (int i = 0; i < first.length; i++) {
+            if (first[i] == second[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / first.length;
+    }
+
+    private static int[] signature(String text) {
+        List<String> tokens = TextTokenizer.tokenize(text);
+        if (tokens.isEmpty()) {
+            return null;
+        }
+        int[] signature = new int[SIGNATURE_LENGTH];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        int shingles = Math.max(1, tokens.size() - SHINGLE_SIZE + 1);
+        for (int start = 0; start < shingles; start++) {
+            long shingle = shingleHash(tokens, start);
+            for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+                signature[i] = Math.min(signature[i], (int) (mix(shingle ^ SEEDS[i]) >>> 33));
+            }
+        }
+        return signature;
+    }
+
+    private void addPost(Post post) {
+        if (post == null || post.getId() == null) {
+            return;
+        }
+        int[] signature = signature(post.getContent());
+        if (signature == null) {
+            return;
+        }
+        long[] bandKeys = new long[BANDS];
+        for (int band = 0; band < BANDS; band++) {
+            long key = band;
+            for (int row = band * ROWS; row < (band + 1) * ROWS; row++) {
+                key = mix(key * 31 + signature[row]);
+            }
+            bandKeys[band] = key;
+            buckets.computeIfAbsent(key, k -> new HashSet<>()).add(post.getId());
+        }
+        entries.put(post.getId(), new Entry(signature, bandKeys, post.getStatus()));
+    }
+
+    private void removePost(Long postId) {
+        Entry entry = entries.remove(postId);
+        if (entry == null) {
+            return;
+        }
+        for (long bandKey : entry.bandKeys()) {
+            Set<Long> bucket = buckets.get(bandKey);
+            bucket.remove(postId);
+            if (bucket.isEmpty()) {
+                buckets.remove(bandKey);
+            }
+        }
+    }
+
+    private static long shingleHash(List<String> tokens, int start) {
+        long hash = 0;
+        for (int i = start; i < Math.min(start + SHINGLE_SIZE, tokens.size()); i++) {
+            hash = mix(hash * 31 + tokens.get(i).hashCode());
+        }
+        return hash;
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+
+    private record Entry(int[] signature, long[] bandKeys, ReviewStatus status) {
+        Entry withStatus(ReviewStatus status) {
+            return new Entry(signature, bandKeys, status);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.pxl.services.services.revision;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Copy/insert deltas between byte arrays. {@link #encode} cuts the source into fixed blocks,
+ * looks for each block in the target, and grows every hit in both directions. The target
+ * becomes a list of COPY(offset, length) ops from the source and INSERT ops for the bytes in
+ * between. The encoding is therefore about as large as the edit, not as the document. The
+ * ops are deflated when that makes them smaller.
+ */
+public final class BinaryDelta {
+    private static final int BLOCK_SIZE = 16;
+    private static final int COPY = 0;
+    private static final int INSERT = 1;
+    private static final int RAW = 0;
+    private static final int DEFLATED = 1;
+
+    private BinaryDelta() {
+    }
+
+    /**
+     * Returns a delta that rebuilds {@code target} from {@code source}.
+     */
+    public static byte[] encode(byte[] source, byte[] target) {
+        Map<Integer, Integer> blocks = new HashMap<>();
+        for (int offset = 0; offset + BLOCK_SIZE <= source.length; offset += BLOCK_SIZE) {
+            blocks.putIfAbsent(hash(source, offset), offset);
+        }
+
+        ByteArrayOutputStream ops = new ByteArrayOutputStream();
+        int literalStart = 0;
+        int position = 0;
+        while (position + BLOCK_SIZE <= target.length) {
+            Integer offset = blocks.get(hash(target, position));
+            if (offset == null || !Arrays.equals(source, offset, offset + BLOCK_SIZE, target, position, position + BLOCK_SIZE)) {
+                position++;
+                continue;
+            }
+            int start = position;
+            int from = offset;
+            while (start > literalStart && from > 0 && source[from - 1] == target[start - 1]) {
+                start--;
+                from--;
+            }
+            int end = position + BLOCK_SIZE;
+            int sourceEnd = offset + BLOCK_SIZE;
+            while (end < target.length && sourceEnd < source.length && source[sourceEnd] == target[end]) {
+                end++;
+                sourceEnd++;
+            }
+            writeInsert(ops, target, literalStart, start);
+            ops.write(COPY);
+            writeVarInt(ops, from);
+            writeVarInt(ops, end - start);
+            position = end;
+            literalStart = end;
+        }
+        writeInsert(ops, target, literalStart, target.length);
+        return pack(ops.toByteArray());
+    }
+
+    public static byte[] apply(byte[] source, byte[] delta) {
+        Reader ops = new Reader(unpack(delta));
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+        while (ops.hasMore()) {
+            int op = ops.readByte();
+            if (op == COPY) {
+                int offset = ops.readVarInt();
+                int length = ops.readVarInt();
+                if (offset < 0 || length < 0 || (long) offset + length > source.length) {
+                    throw new IllegalArgumentException("Delta copies past the end of its source");
+                }
+                target.write(source, offset, length);
+            } else if (op == INSERT) {
+                int length = ops.readVarInt();
+                target.write(ops.bytes, ops.take(length), length);
+            } else {
+                throw new IllegalArgumentException("Unknown delta op " + op);
+            }
+        }
+        return target.toByteArray();
+    }
+
+    private static void writeInsert(ByteArrayOutputStream ops, byte[] target, int from, int to) {
+        if (to > from) {
+            ops.write(INSERT);
+            writeVarInt(ops, to - from);
+            ops.write(target, from, to - from);
+        }
+    }
+
+    private static int hash(byte[] bytes, int offset) {
+        int hash = 1;
+        for (int i = offset; i < offset + BLOCK_SIZE; i++) {
+            hash = 31 * hash + bytes[i];
+        }
+        return hash;
+    }
+
+    private static byte[] pack(byte[] ops) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        ByteArrayOutputStream packed = new ByteArrayOutputStream();
+        packed.write(DEFLATED);
+        try {
+            deflater.setInput(ops);
+            deflater.finish();
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                packed.write(buffer, 0, deflater.deflate(buffer));
+            }
+        } finally {
+            deflater.end();
+        }
+        if (packed.size() < ops.length + 1) {
+            return packed.toByteArray();
+        }
+        byte[] raw = new byte[ops.length + 1];
+        raw[0] = RAW;
+        System.arraycopy(ops, 0, raw, 1, ops.length);
+        return raw;
+    }
+
+    private static byte[] unpack(byte[] delta) {
+        if (delta.length == 0) {
+            throw new IllegalArgumentException("Empty delta");
+        }
+        if (delta[0] == RAW) {
+            return Arrays.copyOfRange(delta, 1, delta.length);
+        }
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(delta, 1, delta.length - 1);
+            ByteArrayOutputStream ops = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            while (!inflater.finished()) {
+                int inflated = inflater.inflate(buffer);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalArgumentException("Truncated delta");
+                }
+                ops.write(buffer, 0, inflated);
+            }
+            return ops.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("Corrupt delta", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static void writeVarInt(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static final class Reader {
+        private final byte[] bytes;
+        private int position;
+
+        private Reader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        private boolean hasMore() {
+            return position < bytes.length;
+        }
+
+        private int readByte() {
+            if (position >= bytes.length) {
+                throw new IllegalArgumentException("Truncated delta");
+            }
+            return bytes[position++] & 0xFF;
+        }
+
+        private int readVarInt() {
+            int value = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                int next = readByte();
+                value |= (next & 0x7F) << shift;
+                if ((next & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed length in delta");
+        }
+
+        // Returns the offset of the next length bytes and skips over them
+        private int take(int length) {
+            if (length < 0 || position + length > bytes.length) {
+                throw new IllegalArgumentException("Truncated delta");
+            }
+            int start = position;
+            position += length;
+            return start;
+        }
+    }
+}
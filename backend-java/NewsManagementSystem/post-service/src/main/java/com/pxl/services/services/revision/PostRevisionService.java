@@ -0,0 +1,115 @@
+package com.pxl.services.services.revision;
+
+import com.pxl.services.domain.DTO.PostRevisionDTO;
+import com.pxl.services.domain.DTO.PostRevisionInfoDTO;
+import com.pxl.services.domain.Post;
+import com.pxl.services.domain.PostRevision;
+import com.pxl.services.repository.PostRevisionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Keeps the edit history of posts as reverse deltas. The post row is the newest version; each
+ * edit stores a delta that turns the new text back into the old one. Reading revision n applies
+ * the deltas from the newest down to n.
+ */
+@Service
+public class PostRevisionService {
+    private static final Logger log = LoggerFactory.getLogger(PostRevisionService.class);
+    private static final String SEPARATOR = "\u0000";
+
+    private final PostRevisionRepository postRevisionRepository;
+
+    public PostRevisionService(PostRevisionRepository postRevisionRepository) {
+        this.postRevisionRepository = postRevisionRepository;
+    }
+
+    /**
+     * The revisioned fields of a post as one byte array, the unit that deltas are computed on.
+     */
+    public static byte[] snapshot(Post post) {
+        return String.join(SEPARATOR, nullToEmpty(post.getTitle()), nullToEmpty(post.getContent()),
+                nullToEmpty(post.getAuthor()), nullToEmpty(post.getCategory())).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Records the version that {@code updated} replaced. Must run in the transaction that saved it.
+     */
+    public void recordEdit(Post updated, byte[] previous, LocalDateTime previousUpdatedAt) {
+        byte[] current = snapshot(updated);
+        if (Arrays.equals(current, previous)) {
+            return;
+        }
+        Integer latest = postRevisionRepository.findLatestRevision(updated.getId());
+        byte[] delta = BinaryDelta.encode(current, previous);
+        PostRevision revision = postRevisionRepository.save(PostRevision.builder()
+                .postId(updated.getId())
+                .revision(latest == null ? 1 : latest + 1)
+                .delta(delta)
+                .deltaSize(delta.length)
+                .updatedAt(previousUpdatedAt)
+                .replacedAt(updated.getUpdatedAt())
+                .build());
+        log.info("Stored revision {} of post {} in {} bytes ({} bytes in full)",
+                revision.getRevision(), updated.getId(), delta.length, previous.length);
+    }
+
+    /**
+     * All revisions of the post, newest first, starting with the current one.
+     */
+    public List<PostRevisionInfoDTO> getRevisions(Post post) {
+        List<PostRevision> stored = postRevisionRepository.findByPostIdOrderByRevisionDesc(post.getId());
+        List<PostRevisionInfoDTO> revisions = new ArrayList<>(stored.size() + 1);
+        revisions.add(PostRevisionInfoDTO.builder()
+                .revision(stored.isEmpty() ? 1 : stored.get(0).getRevision() + 1)
+                .updatedAt(post.getUpdatedAt())
+                .current(true)
+                .build());
+        stored.forEach(revision -> revisions.add(PostRevisionInfoDTO.builder()
+                .revision(revision.getRevision())
+                .updatedAt(revision.getUpdatedAt())
+                .replacedAt(revision.getReplacedAt())
+                .storedBytes(revision.getDeltaSize())
+                .build()));
+        return revisions;
+    }
+
+    public Optional<PostRevisionDTO> getRevision(Post post, int revision) {
+        Integer latest = postRevisionRepository.findLatestRevision(post.getId());
+        int current = latest == null ? 1 : latest + 1;
+        if (revision < 1 || revision > current) {
+            return Optional.empty();
+        }
+        List<PostRevision> deltas = revision == current ? List.of() : postRevisionRepository
+                .findByPostIdAndRevisionGreaterThanEqualOrderByRevisionDesc(post.getId(), revision);
+
+        byte[] text = snapshot(post);
+        LocalDateTime updatedAt = post.getUpdatedAt();
+        for (PostRevision delta : deltas) {
+            text = BinaryDelta.apply(text, delta.getDelta());
+            updatedAt = delta.getUpdatedAt();
+        }
+        String[] fields = new String(text, StandardCharsets.UTF_8).split(SEPARATOR, -1);
+        return Optional.of(PostRevisionDTO.builder()
+                .postId(post.getId())
+                .revision(revision)
+                .title(fields[0])
+                .content(fields[1])
+                .author(fields[2])
+                .category(fields[3])
+                .updatedAt(updatedAt)
+                .build());
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
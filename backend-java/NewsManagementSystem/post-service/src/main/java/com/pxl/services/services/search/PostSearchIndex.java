@@ -0,0 +1,201 @@
+package com.pxl.services.services.search;
+
+import com.pxl.services.domain.Post;
+import com.pxl.services.domain.event.PostChangedEvent;
+import com.pxl.services.repository.PostRepository;
+import com.pxl.services.services.index.KeysetPages;
+import com.pxl.services.services.index.PostChangeBuffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over post title and content, ranked with Okapi BM25.
+ * Built once at startup, page by page, and kept current through {@link PostChangedEvent}s; events
+ * that arrive during the build are replayed after it.
+ */
+@Component
+public class PostSearchIndex {
+    private static final Logger log = LoggerFactory.getLogger(PostSearchIndex.class);
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final PostRepository postRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final PostChangeBuffer changes = new PostChangeBuffer(this::apply);
+    // term -> (post id -> term frequency)
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    // post id -> (term -> term frequency), kept so a document can be removed without re-tokenizing it
+    private final Map<Long, Map<String, Integer>> documents = new HashMap<>();
+    private final Map<Long, Integer> documentLengths = new HashMap<>();
+    private long totalLength;
+
+    public PostSearchIndex(PostRepository postRepository) {
+        this.postRepository = postRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        changes.hold();
+        try {
+            lock.writeLock().lock();
+            try {
+                postings.clear();
+                documents.clear();
+                documentLengths.clear();
+                totalLength = 0;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            long posts = KeysetPages.forEach(postRepository::findPageAfterId, Post::getId, page -> {
+                lock.writeLock().lock();
+                try {
+                    page.forEach(this::addDocument);
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            });
+            log.info("Search index built with {} posts", posts);
+        } finally {
+            changes.release();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        changes.offer(event);
+    }
+
+    private void apply(PostChangedEvent event) {
+        switch (event.type()) {
+            case CREATED, UPDATED -> index(event.post());
+            case DELETED -> remove(event.postId());
+            default -> {
+                // status changes do not affect indexed text
+            }
+        }
+    }
+
+    public void index(Post post) {
+        if (post == null || post.getId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeDocument(post.getId());
+            addDocument(post);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the ids of the best matching posts, highest score first.
+     */
+    public List<Long> search(String query, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(TextTokenizer.tokenize(query)));
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Map<Long, Double> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            int documentCount = documents.size();
+            if (documentCount == 0) {
+                return List.of();
+            }
+            double averageLength = (double) totalLength / documentCount;
+            for (String term : terms) {
+                Map<Long, Integer> termPostings = postings.get(term);
+                if (termPostings == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (documentCount - termPostings.size() + 0.5) / (termPostings.size() + 0.5));
+                termPostings.forEach((postId, frequency) -> {
+                    double lengthNorm = 1 - B + B * documentLengths.get(postId) / averageLength;
+                    double score = idf * frequency * (K1 + 1) / (frequency + K1 * lengthNorm);
+                    scores.merge(postId, score, Double::sum);
+                });
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return topK(scores, limit);
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static List<Long> topK(Map<Long, Double> scores, int limit) {
+        Comparator<Map.Entry<Long, Double>> byScore = Map.Entry.<Long, Double>comparingByValue()
+                .thenComparing(Map.Entry.comparingByKey());
+        PriorityQueue<Map.Entry<Long, Double>> heap = new PriorityQueue<>(byScore);
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            heap.offer(entry);
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+        List<Map.Entry<Long, Double>> ranked = new ArrayList<>(heap);
+        ranked.sort(byScore.reversed());
+        return ranked.stream().map(Map.Entry::getKey).toList();
+    }
+
+    private void addDocument(Post post) {
+        List<String> tokens = TextTokenizer.tokenize(post.getTitle());
+        tokens.addAll(TextTokenizer.tokenize(post.getContent()));
+        Map<String, Integer> frequencies = new HashMap<>();
+        tokens.forEach(token -> frequencies.merge(token, 1, Integer::sum));
+
+        frequencies.forEach((term, frequency) ->
+                postings.computeIfAbsent(term, key -> new HashMap<>()).put(post.getId(), frequency));
+        documents.put(post.getId(), frequencies);
+        documentLengths.put(post.getId(), tokens.size());
+        totalLength += tokens.size();
+    }
+
+    private void removeDocument(Long postId) {
+        Map<String, Integer> frequencies = documents.remove(postId);
+        if (frequencies == null) {
+            return;
+        }
+        for (String term : frequencies.keySet()) {
+            Map<Long, Integer> termPostings = postings.get(term);
+            termPostings.remove(postId);
+            if (termPostings.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+        totalLength -= documentLengths.remove(postId);
+    }
+}
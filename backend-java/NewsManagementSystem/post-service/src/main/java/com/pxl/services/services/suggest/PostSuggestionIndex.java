@@ -0,0 +1,185 @@
+package com.pxl.services.services.suggest;
+
+import com.pxl.services.domain.DTO.PostSummaryDTO;
+import com.pxl.services.domain.DTO.SuggestionDTO;
+import com.pxl.services.domain.Post;
+import com.pxl.services.domain.ReviewStatus;
+import com.pxl.services.domain.event.PostChangedEvent;
+import com.pxl.services.repository.PostRepository;
+import com.pxl.services.services.index.KeysetPages;
+import com.pxl.services.services.index.PostChangeBuffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Prefix suggestions over the titles, authors and categories of published posts, each in its own
+ * {@link PrefixTrie}. A value weighs as much as the number of published posts that carry it, so
+ * weights rank authors and categories; a title is nearly always carried by one post and only ranks
+ * against other titles alphabetically. Titles are cut to {@link #MAX_KEY_LENGTH} characters,
+ * which keeps the trie depth and key memory bounded. Built at startup page by page; events that
+ * arrive during the build are replayed after it.
+ */
+@Component
+public class PostSuggestionIndex {
+    private static final Logger log = LoggerFactory.getLogger(PostSuggestionIndex.class);
+    private static final int MAX_KEY_LENGTH = 80;
+
+    public enum Field {
+        TITLE,
+        AUTHOR,
+        CATEGORY
+    }
+
+    private final PostRepository postRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final PostChangeBuffer changes = new PostChangeBuffer(this::apply);
+    private final Map<Field, PrefixTrie> tries = new EnumMap<>(Field.class);
+    // post id -> indexed values, so an update can take back exactly what was added
+    private final Map<Long, Map<Field, String>> indexed = new HashMap<>();
+
+    public PostSuggestionIndex(PostRepository postRepository) {
+        this.postRepository = postRepository;
+        for (Field field : Field.values()) {
+            tries.put(field, new PrefixTrie());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        changes.hold();
+        try {
+            lock.writeLock().lock();
+            try {
+                indexed.clear();
+                for (Field field : Field.values()) {
+                    tries.put(field, new PrefixTrie());
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            long posts = KeysetPages.forEach(
+                    (id, pageable) -> postRepository.findSummaryPageAfterId(ReviewStatus.PUBLISHED, id, pageable),
+                    PostSummaryDTO::getId, page -> {
+                        lock.writeLock().lock();
+                        try {
+                            page.forEach(post -> addPost(post.getId(), post.getTitle(), post.getAuthor(), post.getCategory()));
+                        } finally {
+                            lock.writeLock().unlock();
+                        }
+                    });
+            log.info("Suggestion index built with {} posts", posts);
+        } finally {
+            changes.release();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        changes.offer(event);
+    }
+
+    private void apply(PostChangedEvent event) {
+        switch (event.type()) {
+            case CREATED, UPDATED -> {
+                Post post = event.post();
+                lock.writeLock().lock();
+                try {
+                    removePost(event.postId());
+                    if (post != null && post.getStatus() == ReviewStatus.PUBLISHED) {
+                        addPost(post.getId(), post.getTitle(), post.getAuthor(), post.getCategory());
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+            case STATUS_CHANGED -> {
+                // Only read back a newly published post whose publisher did not load its summary
+                Optional<PostSummaryDTO> summary = event.status() == ReviewStatus.PUBLISHED
+                        ? Optional.ofNullable(event.summary()).or(() -> postRepository.findSummaryById(event.postId()))
+                        : Optional.empty();
+                lock.writeLock().lock();
+                try {
+                    removePost(event.postId());
+                    summary.ifPresent(post -> addPost(post.getId(), post.getTitle(), post.getAuthor(), post.getCategory()));
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+            case DELETED -> {
+                lock.writeLock().lock();
+                try {
+                    removePost(event.postId());
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} values starting with {@code prefix}, heaviest first across all fields.
+     */
+    public List<SuggestionDTO> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        List<SuggestionDTO> suggestions = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            tries.forEach((field, trie) -> trie.top(key, limit).forEach(entry ->
+                    suggestions.add(new SuggestionDTO(entry.text(), field.name(), entry.weight()))));
+        } finally {
+            lock.readLock().unlock();
+        }
+        return suggestions.stream()
+                .sorted(Comparator.comparingLong(SuggestionDTO::getWeight).reversed()
+                        .thenComparing(SuggestionDTO::getText))
+                .limit(limit)
+                .toList();
+    }
+
+    private void addPost(Long postId, String title, String author, String category) {
+        if (postId == null) {
+            return;
+        }
+        Map<Field, String> values = new EnumMap<>(Field.class);
+        values.put(Field.TITLE, title);
+        values.put(Field.AUTHOR, author);
+        values.put(Field.CATEGORY, category);
+        values.values().removeIf(value -> normalize(value).isEmpty());
+        values.forEach((field, value) -> tries.get(field).add(normalize(value), value.strip(), 1));
+        indexed.put(postId, values);
+    }
+
+    private void removePost(Long postId) {
+        Map<Field, String> values = indexed.remove(postId);
+        if (values != null) {
+            values.forEach((field, value) -> tries.get(field).add(normalize(value), value.strip(), -1));
+        }
+    }
+
+    private static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String key = value.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        return key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key;
+    }
+}
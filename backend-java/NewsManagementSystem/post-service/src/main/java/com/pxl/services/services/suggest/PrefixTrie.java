@@ -0,0 +1,165 @@
+package com.pxl.services.services.suggest;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Radix trie from normalized keys to weighted display strings. Chains of single-child nodes
+ * are collapsed into one edge label, and every node keeps the highest weight in its subtree so
+ * {@link #top} can walk the subtree best-first and stop after {@code limit} hits. Not thread-safe.
+ */
+public class PrefixTrie {
+    private final Node root = new Node("");
+    private int size;
+
+    public record Entry(String text, long weight) {
+    }
+
+    /**
+     * Adds {@code delta} to the weight of {@code key}; the key is removed once its weight drops to zero.
+     */
+    public void add(String key, String text, long delta) {
+        if (delta != 0) {
+            add(root, key, 0, text, delta);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public List<Entry> top(String prefix, int limit) {
+        List<Entry> results = new ArrayList<>();
+        Node start = find(prefix);
+        if (start == null || limit <= 0) {
+            return results;
+        }
+        // Nodes are queued by their subtree maximum and hits by their own weight, so a hit is
+        // only polled once nothing left in the queue can beat it
+        PriorityQueue<Candidate> queue = new PriorityQueue<>(Comparator.comparingLong(Candidate::priority).reversed());
+        queue.add(new Candidate(start, false, start.maxWeight));
+        while (!queue.isEmpty() && results.size() < limit) {
+            Candidate candidate = queue.poll();
+            Node node = candidate.node();
+            if (candidate.hit()) {
+                results.add(new Entry(node.text, node.weight));
+                continue;
+            }
+            if (node.weight > 0) {
+                queue.add(new Candidate(node, true, node.weight));
+            }
+            node.children.values().forEach(child -> queue.add(new Candidate(child, false, child.maxWeight)));
+        }
+        return results;
+    }
+
+    private Node find(String prefix) {
+        Node node = root;
+        int position = 0;
+        while (position < prefix.length()) {
+            Node child = node.children.get(prefix.charAt(position));
+            if (child == null) {
+                return null;
+            }
+            int common = commonPrefix(child.label, prefix, position);
+            if (position + common == prefix.length()) {
+                return child;
+            }
+            if (common < child.label.length()) {
+                return null;
+            }
+            position += common;
+            node = child;
+        }
+        return node;
+    }
+
+    private void add(Node node, String key, int position, String text, long delta) {
+        if (position == key.length()) {
+            boolean present = node.weight > 0;
+            node.weight = Math.max(0, node.weight + delta);
+            if (node.weight == 0) {
+                node.text = null;
+                size -= present ? 1 : 0;
+            } else if (!present) {
+                node.text = text;
+                size++;
+            }
+        } else {
+            char first = key.charAt(position);
+            Node child = node.children.get(first);
+            if (child == null) {
+                if (delta < 0) {
+                    return;
+                }
+                child = new Node(key.substring(position));
+                node.children.put(first, child);
+                add(child, key, key.length(), text, delta);
+            } else {
+                int common = commonPrefix(child.label, key, position);
+                if (common < child.label.length()) {
+                    if (delta < 0) {
+                        return;
+                    }
+                    child = split(node, child, common);
+                }
+                add(child, key, position + common, text, delta);
+                compact(node, first, child);
+            }
+        }
+        node.maxWeight = node.weight;
+        node.children.values().forEach(child -> node.maxWeight = Math.max(node.maxWeight, child.maxWeight));
+    }
+
+    // Turns parent -> child("abc") into parent -> middle("a") -> child("bc") for common = 1
+    private static Node split(Node parent, Node child, int common) {
+        Node middle = new Node(child.label.substring(0, common));
+        child.label = child.label.substring(common);
+        middle.children.put(child.label.charAt(0), child);
+        middle.maxWeight = child.maxWeight;
+        parent.children.put(middle.label.charAt(0), middle);
+        return middle;
+    }
+
+    // Drops a child that no longer leads to a key, or merges it with its only child
+    private static void compact(Node parent, char first, Node child) {
+        if (child.weight > 0) {
+            return;
+        }
+        if (child.children.isEmpty()) {
+            parent.children.remove(first);
+        } else if (child.children.size() == 1) {
+            Node grandchild = child.children.values().iterator().next();
+            grandchild.label = child.label + grandchild.label;
+            parent.children.put(first, grandchild);
+        }
+    }
+
+    private static int commonPrefix(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < max && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static final class Node {
+        private String label;
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private String text;
+        private long weight;
+        private long maxWeight;
+
+        private Node(String label) {
+            this.label = label;
+        }
+    }
+
+    private record Candidate(Node node, boolean hit, long priority) {
+    }
+}
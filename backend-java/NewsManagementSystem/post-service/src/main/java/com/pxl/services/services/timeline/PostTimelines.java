@@ -0,0 +1,217 @@
+package com.pxl.services.services.timeline;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pxl.services.domain.DTO.PostPageDTO;
+import com.pxl.services.domain.DTO.PostSummaryDTO;
+import com.pxl.services.domain.PostCursor;
+import com.pxl.services.domain.PostFollow;
+import com.pxl.services.domain.ReviewStatus;
+import com.pxl.services.domain.event.PostChangedEvent;
+import com.pxl.services.repository.PostFollowRepository;
+import com.pxl.services.repository.PostRepository;
+import com.pxl.services.services.PostService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Per-reader timelines of the posts published by the authors they follow.
+ * <p>
+ * A timeline is built from the database on first read and kept as a {@link TimelineBuffer}.
+ * From then on every published post is pushed into the cached timelines of its author's
+ * followers (fan-out on write), so reading a page is a scan of the buffer. Authors followed by
+ * more than {@code fan-out-limit} readers are not pushed; their posts are read per request with
+ * one index range of at most a page per such author (fan-out on read). Withdrawn and deleted
+ * posts are not chased through the buffers but dropped when a page finds them missing.
+ */
+@Service
+public class PostTimelines {
+    private static final Logger log = LoggerFactory.getLogger(PostTimelines.class);
+
+    private final PostRepository postRepository;
+    private final PostFollowRepository postFollowRepository;
+    private final int capacity;
+    private final long fanOutLimit;
+    private final Cache<String, Timeline> timelines;
+    private final Cache<String, Long> followerCounts;
+
+    public PostTimelines(PostRepository postRepository, PostFollowRepository postFollowRepository,
+                         @Value("${posts.timelines.capacity:200}") int capacity,
+                         @Value("${posts.timelines.fan-out-limit:1000}") long fanOutLimit,
+                         @Value("${posts.timelines.max-readers:10000}") long maxReaders,
+                         @Value("${posts.timelines.idle-timeout:PT30M}") Duration idleTimeout,
+                         @Value("${posts.timelines.follower-count-ttl:PT5M}") Duration followerCountTtl) {
+        this.postRepository = postRepository;
+        this.postFollowRepository = postFollowRepository;
+        this.capacity = capacity;
+        this.fanOutLimit = fanOutLimit;
+        this.timelines = Caffeine.newBuilder()
+                .maximumSize(maxReaders)
+                .expireAfterAccess(idleTimeout)
+                .build();
+        this.followerCounts = Caffeine.newBuilder()
+                .maximumSize(maxReaders)
+                .expireAfterWrite(followerCountTtl)
+                .build();
+    }
+
+    public void follow(String reader, String author) {
+        log.info("{} follows {}", reader, author);
+        if (!postFollowRepository.existsByReaderAndAuthor(reader, author)) {
+            try {
+                postFollowRepository.save(PostFollow.builder()
+                        .reader(reader)
+                        .author(author)
+                        .createdAt(LocalDateTime.now())
+                        .build());
+            } catch (DataIntegrityViolationException e) {
+                log.debug("{} already follows {}", reader, author);
+            }
+        }
+        timelines.invalidate(reader);
+        followerCounts.invalidate(author);
+    }
+
+    public boolean unfollow(String reader, String author) {
+        log.info("{} unfollows {}", reader, author);
+        boolean deleted = postFollowRepository.deleteByReaderAndAuthor(reader, author) > 0;
+        timelines.invalidate(reader);
+        followerCounts.invalidate(author);
+        return deleted;
+    }
+
+    public List<String> getFollowing(String reader) {
+        return postFollowRepository.findAuthorsByReader(reader);
+    }
+
+    public PostPageDTO<PostSummaryDTO> getTimeline(String reader, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, PostService.MAX_PAGE_SIZE));
+        PostCursor after = cursor == null || cursor.isBlank() ? null : PostCursor.decode(cursor);
+        Timeline timeline = timelines.get(reader, this::build);
+        // One extra position tells whether another page exists
+        int wanted = pageSize + 1;
+
+        Map<Boolean, List<String>> authorsByWidth = timeline.authors().stream()
+                .collect(Collectors.partitioningBy(this::isWide));
+        List<PostCursor> candidates = new ArrayList<>(timeline.buffer().page(after, wanted));
+        if (candidates.size() < wanted && timeline.buffer().isTruncated()) {
+            // Past the end of the ring, pushed authors are read like wide ones
+            PostCursor oldest = timeline.buffer().oldest();
+            PostCursor from = after != null && TimelineBuffer.NEWEST_FIRST.compare(after, oldest) > 0 ? after : oldest;
+            candidates.addAll(positions(authorsByWidth.get(false), from, wanted));
+        }
+        for (String author : authorsByWidth.get(true)) {
+            candidates.addAll(positions(List.of(author), after, wanted));
+        }
+
+        List<PostCursor> merged = candidates.stream()
+                .collect(Collectors.toMap(PostCursor::id, Function.identity(), (first, second) -> first))
+                .values().stream()
+                .sorted(TimelineBuffer.NEWEST_FIRST)
+                .limit(wanted)
+                .toList();
+        boolean hasMore = merged.size() > pageSize;
+        List<PostCursor> window = hasMore ? merged.subList(0, pageSize) : merged;
+
+        Map<Long, PostSummaryDTO> summaries = window.isEmpty()
+                ? Map.of()
+                : postRepository.findSummariesByIdIn(window.stream().map(PostCursor::id).toList(), ReviewStatus.PUBLISHED)
+                        .stream()
+                        .collect(Collectors.toMap(PostSummaryDTO::getId, Function.identity()));
+        List<PostSummaryDTO> items = new ArrayList<>(window.size());
+        for (PostCursor position : window) {
+            PostSummaryDTO summary = summaries.get(position.id());
+            if (summary != null) {
+                items.add(summary);
+            } else {
+                timeline.buffer().remove(position.id());
+            }
+        }
+        return PostPageDTO.<PostSummaryDTO>builder()
+                .items(items)
+                .nextCursor(hasMore ? window.get(window.size() - 1).encode() : null)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    /**
+     * Runs after the commit so that a timeline built meanwhile already contains the post.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.status() != ReviewStatus.PUBLISHED) {
+            return;
+        }
+        try {
+            switch (event.type()) {
+                case CREATED, UPDATED -> fanOut(event.post().getAuthor(),
+                        new PostCursor(event.post().getCreatedAt(), event.postId()));
+                case STATUS_CHANGED -> Optional.ofNullable(event.summary())
+                        .or(() -> postRepository.findSummaryById(event.postId()))
+                        .filter(summary -> summary.getStatus() == ReviewStatus.PUBLISHED)
+                        .ifPresent(summary -> fanOut(summary.getAuthor(),
+                                new PostCursor(summary.getCreatedAt(), summary.getId())));
+                default -> {
+                }
+            }
+        } catch (Exception e) {
+            log.error("Failed to fan out post {}: {}", event.postId(), e.getMessage());
+        }
+    }
+
+    private void fanOut(String author, PostCursor position) {
+        if (isWide(author)) {
+            return;
+        }
+        int pushed = 0;
+        for (String reader : postFollowRepository.findReadersByAuthor(author)) {
+            Timeline timeline = timelines.getIfPresent(reader);
+            if (timeline != null && timeline.buffer().add(position)) {
+                pushed++;
+            }
+        }
+        log.debug("Pushed post {} into {} timelines", position.id(), pushed);
+    }
+
+    private boolean isWide(String author) {
+        return followerCounts.get(author, postFollowRepository::countByAuthor) > fanOutLimit;
+    }
+
+    private Timeline build(String reader) {
+        List<String> authors = postFollowRepository.findAuthorsByReader(reader);
+        TimelineBuffer buffer = new TimelineBuffer(capacity);
+        // One position more than fits, so the ring knows whether older posts exist
+        positions(authors, null, capacity + 1).forEach(buffer::add);
+        return new Timeline(authors, buffer);
+    }
+
+    private List<PostCursor> positions(Collection<String> authors, PostCursor after, int limit) {
+        if (authors.isEmpty()) {
+            return List.of();
+        }
+        Optional<PostCursor> position = Optional.ofNullable(after);
+        return postRepository.findPositionsByAuthorIn(ReviewStatus.PUBLISHED, authors,
+                position.map(PostCursor::createdAt).orElse(null),
+                position.map(PostCursor::id).orElse(null),
+                PageRequest.of(0, limit));
+    }
+
+    private record Timeline(List<String> authors, TimelineBuffer buffer) {
+    }
+}
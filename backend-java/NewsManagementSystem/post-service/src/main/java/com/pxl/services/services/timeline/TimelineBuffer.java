@@ -0,0 +1,122 @@
+package com.pxl.services.services.timeline;
+
+import com.pxl.services.domain.PostCursor;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Fixed-size ring of post positions, newest first. A post published now lands at the head in
+ * constant time; one with an older {@code createdAt} is shifted into place. When the ring is
+ * full the oldest position falls off, and a post older than all of them is not taken in. Either
+ * marks the ring as truncated for good, since removing positions later does not bring back the
+ * ones it lost.
+ */
+public class TimelineBuffer {
+    public static final Comparator<PostCursor> NEWEST_FIRST = Comparator
+            .comparing(PostCursor::createdAt)
+            .thenComparing(PostCursor::id)
+            .reversed();
+
+    private final PostCursor[] slots;
+    private int head;
+    private int size;
+    private boolean truncated;
+
+    public TimelineBuffer(int capacity) {
+        this.slots = new PostCursor[capacity];
+    }
+
+    /**
+     * Adds the position unless its post is already in the ring or is older than everything a
+     * full ring holds.
+     */
+    public synchronized boolean add(PostCursor position) {
+        int index = 0;
+        while (index < size && NEWEST_FIRST.compare(get(index), position) < 0) {
+            index++;
+        }
+        if (contains(position.id())) {
+            return false;
+        }
+        if (size == slots.length) {
+            truncated = true;
+            if (index == size) {
+                return false;
+            }
+            size--;
+        }
+        if (index == 0) {
+            head = Math.floorMod(head - 1, slots.length);
+        } else {
+            for (int i = size; i > index; i--) {
+                set(i, get(i - 1));
+            }
+        }
+        set(index, position);
+        size++;
+        return true;
+    }
+
+    public synchronized boolean remove(Long postId) {
+        for (int index = 0; index < size; index++) {
+            if (get(index).id().equals(postId)) {
+                for (int i = index; i < size - 1; i++) {
+                    set(i, get(i + 1));
+                }
+                set(size - 1, null);
+                size--;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Up to {@code limit} positions after {@code after}, or from the newest one when it is null.
+     */
+    public synchronized List<PostCursor> page(PostCursor after, int limit) {
+        List<PostCursor> page = new ArrayList<>(Math.min(limit, size));
+        for (int index = 0; index < size && page.size() < limit; index++) {
+            PostCursor position = get(index);
+            if (after == null || NEWEST_FIRST.compare(position, after) > 0) {
+                page.add(position);
+            }
+        }
+        return page;
+    }
+
+    /**
+     * Whether positions have fallen off or been turned away, so that the ring says nothing about
+     * posts older than its last one.
+     */
+    public synchronized boolean isTruncated() {
+        return truncated;
+    }
+
+    public synchronized PostCursor oldest() {
+        return size == 0 ? null : get(size - 1);
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private boolean contains(Long postId) {
+        for (int index = 0; index < size; index++) {
+            if (get(index).id().equals(postId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private PostCursor get(int index) {
+        return slots[(head + index) % slots.length];
+    }
+
+    private void set(int index, PostCursor position) {
+        slots[(head + index) % slots.length] = position;
+    }
+}
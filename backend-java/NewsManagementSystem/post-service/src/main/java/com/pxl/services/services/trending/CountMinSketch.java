@@ -0,0 +1,64 @@
+package com.pxl.services.services.trending;
+
+/**
+ * Count-Min Sketch over long keys with real-valued counts. Estimates never undercount and
+ * overcount by at most {@code e / width} of the total weight with probability
+ * {@code 1 - e^-depth}, in a fixed {@code width * depth} doubles of memory. Not thread-safe.
+ */
+public class CountMinSketch {
+    private final int width;
+    private final int depth;
+    private final double[][] counts;
+    private final long[] seeds;
+
+    public CountMinSketch(int width, int depth) {
+        if (width < 1 || depth < 1) {
+            throw new IllegalArgumentException("Sketch width and depth must be positive");
+        }
+        this.width = width;
+        this.depth = depth;
+        this.counts = new double[depth][width];
+        this.seeds = new long[depth];
+        for (int row = 0; row < depth; row++) {
+            seeds[row] = 0x9E3779B97F4A7C15L * (row + 1);
+        }
+    }
+
+    /**
+     * Adds {@code weight} to the key and returns its new estimate.
+     */
+    public double add(long key, double weight) {
+        double estimate = Double.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            int column = column(key, row);
+            counts[row][column] += weight;
+            estimate = Math.min(estimate, counts[row][column]);
+        }
+        return estimate;
+    }
+
+    public double estimate(long key) {
+        double estimate = Double.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counts[row][column(key, row)]);
+        }
+        return estimate;
+    }
+
+    public void scale(double factor) {
+        for (double[] row : counts) {
+            for (int column = 0; column < width; column++) {
+                row[column] *= factor;
+            }
+        }
+    }
+
+    private int column(long key, int row) {
+        // SplitMix64 finalizer; each row gets its own seed so collisions are independent
+        long hash = key + seeds[row];
+        hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+        hash = hash ^ (hash >>> 31);
+        return (int) Math.floorMod(hash, (long) width);
+    }
+}
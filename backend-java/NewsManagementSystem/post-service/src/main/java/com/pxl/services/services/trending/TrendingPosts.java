@@ -0,0 +1,135 @@
+package com.pxl.services.services.trending;
+
+import com.pxl.services.config.QueueConfiguration;
+import com.pxl.services.domain.DTO.PostCommentedMessage;
+import com.pxl.services.domain.ReviewStatus;
+import com.pxl.services.domain.event.PostChangedEvent;
+import com.pxl.services.services.facet.PostFacetIndex;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.LongPredicate;
+
+/**
+ * Exponentially decayed engagement scores with a bounded top-K. Uses forward decay: an event at
+ * time t is stored with weight {@code w * 2^((t - landmark) / halfLife)}, so old counts never
+ * have to be touched and the ranking is the same as with decayed scores. Scores live in a
+ * Count-Min Sketch and only the current top-K candidates are kept per post. Only published posts
+ * are scored; a post that is withdrawn or deleted leaves the ranking.
+ */
+@Component
+public class TrendingPosts {
+    // Move the landmark before the forward weights get anywhere near overflowing a double
+    private static final double MAX_EXPONENT = 64;
+    private static final double VIEW_WEIGHT = 1;
+    private static final double COMMENT_WEIGHT = 5;
+
+    private final Clock clock;
+    private final LongPredicate published;
+    private final double decayRate;
+    private final int capacity;
+    private final CountMinSketch sketch;
+    private final Map<Long, Double> candidates = new HashMap<>();
+    private final PriorityQueue<Map.Entry<Long, Double>> minHeap =
+            new PriorityQueue<>(Map.Entry.comparingByValue());
+    private long landmarkMillis;
+
+    @Autowired
+    public TrendingPosts(PostFacetIndex postFacetIndex,
+                         @Value("${posts.trending.half-life:PT6H}") Duration halfLife,
+                         @Value("${posts.trending.top-k:100}") int capacity,
+                         @Value("${posts.trending.sketch-width:4096}") int sketchWidth,
+                         @Value("${posts.trending.sketch-depth:4}") int sketchDepth) {
+        this(Clock.systemUTC(), postId -> postFacetIndex.hasStatus(postId, ReviewStatus.PUBLISHED),
+                halfLife, capacity, sketchWidth, sketchDepth);
+    }
+
+    public TrendingPosts(Clock clock, LongPredicate published, Duration halfLife, int capacity,
+                         int sketchWidth, int sketchDepth) {
+        this.clock = clock;
+        this.published = published;
+        this.decayRate = Math.log(2) / halfLife.toMillis();
+        this.capacity = capacity;
+        this.sketch = new CountMinSketch(sketchWidth, sketchDepth);
+        this.landmarkMillis = clock.millis();
+    }
+
+    public void recordViews(Long postId, long views) {
+        record(postId, views * VIEW_WEIGHT);
+    }
+
+    @RabbitListener(queues = QueueConfiguration.POST_COMMENTED_QUEUE)
+    public void onPostCommented(PostCommentedMessage message) {
+        record(message.getPostId(), COMMENT_WEIGHT);
+    }
+
+    public synchronized void record(Long postId, double weight) {
+        if (postId == null || !published.test(postId)) {
+            return;
+        }
+        long now = clock.millis();
+        if (decayRate * (now - landmarkMillis) > MAX_EXPONENT) {
+            rebase(now);
+        }
+        double estimate = sketch.add(postId, weight * Math.exp(decayRate * (now - landmarkMillis)));
+        offer(postId, estimate);
+    }
+
+    /**
+     * The highest scoring posts, best first, with scores decayed to the current time.
+     */
+    public synchronized Map<Long, Double> top(int limit) {
+        double decay = Math.exp(-decayRate * (clock.millis() - landmarkMillis));
+        Map<Long, Double> top = new LinkedHashMap<>();
+        candidates.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder()))
+                .limit(limit)
+                .forEach(entry -> top.put(entry.getKey(), entry.getValue() * decay));
+        return top;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onPostChanged(PostChangedEvent event) {
+        boolean withdrawn = switch (event.type()) {
+            case DELETED -> true;
+            case STATUS_CHANGED -> event.status() != ReviewStatus.PUBLISHED;
+            case CREATED, UPDATED -> event.post() != null && event.post().getStatus() != ReviewStatus.PUBLISHED;
+        };
+        if (withdrawn && candidates.remove(event.postId()) != null) {
+            minHeap.removeIf(entry -> entry.getKey().equals(event.postId()));
+        }
+    }
+
+    private void offer(Long postId, double score) {
+        if (candidates.containsKey(postId)) {
+            minHeap.removeIf(entry -> entry.getKey().equals(postId));
+        } else if (candidates.size() >= capacity) {
+            if (score <= minHeap.peek().getValue()) {
+                return;
+            }
+            candidates.remove(minHeap.poll().getKey());
+        }
+        candidates.put(postId, score);
+        minHeap.add(Map.entry(postId, score));
+    }
+
+    private void rebase(long now) {
+        double factor = Math.exp(-decayRate * (now - landmarkMillis));
+        sketch.scale(factor);
+        candidates.replaceAll((postId, score) -> score * factor);
+        minHeap.clear();
+        candidates.forEach((postId, score) -> minHeap.add(Map.entry(postId, score)));
+        landmarkMillis = now;
+    }
+}
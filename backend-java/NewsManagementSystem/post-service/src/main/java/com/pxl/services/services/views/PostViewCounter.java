@@ -0,0 +1,133 @@
+package com.pxl.services.services.views;
+
+import com.pxl.services.domain.DTO.PostViewsDTO;
+import com.pxl.services.domain.PostView;
+import com.pxl.services.domain.event.PostChangedEvent;
+import com.pxl.services.exceptions.PostNotFoundException;
+import com.pxl.services.repository.PostRepository;
+import com.pxl.services.repository.PostViewRepository;
+import com.pxl.services.services.trending.TrendingPosts;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts post views in memory and adds them to post_view with one batched upsert per flush.
+ * Each post has a {@link LongAdder}, whose striped cells keep concurrent readers of the same
+ * post from contending. At most one flush interval of views is lost if the process dies.
+ * Flushed deltas are also fed to {@link TrendingPosts}, so trending sees views in flush-sized batches.
+ */
+@Component
+public class PostViewCounter {
+    private static final Logger log = LoggerFactory.getLogger(PostViewCounter.class);
+    // Selecting from post skips posts deleted since their views were counted, so a flush cannot
+    // recreate the row that the delete handler just removed
+    private static final String UPSERT = "insert into post_view (post_id, view_count) select id, ? from post where id = ? " +
+            "on duplicate key update view_count = view_count + values(view_count)";
+
+    private final PostRepository postRepository;
+    private final PostViewRepository postViewRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TrendingPosts trendingPosts;
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    public PostViewCounter(PostRepository postRepository, PostViewRepository postViewRepository,
+                           JdbcTemplate jdbcTemplate, TrendingPosts trendingPosts) {
+        this.postRepository = postRepository;
+        this.postViewRepository = postViewRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.trendingPosts = trendingPosts;
+    }
+
+    public void recordView(Long postId) {
+        pending.computeIfAbsent(postId, id -> new LongAdder()).increment();
+    }
+
+    public PostViewsDTO getViews(Long postId) {
+        if (!postRepository.existsById(postId)) {
+            throw new PostNotFoundException("Post with ID " + postId + " not found.");
+        }
+        LongAdder adder = pending.get(postId);
+        long unflushed = adder == null ? 0 : adder.sum();
+        long persisted = postViewRepository.findById(postId).map(PostView::getViewCount).orElse(0L);
+        return PostViewsDTO.builder()
+                .postId(postId)
+                .views(persisted + unflushed)
+                .pending(unflushed)
+                .build();
+    }
+
+    @Scheduled(fixedDelayString = "${posts.views.flush-interval:PT5S}")
+    public void flush() {
+        List<Object[]> deltas = new ArrayList<>();
+        pending.forEach((postId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta == 0) {
+                evict(postId, adder);
+            } else {
+                deltas.add(new Object[]{delta, postId});
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+        try {
+            int[] updated = jdbcTemplate.batchUpdate(UPSERT, deltas);
+            log.debug("Flushed view counts of {} posts", deltas.size());
+            for (int i = 0; i < deltas.size(); i++) {
+                if (updated[i] != 0) {
+                    trendingPosts.recordViews((Long) deltas.get(i)[1], (Long) deltas.get(i)[0]);
+                }
+            }
+        } catch (Exception e) {
+            log.error("Failed to flush view counts of {} posts, keeping them for the next flush: {}",
+                    deltas.size(), e.getMessage());
+            deltas.forEach(delta -> pending.computeIfAbsent((Long) delta[1], id -> new LongAdder()).add((Long) delta[0]));
+        }
+    }
+
+    /**
+     * Drops the adder of a post that was not viewed for a whole flush interval, so the map only
+     * holds recently viewed posts. A reader can still hold the adder it fetched before the
+     * removal, so an increment that lands after it is moved into the map's current adder.
+     */
+    private void evict(Long postId, LongAdder adder) {
+        if (pending.remove(postId, adder)) {
+            long late = adder.sumThenReset();
+            if (late > 0) {
+                pending.computeIfAbsent(postId, id -> new LongAdder()).add(late);
+            }
+        }
+    }
+
+    /**
+     * Runs after the delete has committed, so a flush that starts later no longer finds the post
+     * and cannot write its row back. Needs its own transaction to actually delete the row.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.type() == PostChangedEvent.ChangeType.DELETED) {
+            pending.remove(event.postId());
+            postViewRepository.deleteById(event.postId());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,14 @@
+alter table post add column publish_at datetime(6);
+
+create index idx_post_publish_at on post (publish_at);
+
+-- One row per lease; replicas take it over with a conditional update once it has expired
+create table if not exists publisher_lease
+(
+    name       varchar(64)  not null,
+    owner      varchar(64),
+    expires_at datetime(6)  not null,
+    primary key (name)
+) engine = InnoDB;
+
+insert into publisher_lease (name, owner, expires_at) values ('post-publisher', null, '1970-01-01 00:00:01');
@@ -0,0 +1,11 @@
+-- Sanitized HTML rendered from post content on every write, so readers never pay for rendering
+create table if not exists post_html
+(
+    post_id          bigint      not null,
+    content_hash     char(64)    not null,
+    renderer_version integer     not null,
+    html             mediumtext  not null,
+    rendered_at      datetime(6) not null,
+    primary key (post_id),
+    constraint fk_post_html_post foreign key (post_id) references post (id) on delete cascade
+) engine = InnoDB;
@@ -0,0 +1,15 @@
+-- Attachment metadata only; the bytes live in the content-addressed attachment directory
+create table if not exists post_attachment
+(
+    id           bigint       not null auto_increment,
+    post_id      bigint       not null,
+    sha256       char(64)     not null,
+    file_name    varchar(255) not null,
+    content_type varchar(127) not null,
+    size         bigint       not null,
+    created_at   datetime(6)  not null,
+    primary key (id),
+    index idx_post_attachment_post_id (post_id),
+    index idx_post_attachment_sha256 (sha256),
+    constraint fk_post_attachment_post foreign key (post_id) references post (id) on delete cascade
+) engine = InnoDB;
@@ -0,0 +1,15 @@
+-- Readers and authors are the user names the frontend signs in with; an author need not have posted yet
+create table if not exists post_follow
+(
+    id         bigint       not null auto_increment,
+    reader     varchar(255) collate utf8mb4_bin not null,
+    author     varchar(255) collate utf8mb4_bin not null,
+    created_at datetime(6)  not null,
+    primary key (id),
+    constraint uk_post_follow_reader_author unique (reader, author),
+    index idx_post_follow_author (author)
+) engine = InnoDB;
+
+-- Timelines read the latest published posts of one author; replaces idx_post_author_id, which is its prefix
+create index idx_post_author_id_status_created_at on post (author_id, status, created_at);
+drop index idx_post_author_id on post;
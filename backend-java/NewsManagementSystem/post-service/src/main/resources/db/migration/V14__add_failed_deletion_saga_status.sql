@@ -0,0 +1,2 @@
+-- Sagas that ran out of attempts stop being re-broadcast and wait for an operator
+alter table post_deletion_saga modify column status enum ('COMPLETED','FAILED','PENDING') not null;
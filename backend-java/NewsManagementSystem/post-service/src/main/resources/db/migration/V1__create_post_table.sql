@@ -0,0 +1,13 @@
+-- Baseline matching the schema previously generated by Hibernate (ddl-auto=update)
+create table if not exists post
+(
+    id         bigint not null auto_increment,
+    author     varchar(255),
+    category   varchar(255),
+    content    varchar(255),
+    created_at datetime(6),
+    status     enum ('APPROVED','DRAFT','PENDING','PUBLISHED','REJECTED'),
+    title      varchar(255),
+    updated_at datetime(6),
+    primary key (id)
+) engine = InnoDB;
@@ -0,0 +1,11 @@
+-- Keyset listing without filters: order by created_at desc, id desc (InnoDB appends the primary key)
+create index idx_post_created_at on post (created_at);
+
+-- findByStatus and the status-filtered keyset listing
+create index idx_post_status_created_at on post (status, created_at);
+
+-- findByCategory and the category-filtered keyset listing
+create index idx_post_category_created_at on post (category, created_at);
+
+-- findByAuthor and the author half of findByCategoryOrAuthor
+create index idx_post_author on post (author);
@@ -0,0 +1,2 @@
+-- Watermark order of the NDJSON export: order by updated_at, id
+create index idx_post_updated_at on post (updated_at);
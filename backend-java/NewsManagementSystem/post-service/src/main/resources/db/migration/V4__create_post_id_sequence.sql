@@ -0,0 +1,10 @@
+-- MySQL has no sequences; Hibernate emulates post_seq with a single-row table.
+-- The pooled optimizer hands out (next_val - 49 .. next_val), so start above the current ids.
+create table post_seq
+(
+    next_val bigint
+) engine = InnoDB;
+
+insert into post_seq (next_val)
+select coalesce(max(id), 0) + 51
+from post;
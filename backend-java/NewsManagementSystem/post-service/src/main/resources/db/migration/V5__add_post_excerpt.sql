@@ -0,0 +1,6 @@
+alter table post add column excerpt varchar(255);
+
+-- Approximates Post.excerptOf for existing rows; every later write recomputes it in the entity
+update post
+set excerpt = trim(left(trim(regexp_replace(content, '<[^>]*>', ' ')), 160))
+where excerpt is null;
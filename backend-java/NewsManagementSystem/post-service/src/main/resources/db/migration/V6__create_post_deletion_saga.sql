@@ -0,0 +1,14 @@
+create table if not exists post_deletion_saga
+(
+    post_id         bigint                         not null,
+    status          enum ('COMPLETED','PENDING')   not null,
+    reviews_purged  bit                            not null,
+    comments_purged bit                            not null,
+    attempts        integer                        not null,
+    started_at      datetime(6)                    not null,
+    last_attempt_at datetime(6),
+    completed_at    datetime(6),
+    primary key (post_id)
+) engine = InnoDB;
+
+create index idx_post_deletion_saga_status_attempt on post_deletion_saga (status, last_attempt_at);
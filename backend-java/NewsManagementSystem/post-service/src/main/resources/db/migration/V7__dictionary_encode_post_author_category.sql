@@ -0,0 +1,39 @@
+-- Binary collation keeps dictionary lookups as exact as the Java-side String equality
+create table if not exists post_author
+(
+    id   integer      not null auto_increment,
+    name varchar(255) collate utf8mb4_bin not null,
+    primary key (id),
+    constraint uk_post_author_name unique (name)
+) engine = InnoDB;
+
+create table if not exists post_category
+(
+    id   integer      not null auto_increment,
+    name varchar(255) collate utf8mb4_bin not null,
+    primary key (id),
+    constraint uk_post_category_name unique (name)
+) engine = InnoDB;
+
+insert into post_author (name)
+select distinct author collate utf8mb4_bin from post where author is not null;
+
+insert into post_category (name)
+select distinct category collate utf8mb4_bin from post where category is not null;
+
+alter table post add column author_id integer;
+alter table post add column category_id integer;
+
+update post set author_id = (select a.id from post_author a where a.name = post.author collate utf8mb4_bin);
+update post set category_id = (select c.id from post_category c where c.name = post.category collate utf8mb4_bin);
+
+drop index idx_post_author on post;
+drop index idx_post_category_created_at on post;
+alter table post drop column author;
+alter table post drop column category;
+
+create index idx_post_author_id on post (author_id);
+create index idx_post_category_id_created_at on post (category_id, created_at);
+
+alter table post add constraint fk_post_author foreign key (author_id) references post_author (id);
+alter table post add constraint fk_post_category foreign key (category_id) references post_category (id);
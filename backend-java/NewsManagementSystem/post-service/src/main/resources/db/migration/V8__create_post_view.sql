@@ -0,0 +1,7 @@
+-- No foreign key: counts are flushed asynchronously and may arrive after the post is deleted
+create table if not exists post_view
+(
+    post_id    bigint not null,
+    view_count bigint not null,
+    primary key (post_id)
+) engine = InnoDB;
@@ -0,0 +1,14 @@
+-- Earlier versions of a post, each stored as a delta against the version that replaced it
+create table if not exists post_revision
+(
+    id          bigint      not null auto_increment,
+    post_id     bigint      not null,
+    revision    integer     not null,
+    delta       mediumblob  not null,
+    delta_size  integer     not null,
+    updated_at  datetime(6),
+    replaced_at datetime(6) not null,
+    primary key (id),
+    constraint uk_post_revision_post_revision unique (post_id, revision),
+    constraint fk_post_revision_post foreign key (post_id) references post (id) on delete cascade
+) engine = InnoDB;
@@ -0,0 +1,172 @@
+package com.pxl.controller;
+
+import com.pxl.services.controller.PostAttachmentController;
+import com.pxl.services.domain.PostAttachment;
+import com.pxl.services.services.attachment.AttachmentStore;
+import com.pxl.services.services.attachment.PostAttachmentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.*;
+
+public class PostAttachmentControllerTest {
+
+    @TempDir
+    Path directory;
+
+    private PostAttachmentService postAttachmentService;
+    private PostAttachmentController postAttachmentController;
+    private PostAttachment attachment;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        postAttachmentService = mock(PostAttachmentService.class);
+        AttachmentStore attachmentStore = new AttachmentStore(directory);
+        postAttachmentController = new PostAttachmentController(postAttachmentService, attachmentStore);
+
+        AttachmentStore.StoredBlob blob = attachmentStore.write(
+                new ByteArrayInputStream("0123456789".getBytes(StandardCharsets.UTF_8)), 100);
+        attachment = PostAttachment.builder()
+                .id(7L)
+                .postId(1L)
+                .sha256(blob.sha256())
+                .fileName("digits.pdf")
+                .contentType("application/pdf")
+                .size(blob.size())
+                .createdAt(LocalDateTime.now())
+                .build();
+        when(postAttachmentService.getAttachment(1L, 7L)).thenReturn(Optional.of(attachment));
+    }
+
+    @Test
+    void getAttachment_ServesWholeFile() throws Exception {
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/posts/1/attachments/7");
+
+
+        ResponseEntity<StreamingResponseBody> response = postAttachmentController.getAttachment(1L, 7L, webRequest(request));
+
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(10, response.getHeaders().getContentLength());
+        assertEquals("\"" + attachment.getSha256() + "\"", response.getHeaders().getETag());
+        assertEquals("bytes", response.getHeaders().getFirst(HttpHeaders.ACCEPT_RANGES));
+        assertEquals("0123456789", body(response));
+    }
+
+    @Test
+    void getAttachment_ServesRequestedRange() throws Exception {
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/posts/1/attachments/7");
+        request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+
+
+        ResponseEntity<StreamingResponseBody> response = postAttachmentController.getAttachment(1L, 7L, webRequest(request));
+
+
+        assertEquals(HttpStatus.PARTIAL_CONTENT, response.getStatusCode());
+        assertEquals("bytes 2-5/10", response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE));
+        assertEquals(4, response.getHeaders().getContentLength());
+        assertEquals("2345", body(response));
+    }
+
+    @Test
+    void getAttachment_IgnoresRangeForAnotherVersion() throws Exception {
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/posts/1/attachments/7");
+        request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+        request.addHeader(HttpHeaders.IF_RANGE, "\"other\"");
+
+
+        ResponseEntity<StreamingResponseBody> response = postAttachmentController.getAttachment(1L, 7L, webRequest(request));
+
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("0123456789", body(response));
+    }
+
+    @Test
+    void getAttachment_UnsatisfiableRange() {
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/posts/1/attachments/7");
+        request.addHeader(HttpHeaders.RANGE, "bytes=20-30");
+
+
+        ResponseEntity<StreamingResponseBody> response = postAttachmentController.getAttachment(1L, 7L, webRequest(request));
+
+
+        assertEquals(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE, response.getStatusCode());
+        assertEquals("bytes */10", response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE));
+    }
+
+    @Test
+    void getAttachment_NotModified() {
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/posts/1/attachments/7");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"" + attachment.getSha256() + "\"");
+
+
+        ResponseEntity<StreamingResponseBody> response = postAttachmentController.getAttachment(1L, 7L, webRequest(request));
+
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+    }
+
+    @Test
+    void getAttachment_HandsFileToSendfileWhenSupported() {
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/posts/1/attachments/7");
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+        request.addHeader(HttpHeaders.RANGE, "bytes=4-");
+
+
+        ResponseEntity<StreamingResponseBody> response = postAttachmentController.getAttachment(1L, 7L, webRequest(request));
+
+
+        assertEquals(HttpStatus.PARTIAL_CONTENT, response.getStatusCode());
+        assertNull(response.getBody());
+        assertEquals(4L, request.getAttribute("org.apache.tomcat.sendfile.start"));
+        assertEquals(10L, request.getAttribute("org.apache.tomcat.sendfile.end"));
+    }
+
+    @Test
+    void getAttachment_NotFound() {
+
+        when(postAttachmentService.getAttachment(1L, 8L)).thenReturn(Optional.empty());
+
+
+        ResponseEntity<StreamingResponseBody> response = postAttachmentController.getAttachment(1L, 8L,
+                webRequest(new MockHttpServletRequest()));
+
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+
+    private static String body(ResponseEntity<StreamingResponseBody> response) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static ServletWebRequest webRequest(MockHttpServletRequest request) {
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+}
@@ -1,25 +1,53 @@
 package com.pxl.controller;
 
 import com.pxl.services.controller.PostController;
+import com.pxl.services.domain.DTO.CacheStatsDTO;
+import com.pxl.services.domain.DTO.DraftPatchDTO;
+import com.pxl.services.domain.DTO.DraftStateDTO;
+import com.pxl.services.domain.DTO.PostCriterionDTO;
 import com.pxl.services.domain.DTO.PostDTO;
+import com.pxl.services.domain.DTO.PostFacetCountsDTO;
+import com.pxl.services.domain.DTO.PostPageDTO;
+import com.pxl.services.domain.DTO.PostRevisionDTO;
+import com.pxl.services.domain.DTO.PostRevisionInfoDTO;
+import com.pxl.services.domain.DTO.PostSummaryDTO;
+import com.pxl.services.domain.DTO.PostViewsDTO;
+import com.pxl.services.domain.DTO.PublicationScheduleDTO;
+import com.pxl.services.domain.DTO.SuggestionDTO;
+import com.pxl.services.domain.DTO.TextEditDTO;
+import com.pxl.services.domain.DTO.TrendingPostDTO;
 import com.pxl.services.domain.Post;
+import com.pxl.services.domain.PostHtml;
 import com.pxl.services.domain.ReviewStatus;
 import com.pxl.services.services.PostService;
+import com.pxl.services.services.criteria.PostCriteriaSearch;
+import com.pxl.services.services.draft.PostDraftBuffer;
+import com.pxl.services.services.facet.FacetFilter;
+import com.pxl.services.services.html.PostHtmlService;
+import com.pxl.services.services.views.PostViewCounter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
@@ -29,6 +57,18 @@ public class PostControllerTest {
     @Mock
     private PostService postService;
 
+    @Mock
+    private PostViewCounter postViewCounter;
+
+    @Mock
+    private PostDraftBuffer postDraftBuffer;
+
+    @Mock
+    private PostHtmlService postHtmlService;
+
+    @Mock
+    private PostCriteriaSearch postCriteriaSearch;
+
     @InjectMocks
     private PostController postController;
 
@@ -154,6 +194,46 @@ public class PostControllerTest {
         verify(postService, times(1)).getPosts();
     }
 
+    @Test
+    void getPostPage_Success() {
+
+        PostPageDTO<Post> page = PostPageDTO.<Post>builder()
+                .items(List.of(testPost))
+                .nextCursor("cursor")
+                .hasMore(true)
+                .build();
+        when(postService.getPostPage(null, 20, ReviewStatus.DRAFT, null)).thenReturn(page);
+
+
+        PostPageDTO<Post> response = postController.getPostPage(null, 20, ReviewStatus.DRAFT, null);
+
+
+        assertEquals(page, response);
+        verify(postService, times(1)).getPostPage(null, 20, ReviewStatus.DRAFT, null);
+    }
+
+    @Test
+    void getPostSummaries_Success() {
+
+        PostSummaryDTO summary = PostSummaryDTO.builder()
+                .id(testPost.getId())
+                .title(testPost.getTitle())
+                .excerpt(Post.excerptOf(testPost.getContent()))
+                .build();
+        PostPageDTO<PostSummaryDTO> page = PostPageDTO.<PostSummaryDTO>builder()
+                .items(List.of(summary))
+                .hasMore(false)
+                .build();
+        when(postService.getPostSummaries(null, 20, null, null)).thenReturn(page);
+
+
+        PostPageDTO<PostSummaryDTO> response = postController.getPostSummaries(null, 20, null, null);
+
+
+        assertEquals(page, response);
+        verify(postService, times(1)).getPostSummaries(null, 20, null, null);
+    }
+
     @Test
     void searchPosts_Success() {
 
@@ -168,31 +248,296 @@ public class PostControllerTest {
         verify(postService, times(1)).searchPosts("content", "category", "author");
     }
 
+    @Test
+    void searchPostsByCriteria_Success() {
+
+        PostCriterionDTO filter = PostCriterionDTO.builder()
+                .op("in")
+                .field("category")
+                .values(List.of("Test Category"))
+                .build();
+        PostPageDTO<PostSummaryDTO> page = PostPageDTO.<PostSummaryDTO>builder()
+                .items(List.of(PostSummaryDTO.builder().id(testPost.getId()).build()))
+                .hasMore(false)
+                .build();
+        when(postCriteriaSearch.search(filter, null, 20)).thenReturn(page);
+
+
+        PostPageDTO<PostSummaryDTO> response = postController.searchPosts(filter, null, 20);
+
+
+        assertEquals(page, response);
+        verify(postCriteriaSearch, times(1)).search(filter, null, 20);
+    }
+
+    @Test
+    void filterPosts_Success() {
+
+        FacetFilter filter = new FacetFilter(Set.of(ReviewStatus.DRAFT), Set.of("Test Category"), null);
+        when(postService.filterPosts(filter, 50)).thenReturn(List.of(testPost));
+
+
+        List<Post> response = postController.filterPosts(Set.of(ReviewStatus.DRAFT), Set.of("Test Category"), null, 50);
+
+
+        assertEquals(List.of(testPost), response);
+        verify(postService, times(1)).filterPosts(filter, 50);
+    }
+
+    @Test
+    void suggest_Success() {
+
+        List<SuggestionDTO> suggestions = List.of(new SuggestionDTO("Test Author", "AUTHOR", 3));
+        when(postService.suggest("te", 10)).thenReturn(suggestions);
+
+
+        List<SuggestionDTO> response = postController.suggest("te", 10);
+
+
+        assertEquals(suggestions, response);
+    }
+
+    @Test
+    void getFacetCounts_Success() {
+
+        PostFacetCountsDTO counts = PostFacetCountsDTO.builder()
+                .total(1)
+                .status(Map.of("DRAFT", 1L))
+                .category(Map.of("Test Category", 1L))
+                .author(Map.of("Test Author", 1L))
+                .build();
+        when(postService.getFacetCounts(FacetFilter.none())).thenReturn(counts);
+
+
+        PostFacetCountsDTO response = postController.getFacetCounts(null, null, null);
+
+
+        assertEquals(counts, response);
+    }
+
+    @Test
+    void getTrendingPosts_Success() {
+
+        List<TrendingPostDTO> trending = List.of(new TrendingPostDTO(testPost, 3.5));
+        when(postService.getTrendingPosts(5)).thenReturn(trending);
+
+
+        List<TrendingPostDTO> response = postController.getTrendingPosts(5);
+
+
+        assertEquals(trending, response);
+    }
+
+    @Test
+    void getCacheStats_Success() {
+
+        List<CacheStatsDTO> stats = List.of(CacheStatsDTO.builder().name("posts").hitCount(3).missCount(1).build());
+        when(postService.getCacheStats()).thenReturn(stats);
+
+
+        List<CacheStatsDTO> response = postController.getCacheStats();
+
+
+        assertEquals(stats, response);
+        verify(postService, times(1)).getCacheStats();
+    }
+
     @Test
     void getPostById_Success() {
 
+        when(postService.getPostVersion(1L)).thenReturn(Optional.of(testPost.getUpdatedAt()));
         when(postService.getPostById(1L)).thenReturn(Optional.of(testPost));
 
 
-        ResponseEntity<?> response = postController.getPostById(1L);
+        ResponseEntity<?> response = postController.getPostById(1L, webRequest(new MockHttpServletRequest()));
 
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(testPost, response.getBody());
+        assertEquals(eTag(testPost), response.getHeaders().getETag());
         verify(postService, times(1)).getPostById(1L);
+        verify(postViewCounter).recordView(1L);
+    }
+
+    @Test
+    void getPostById_NotModified() {
+
+        when(postService.getPostVersion(1L)).thenReturn(Optional.of(testPost.getUpdatedAt()));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/posts/1");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, eTag(testPost));
+
+
+        ResponseEntity<?> response = postController.getPostById(1L, webRequest(request));
+
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+        verify(postService, never()).getPostById(1L);
+        verify(postViewCounter, never()).recordView(1L);
+    }
+
+    @Test
+    void getPostHtml_VersionedRequestIsImmutable() {
+
+        when(postHtmlService.getHtml(1L)).thenReturn(Optional.of(postHtml()));
+
+
+        ResponseEntity<String> response = postController.getPostHtml(1L, "abc123", webRequest(new MockHttpServletRequest()));
+
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("<p>Test Content</p>", response.getBody());
+        assertEquals("\"abc123\"", response.getHeaders().getETag());
+        assertTrue(response.getHeaders().getCacheControl().contains("immutable"));
+    }
+
+    @Test
+    void getPostHtml_NotModified() {
+
+        when(postHtmlService.getHtml(1L)).thenReturn(Optional.of(postHtml()));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/posts/1/html");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"abc123\"");
+
+
+        ResponseEntity<String> response = postController.getPostHtml(1L, null, webRequest(request));
+
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+        assertEquals("no-cache, public", response.getHeaders().getCacheControl());
+    }
+
+    @Test
+    void getPostHtml_NotFound() {
+
+        when(postHtmlService.getHtml(1L)).thenReturn(Optional.empty());
+
+
+        ResponseEntity<String> response = postController.getPostHtml(1L, null, webRequest(new MockHttpServletRequest()));
+
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
     }
 
     @Test
     void getPostById_NotFound() {
 
-        when(postService.getPostById(1L)).thenReturn(Optional.empty());
+        when(postService.getPostVersion(1L)).thenReturn(Optional.empty());
 
 
-        ResponseEntity<?> response = postController.getPostById(1L);
+        ResponseEntity<?> response = postController.getPostById(1L, webRequest(new MockHttpServletRequest()));
 
 
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
-        verify(postService, times(1)).getPostById(1L);
+        verify(postService, never()).getPostById(1L);
+    }
+
+    @Test
+    void getPostViews_Success() {
+
+        PostViewsDTO views = PostViewsDTO.builder().postId(1L).views(12).pending(2).build();
+        when(postViewCounter.getViews(1L)).thenReturn(views);
+
+
+        PostViewsDTO response = postController.getPostViews(1L);
+
+
+        assertEquals(views, response);
+    }
+
+    @Test
+    void patchDraft_Success() {
+
+        DraftPatchDTO patch = DraftPatchDTO.builder()
+                .baseVersion(4L)
+                .content(List.of(new TextEditDTO(0, 4, "Draft")))
+                .build();
+        DraftStateDTO state = new DraftStateDTO(1L, 5L, true);
+        when(postDraftBuffer.patch(1L, patch)).thenReturn(state);
+
+
+        DraftStateDTO response = postController.patchDraft(1L, patch);
+
+
+        assertEquals(state, response);
+        verify(postDraftBuffer).patch(1L, patch);
+    }
+
+    @Test
+    void schedulePublication_Success() {
+
+        LocalDateTime publishAt = LocalDateTime.now().plusHours(1);
+        when(postService.schedulePublication(1L, publishAt)).thenReturn(Optional.of(testPost));
+
+
+        ResponseEntity<Post> response = postController.schedulePublication(1L, new PublicationScheduleDTO(publishAt));
+
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(testPost, response.getBody());
+    }
+
+    @Test
+    void cancelPublication_NotFound() {
+
+        when(postService.cancelPublication(1L)).thenReturn(Optional.empty());
+
+
+        ResponseEntity<Post> response = postController.cancelPublication(1L);
+
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+
+    @Test
+    void getRevisions_Success() {
+
+        List<PostRevisionInfoDTO> revisions = List.of(PostRevisionInfoDTO.builder().revision(1).current(true).build());
+        when(postService.getRevisions(1L)).thenReturn(revisions);
+
+
+        List<PostRevisionInfoDTO> response = postController.getRevisions(1L);
+
+
+        assertEquals(revisions, response);
+    }
+
+    @Test
+    void getRevision_Success() {
+
+        PostRevisionDTO revision = PostRevisionDTO.builder().postId(1L).revision(1).title("Old Title").build();
+        when(postService.getRevision(1L, 1)).thenReturn(Optional.of(revision));
+
+
+        ResponseEntity<PostRevisionDTO> response = postController.getRevision(1L, 1);
+
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(revision, response.getBody());
+    }
+
+    @Test
+    void getRevision_NotFound() {
+
+        when(postService.getRevision(1L, 9)).thenReturn(Optional.empty());
+
+
+        ResponseEntity<PostRevisionDTO> response = postController.getRevision(1L, 9);
+
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+
+    @Test
+    void getRelatedPosts_Success() {
+
+        when(postService.getRelatedPosts(1L, 5)).thenReturn(List.of(testPost));
+
+
+        List<Post> response = postController.getRelatedPosts(1L, 5);
+
+
+        assertEquals(List.of(testPost), response);
     }
 
     @Test
@@ -220,4 +565,23 @@ public class PostControllerTest {
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
         verify(postService, times(1)).deletePost(1L);
     }
-}
\ No newline at end of file
+
+    private static PostHtml postHtml() {
+        return PostHtml.builder()
+                .postId(1L)
+                .contentHash("abc123")
+                .rendererVersion(1)
+                .html("<p>Test Content</p>")
+                .renderedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static ServletWebRequest webRequest(MockHttpServletRequest request) {
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+
+    private static String eTag(Post post) {
+        return "\"" + post.getId() + "-"
+                + post.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() + "\"";
+    }
+}
@@ -0,0 +1,82 @@
+package com.pxl.controller;
+
+import com.pxl.services.controller.PostFeedController;
+import com.pxl.services.services.feed.FeedFormat;
+import com.pxl.services.services.feed.PostFeeds;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.*;
+
+public class PostFeedControllerTest {
+
+    private PostFeeds postFeeds;
+    private PostFeedController postFeedController;
+    private PostFeeds.FeedBody feed;
+
+    @BeforeEach
+    void setUp() {
+        postFeeds = mock(PostFeeds.class);
+        postFeedController = new PostFeedController(postFeeds);
+        feed = new PostFeeds.FeedBody("<rss/>".getBytes(StandardCharsets.UTF_8), "\"abc-rss\"", FeedFormat.RSS.mediaType());
+        when(postFeeds.getFeed(FeedFormat.RSS, "news")).thenReturn(feed);
+    }
+
+    @Test
+    void getFeed_ServesPreparedBody() {
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/posts/feed/rss");
+
+
+        ResponseEntity<byte[]> response = postFeedController.getFeed("rss", "news", webRequest(request));
+
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertArrayEquals(feed.body(), response.getBody());
+        assertEquals("\"abc-rss\"", response.getHeaders().getETag());
+        assertEquals(FeedFormat.RSS.mediaType(), response.getHeaders().getContentType());
+        assertEquals("max-age=60, public", response.getHeaders().getCacheControl());
+    }
+
+    @Test
+    void getFeed_ReturnsNotModifiedForCurrentETag() {
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/posts/feed/rss");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"abc-rss\"");
+
+
+        ResponseEntity<byte[]> response = postFeedController.getFeed("rss", "news", webRequest(request));
+
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+    }
+
+    @Test
+    void getFeed_UnknownFormatReturnsNotFound() {
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/posts/feed/xml");
+
+
+        ResponseEntity<byte[]> response = postFeedController.getFeed("xml", null, webRequest(request));
+
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        verifyNoInteractions(postFeeds);
+    }
+
+    private static ServletWebRequest webRequest(MockHttpServletRequest request) {
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+}
@@ -0,0 +1,96 @@
+package com.pxl.services;
+
+import com.pxl.services.exceptions.AttachmentTooLargeException;
+import com.pxl.services.services.attachment.AttachmentStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AttachmentStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private AttachmentStore attachmentStore;
+
+    @BeforeEach
+    void setUp() {
+        attachmentStore = new AttachmentStore(directory);
+    }
+
+    @Test
+    void write_StoresContentUnderItsHash() throws Exception {
+        AttachmentStore.StoredBlob blob = attachmentStore.write(stream("hello"), 100);
+
+        assertEquals("2cf24dba5fb0a30e26e83b2ac5b9e29e1b161e5c1fa7425e73043362938b9824", blob.sha256());
+        assertEquals(5, blob.size());
+        assertEquals("hello", Files.readString(attachmentStore.path(blob.sha256())));
+        assertTrue(attachmentStore.path(blob.sha256()).startsWith(directory.resolve("blobs").resolve("2c")));
+    }
+
+    @Test
+    void write_SameContentIsStoredOnce() throws Exception {
+        AttachmentStore.StoredBlob first = attachmentStore.write(stream("same"), 100);
+        AttachmentStore.StoredBlob second = attachmentStore.write(stream("same"), 100);
+
+        assertEquals(first.sha256(), second.sha256());
+        try (Stream<Path> files = Files.walk(directory)) {
+            assertEquals(1, files.filter(Files::isRegularFile).count());
+        }
+    }
+
+    @Test
+    void write_RejectsOversizedContentAndLeavesNothingBehind() throws Exception {
+        assertThrows(AttachmentTooLargeException.class, () -> attachmentStore.write(stream("too long"), 3));
+
+        try (Stream<Path> files = Files.walk(directory)) {
+            assertEquals(0, files.filter(Files::isRegularFile).count());
+        }
+    }
+
+    @Test
+    void transferTo_CopiesTheRequestedRange() throws Exception {
+        AttachmentStore.StoredBlob blob = attachmentStore.write(stream("0123456789"), 100);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        attachmentStore.transferTo(blob.sha256(), 3, 4, out);
+
+        assertEquals("3456", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void deleteIfOlderThan_SparesRecentlyWrittenBlobs() throws Exception {
+        AttachmentStore.StoredBlob old = attachmentStore.write(stream("old"), 100);
+        AttachmentStore.StoredBlob recent = attachmentStore.write(stream("recent"), 100);
+        Files.setLastModifiedTime(attachmentStore.path(old.sha256()), FileTime.from(Instant.now().minus(Duration.ofDays(1))));
+        Instant cutoff = Instant.now().minus(Duration.ofHours(1));
+
+        assertEquals(List.of(old.sha256()), attachmentStore.listOlderThan(cutoff));
+        assertTrue(attachmentStore.deleteIfOlderThan(old.sha256(), cutoff));
+        assertFalse(attachmentStore.deleteIfOlderThan(recent.sha256(), cutoff));
+        assertFalse(attachmentStore.exists(old.sha256()));
+        assertTrue(attachmentStore.exists(recent.sha256()));
+    }
+
+    @Test
+    void path_RejectsAnythingButAHash() {
+        assertThrows(IllegalArgumentException.class, () -> attachmentStore.path("../../etc/passwd"));
+    }
+
+    private static ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
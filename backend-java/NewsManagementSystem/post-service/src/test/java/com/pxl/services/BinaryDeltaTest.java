@@ -0,0 +1,61 @@
+package com.pxl.services;
+
+import com.pxl.services.services.revision.BinaryDelta;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryDeltaTest {
+
+    @Test
+    void apply_RebuildsTarget() {
+        byte[] source = bytes("The council approved the budget on Monday after a long debate.");
+        byte[] target = bytes("On Monday the council approved the budget after a short debate.");
+
+        assertArrayEquals(target, BinaryDelta.apply(source, BinaryDelta.encode(source, target)));
+    }
+
+    @Test
+    void encode_SizeFollowsTheEditNotTheDocument() {
+        byte[] source = randomText(50_000);
+        String text = new String(source, StandardCharsets.UTF_8);
+        byte[] target = bytes(text.substring(0, 20_000) + "a short correction" + text.substring(20_100));
+
+        byte[] delta = BinaryDelta.encode(source, target);
+
+        assertTrue(delta.length < 100, "delta was " + delta.length + " bytes");
+        assertArrayEquals(target, BinaryDelta.apply(source, delta));
+    }
+
+    @Test
+    void encode_HandlesEmptyAndUnrelatedInputs() {
+        byte[] text = bytes("Completely different");
+
+        assertArrayEquals(text, BinaryDelta.apply(new byte[0], BinaryDelta.encode(new byte[0], text)));
+        assertArrayEquals(new byte[0], BinaryDelta.apply(text, BinaryDelta.encode(text, new byte[0])));
+    }
+
+    @Test
+    void apply_RejectsCorruptDelta() {
+        assertThrows(IllegalArgumentException.class, () -> BinaryDelta.apply(bytes("source"), new byte[]{0, 0, 5, 100}));
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] randomText(int length) {
+        Random random = new Random(42);
+        StringBuilder text = new StringBuilder(length);
+        while (text.length() < length) {
+            text.append((char) ('a' + random.nextInt(26)));
+            if (random.nextInt(6) == 0) {
+                text.append(' ');
+            }
+        }
+        return bytes(text.substring(0, length));
+    }
+}
@@ -0,0 +1,109 @@
+package com.pxl.services;
+
+import com.pxl.services.domain.DTO.PostCriterionDTO;
+import com.pxl.services.domain.ReviewStatus;
+import com.pxl.services.exceptions.InvalidCriteriaException;
+import com.pxl.services.services.criteria.Criterion;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CriterionTest {
+
+    @Test
+    void compilesNestedFilterWithPositionalParameters() {
+        Criterion criterion = Criterion.parse(and(
+                in("status", "PUBLISHED", "APPROVED"),
+                or(in("category", "news"), not(in("author", "bob"))),
+                between("createdAt", LocalDateTime.of(2024, 1, 1, 0, 0), null),
+                text("java")));
+
+        StringBuilder shape = new StringBuilder();
+        criterion.shape(shape);
+        StringBuilder jpql = new StringBuilder();
+        criterion.where(jpql, new int[]{1});
+        List<Object> values = new ArrayList<>();
+        criterion.bind(values, query -> List.of(7L, 9L));
+
+        assertEquals("and(status:in,or(category:in,not(author:in)),createdAt:from,text)", shape.toString());
+        assertEquals("(p.status in ?1 and (p.category in ?2 or not (p.author in ?3)) and (p.createdAt >= ?4) and p.id in ?5)",
+                jpql.toString());
+        assertEquals(List.of(
+                List.of(ReviewStatus.PUBLISHED, ReviewStatus.APPROVED),
+                List.of("news"),
+                List.of("bob"),
+                LocalDateTime.of(2024, 1, 1, 0, 0),
+                List.of(7L, 9L)), values);
+    }
+
+    @Test
+    void shapeIgnoresValues() {
+        assertEquals(shape(and(in("category", "news"), text("java"))),
+                shape(and(in("category", "sport", "tech", "art"), text("kotlin"))));
+        assertEquals("createdAt:fromto", shape(between("createdAt", LocalDateTime.MIN, LocalDateTime.MAX)));
+    }
+
+    @Test
+    void textWithoutMatchesMatchesNothing() {
+        List<Object> values = new ArrayList<>();
+
+        Criterion.parse(text("nothing")).bind(values, query -> List.of());
+
+        assertEquals(List.of(List.of(0L)), values);
+    }
+
+    @Test
+    void rejectsInvalidCriteria() {
+        assertThrows(InvalidCriteriaException.class, () -> Criterion.parse(in("status", "UNKNOWN")));
+        assertThrows(InvalidCriteriaException.class, () -> Criterion.parse(in("content", "x")));
+        assertThrows(InvalidCriteriaException.class, () -> Criterion.parse(between("createdAt", null, null)));
+        assertThrows(InvalidCriteriaException.class, () -> Criterion.parse(PostCriterionDTO.builder().op("xor").build()));
+        assertThrows(InvalidCriteriaException.class, () -> Criterion.parse(PostCriterionDTO.builder().op("and").build()));
+    }
+
+    @Test
+    void rejectsFiltersNestedTooDeep() {
+        PostCriterionDTO filter = in("category", "news");
+        for (int i = 0; i < Criterion.MAX_DEPTH; i++) {
+            filter = not(filter);
+        }
+        PostCriterionDTO tooDeep = filter;
+
+        assertThrows(InvalidCriteriaException.class, () -> Criterion.parse(tooDeep));
+    }
+
+    private static String shape(PostCriterionDTO filter) {
+        StringBuilder shape = new StringBuilder();
+        Criterion.parse(filter).shape(shape);
+        return shape.toString();
+    }
+
+    private static PostCriterionDTO and(PostCriterionDTO... criteria) {
+        return PostCriterionDTO.builder().op("and").criteria(List.of(criteria)).build();
+    }
+
+    private static PostCriterionDTO or(PostCriterionDTO... criteria) {
+        return PostCriterionDTO.builder().op("or").criteria(List.of(criteria)).build();
+    }
+
+    private static PostCriterionDTO not(PostCriterionDTO criterion) {
+        return PostCriterionDTO.builder().op("not").criteria(List.of(criterion)).build();
+    }
+
+    private static PostCriterionDTO in(String field, String... values) {
+        return PostCriterionDTO.builder().op("in").field(field).values(List.of(values)).build();
+    }
+
+    private static PostCriterionDTO between(String field, LocalDateTime from, LocalDateTime to) {
+        return PostCriterionDTO.builder().op("between").field(field).from(from).to(to).build();
+    }
+
+    private static PostCriterionDTO text(String query) {
+        return PostCriterionDTO.builder().op("text").values(List.of(query)).build();
+    }
+}
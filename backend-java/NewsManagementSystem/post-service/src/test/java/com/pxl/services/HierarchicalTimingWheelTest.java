@@ -0,0 +1,56 @@
+package com.pxl.services;
+
+import com.pxl.services.services.publishing.HierarchicalTimingWheel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HierarchicalTimingWheelTest {
+
+    private HierarchicalTimingWheel<String> wheel;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new HierarchicalTimingWheel<>(10, 4, 3, 0);
+    }
+
+    @Test
+    void advanceTo_ExpiresTimersWhenTheirTickPasses() {
+        wheel.add("soon", 25);
+        wheel.add("later", 35);
+
+        assertEquals(List.of(), wheel.advanceTo(29));
+        assertEquals(List.of("soon"), wheel.advanceTo(30));
+        assertEquals(List.of("later"), wheel.advanceTo(40));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void advanceTo_CascadesTimersFromHigherLevels() {
+        // Tick 55 lies three levels up with 4 buckets of 10ms per level
+        wheel.add("far", 550);
+        wheel.add("near", 170);
+
+        assertEquals(List.of("near"), wheel.advanceTo(540));
+        assertEquals(List.of(), wheel.advanceTo(549));
+        assertEquals(List.of("far"), wheel.advanceTo(550));
+    }
+
+    @Test
+    void add_OverdueTimersExpireOnNextAdvance() {
+        wheel.advanceTo(100);
+
+        wheel.add("late", 50);
+
+        assertEquals(List.of("late"), wheel.advanceTo(100));
+    }
+
+    @Test
+    void add_RejectsTimersBeyondTheSpan() {
+        assertEquals(640, wheel.spanMillis());
+        assertThrows(IllegalArgumentException.class, () -> wheel.add("too far", 10_000));
+    }
+}
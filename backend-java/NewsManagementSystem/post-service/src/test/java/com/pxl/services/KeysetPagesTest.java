@@ -0,0 +1,30 @@
+package com.pxl.services;
+
+import com.pxl.services.services.index.KeysetPages;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class KeysetPagesTest {
+
+    @Test
+    void forEach_ReadsEveryPageAfterTheLastIdOfThePreviousOne() {
+        List<Long> ids = LongStream.rangeClosed(1, KeysetPages.PAGE_SIZE * 2L + 3).boxed().toList();
+        List<Long> requestedAfter = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+
+        long rows = KeysetPages.forEach((Long afterId, Pageable pageable) -> {
+            requestedAfter.add(afterId);
+            return ids.stream().filter(id -> id > afterId).limit(pageable.getPageSize()).toList();
+        }, Long::longValue, page -> pageSizes.add(page.size()));
+
+        assertEquals(ids.size(), rows);
+        assertEquals(List.of(0L, (long) KeysetPages.PAGE_SIZE, KeysetPages.PAGE_SIZE * 2L), requestedAfter);
+        assertEquals(List.of(KeysetPages.PAGE_SIZE, KeysetPages.PAGE_SIZE, 3), pageSizes);
+    }
+}
@@ -0,0 +1,112 @@
+package com.pxl.services;
+
+import com.pxl.services.domain.DTO.PostAttachmentDTO;
+import com.pxl.services.domain.PostAttachment;
+import com.pxl.services.exceptions.AttachmentTooLargeException;
+import com.pxl.services.exceptions.InvalidAttachmentException;
+import com.pxl.services.exceptions.PostNotFoundException;
+import com.pxl.services.repository.PostAttachmentRepository;
+import com.pxl.services.repository.PostRepository;
+import com.pxl.services.services.attachment.AttachmentStore;
+import com.pxl.services.services.attachment.PostAttachmentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class PostAttachmentServiceTest {
+
+    @TempDir
+    Path directory;
+
+    private PostAttachmentRepository postAttachmentRepository;
+    private PostRepository postRepository;
+    private AttachmentStore attachmentStore;
+    private PostAttachmentService postAttachmentService;
+
+    @BeforeEach
+    void setUp() {
+        postAttachmentRepository = mock(PostAttachmentRepository.class);
+        postRepository = mock(PostRepository.class);
+        attachmentStore = new AttachmentStore(directory);
+        postAttachmentService = new PostAttachmentService(postAttachmentRepository, postRepository, attachmentStore,
+                DataSize.ofBytes(16), Set.of("image/png", "application/pdf"), Duration.ofHours(1));
+        when(postRepository.existsById(1L)).thenReturn(true);
+        when(postAttachmentRepository.save(any(PostAttachment.class))).thenAnswer(invocation -> {
+            PostAttachment attachment = invocation.getArgument(0);
+            attachment.setId(7L);
+            return attachment;
+        });
+    }
+
+    @Test
+    void addAttachment_StoresFileAndMetadata() throws Exception {
+        PostAttachmentDTO attachment = postAttachmentService.addAttachment(1L, "C:\\scans\\report.pdf",
+                "application/pdf; name=report.pdf", 6L, stream("%PDF-1"));
+
+        assertEquals(7L, attachment.getId());
+        assertEquals("report.pdf", attachment.getFileName());
+        assertEquals("application/pdf", attachment.getContentType());
+        assertEquals(6, attachment.getSize());
+        assertTrue(attachmentStore.exists(attachment.getSha256()));
+    }
+
+    @Test
+    void addAttachment_RejectsTypesOutsideTheAllowList() {
+        assertThrows(InvalidAttachmentException.class,
+                () -> postAttachmentService.addAttachment(1L, "page.svg", "image/svg+xml", 5L, stream("<svg>")));
+        verify(postAttachmentRepository, never()).save(any());
+    }
+
+    @Test
+    void addAttachment_RejectsDeclaredLengthOverTheLimit() {
+        assertThrows(AttachmentTooLargeException.class,
+                () -> postAttachmentService.addAttachment(1L, "big.png", "image/png", 17L, stream("x")));
+    }
+
+    @Test
+    void addAttachment_UnknownPost() {
+        assertThrows(PostNotFoundException.class,
+                () -> postAttachmentService.addAttachment(2L, "a.png", "image/png", 1L, stream("x")));
+    }
+
+    @Test
+    void sweepOrphans_DeletesOnlyOldUnreferencedFiles() throws Exception {
+        String referenced = attachmentStore.write(stream("referenced"), 100).sha256();
+        String orphan = attachmentStore.write(stream("orphan"), 100).sha256();
+        String fresh = attachmentStore.write(stream("fresh"), 100).sha256();
+        age(referenced);
+        age(orphan);
+        when(postAttachmentRepository.findReferencedHashes(anyCollection())).thenReturn(List.of(referenced));
+
+        postAttachmentService.sweepOrphans();
+
+        assertTrue(attachmentStore.exists(referenced));
+        assertFalse(attachmentStore.exists(orphan));
+        assertTrue(attachmentStore.exists(fresh));
+    }
+
+    private void age(String sha256) throws Exception {
+        Files.setLastModifiedTime(attachmentStore.path(sha256), FileTime.from(Instant.now().minus(Duration.ofDays(1))));
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,104 @@
+package com.pxl.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.pxl.services.domain.DTO.BulkImportResultDTO;
+import com.pxl.services.domain.Post;
+import com.pxl.services.domain.event.PostChangedEvent;
+import com.pxl.services.domain.mapper.PostMapperImpl;
+import com.pxl.services.services.PostBulkImportService;
+import com.pxl.services.services.dictionary.PostDictionaries;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class PostBulkImportServiceTest {
+
+    private EntityManager entityManager;
+    private ApplicationEventPublisher eventPublisher;
+    private PostBulkImportService postBulkImportService;
+
+    @BeforeEach
+    void setUp() {
+        entityManager = mock(EntityManager.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        postBulkImportService = new PostBulkImportService(new PostMapperImpl(), entityManager,
+                new ObjectMapper().registerModule(new JavaTimeModule()), eventPublisher,
+                mock(PostDictionaries.class), mock(PlatformTransactionManager.class), 2);
+    }
+
+    @Test
+    void importPosts_ReportsBadRecordsWithoutAbortingTheStream() throws Exception {
+        String ndjson = """
+                {"title":"First","content":"Body","author":"Author","category":"news"}
+                not json
+                {"content":"Missing title","author":"Author","category":"news"}
+
+                {"title":"Second","content":"Body","author":"Author","category":"news","status":"PUBLISHED"}
+                {"title":"Third","content":"Body","author":"Author","category":"news","status":"UNKNOWN"}
+                """;
+
+        BulkImportResultDTO result = postBulkImportService.importPosts(stream(ndjson));
+
+        assertEquals(5, result.getReceived());
+        assertEquals(2, result.getImported());
+        assertEquals(3, result.getFailed());
+        assertEquals(2, result.getErrors().get(0).getLine());
+        assertEquals(3, result.getErrors().get(1).getLine());
+        assertEquals(6, result.getErrors().get(2).getLine());
+        verify(entityManager, times(2)).persist(any(Post.class));
+        verify(eventPublisher, times(2)).publishEvent(any(PostChangedEvent.class));
+    }
+
+    @Test
+    void importPosts_RetriesFailedChunkRecordByRecord() throws Exception {
+        String ndjson = """
+                {"title":"First","content":"Body","author":"Author","category":"news"}
+                {"title":"Second","content":"Body","author":"Author","category":"news"}
+                """;
+        doThrow(new PersistenceException("Duplicate entry"))
+                .doNothing()
+                .doThrow(new PersistenceException("Duplicate entry"))
+                .when(entityManager).flush();
+
+        BulkImportResultDTO result = postBulkImportService.importPosts(stream(ndjson));
+
+        assertEquals(2, result.getReceived());
+        assertEquals(1, result.getImported());
+        assertEquals(1, result.getFailed());
+        assertEquals(2, result.getErrors().get(0).getLine());
+        verify(entityManager, times(4)).persist(any(Post.class));
+    }
+
+    @Test
+    void importPosts_ListenerFailureDoesNotRetryCommittedChunk() throws Exception {
+        String ndjson = """
+                {"title":"First","content":"Body","author":"Author","category":"news"}
+                {"title":"Second","content":"Body","author":"Author","category":"news"}
+                """;
+        doThrow(new IllegalStateException("Listener failed"))
+                .doNothing()
+                .when(eventPublisher).publishEvent(any(PostChangedEvent.class));
+
+        BulkImportResultDTO result = postBulkImportService.importPosts(stream(ndjson));
+
+        assertEquals(2, result.getImported());
+        assertEquals(0, result.getFailed());
+        verify(entityManager, times(2)).persist(any(Post.class));
+        verify(eventPublisher, times(2)).publishEvent(any(PostChangedEvent.class));
+    }
+
+    private static ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,110 @@
+package com.pxl.services;
+
+import com.pxl.services.domain.DTO.CacheStatsDTO;
+import com.pxl.services.domain.Post;
+import com.pxl.services.domain.ReviewStatus;
+import com.pxl.services.domain.event.PostChangedEvent;
+import com.pxl.services.services.cache.PostCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PostCacheTest {
+
+    private PostCache postCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        postCache = new PostCache(100, 10, 10, Duration.ofMinutes(5));
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void getPost_LoadsOnceAndRecordsStats() {
+        Post post = post();
+
+        postCache.getPost(1L, id -> load(post));
+        Optional<Post> cached = postCache.getPost(1L, id -> load(post));
+
+        assertEquals(Optional.of(post), cached);
+        assertEquals(1, loads.get());
+        CacheStatsDTO stats = postCache.stats().get(0);
+        assertEquals(1, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+    }
+
+    @Test
+    void getPost_DoesNotCacheAbsentPosts() {
+        postCache.getPost(1L, id -> load(null));
+        postCache.getPost(1L, id -> load(null));
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void onPostChanged_InvalidatesPostAndLists() {
+        Post post = post();
+        postCache.getPost(1L, id -> load(post));
+        postCache.getPostList("all", () -> List.of(post));
+
+        postCache.onPostChanged(PostChangedEvent.deleted(1L));
+
+        postCache.getPost(1L, id -> load(post));
+        assertEquals(2, loads.get());
+        assertEquals(List.of(), postCache.getPostList("all", List::of));
+    }
+
+    @Test
+    void getSearchResult_ServesCurrentGeneration() {
+        postCache.getSearchResult("budget||", () -> searchLoad(1L, 2L));
+        List<Long> cached = postCache.getSearchResult("budget||", () -> searchLoad(3L));
+
+        assertEquals(List.of(1L, 2L), cached);
+        assertEquals(1, loads.get());
+        CacheStatsDTO stats = postCache.stats().get(2);
+        assertEquals("searchResults", stats.getName());
+        assertEquals(1, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+    }
+
+    @Test
+    void getSearchResult_ReloadsAfterAnyChange() {
+        postCache.getSearchResult("budget||", () -> searchLoad(1L, 2L));
+
+        postCache.onPostChanged(PostChangedEvent.statusChanged(7L, ReviewStatus.PUBLISHED));
+
+        assertEquals(List.of(2L), postCache.getSearchResult("budget||", () -> searchLoad(2L)));
+        assertEquals(2, loads.get());
+    }
+
+    private List<Long> searchLoad(Long... ids) {
+        loads.incrementAndGet();
+        return List.of(ids);
+    }
+
+    private static Post post() {
+        return Post.builder()
+                .id(1L)
+                .title("Title")
+                .content("Content")
+                .author("Author")
+                .category("Category")
+                .status(ReviewStatus.DRAFT)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private Optional<Post> load(Post post) {
+        loads.incrementAndGet();
+        return Optional.ofNullable(post);
+    }
+}
@@ -0,0 +1,56 @@
+package com.pxl.services;
+
+import com.pxl.services.domain.event.PostChangedEvent;
+import com.pxl.services.services.index.PostChangeBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PostChangeBufferTest {
+
+    private final List<Long> applied = new ArrayList<>();
+
+    @Test
+    void offer_AppliesEventsRightAwayWhenNotHolding() {
+        PostChangeBuffer buffer = new PostChangeBuffer(event -> applied.add(event.postId()));
+
+        buffer.offer(PostChangedEvent.deleted(1L));
+
+        assertEquals(List.of(1L), applied);
+    }
+
+    @Test
+    void release_ReplaysHeldEventsInOrder() {
+        PostChangeBuffer buffer = new PostChangeBuffer(event -> applied.add(event.postId()));
+
+        buffer.hold();
+        buffer.offer(PostChangedEvent.deleted(1L));
+        buffer.offer(PostChangedEvent.deleted(2L));
+        assertEquals(List.of(), applied);
+
+        buffer.release();
+        buffer.offer(PostChangedEvent.deleted(3L));
+
+        assertEquals(List.of(1L, 2L, 3L), applied);
+    }
+
+    @Test
+    void release_KeepsReplayingAfterAFailedEvent() {
+        PostChangeBuffer buffer = new PostChangeBuffer(event -> {
+            if (event.postId() == 1L) {
+                throw new IllegalStateException("broken");
+            }
+            applied.add(event.postId());
+        });
+
+        buffer.hold();
+        buffer.offer(PostChangedEvent.deleted(1L));
+        buffer.offer(PostChangedEvent.deleted(2L));
+        buffer.release();
+
+        assertEquals(List.of(2L), applied);
+    }
+}
@@ -0,0 +1,116 @@
+package com.pxl.services;
+
+import com.pxl.services.domain.DTO.PostCriterionDTO;
+import com.pxl.services.domain.DTO.PostPageDTO;
+import com.pxl.services.domain.DTO.PostSummaryDTO;
+import com.pxl.services.domain.PostCursor;
+import com.pxl.services.services.criteria.PostCriteriaSearch;
+import com.pxl.services.services.search.PostSearchIndex;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+class PostCriteriaSearchTest {
+
+    private EntityManager entityManager;
+    private PostSearchIndex postSearchIndex;
+    private TypedQuery<PostSummaryDTO> query;
+    private PostCriteriaSearch postCriteriaSearch;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        entityManager = mock(EntityManager.class);
+        postSearchIndex = mock(PostSearchIndex.class);
+        query = mock(TypedQuery.class);
+        when(entityManager.createQuery(anyString(), eq(PostSummaryDTO.class))).thenReturn(query);
+        when(query.setParameter(anyInt(), any())).thenReturn(query);
+        when(query.setMaxResults(anyInt())).thenReturn(query);
+        when(query.getResultList()).thenReturn(List.of());
+        postCriteriaSearch = new PostCriteriaSearch(entityManager, postSearchIndex, 1000, 16);
+    }
+
+    @Test
+    void search_ReusesJpqlForFiltersOfTheSameShape() {
+        postCriteriaSearch.search(category("news"), null, 20);
+        postCriteriaSearch.search(category("sport"), null, 20);
+
+        ArgumentCaptor<String> jpql = ArgumentCaptor.forClass(String.class);
+        verify(entityManager, times(2)).createQuery(jpql.capture(), eq(PostSummaryDTO.class));
+        assertSame(jpql.getAllValues().get(0), jpql.getAllValues().get(1));
+        assertEquals("select new com.pxl.services.domain.DTO.PostSummaryDTO(p.id, p.title, p.excerpt, p.author, "
+                        + "p.category, p.status, p.createdAt, p.updatedAt) from Post p "
+                        + "where p.category in ?1 order by p.createdAt desc, p.id desc",
+                jpql.getValue());
+        verify(query).setParameter(1, List.of("news"));
+        verify(query).setParameter(1, List.of("sport"));
+    }
+
+    @Test
+    void search_AppendsKeysetConditionAfterCursor() {
+        PostCursor cursor = new PostCursor(LocalDateTime.of(2024, 1, 1, 0, 0), 5L);
+
+        postCriteriaSearch.search(category("news"), cursor.encode(), 20);
+
+        ArgumentCaptor<String> jpql = ArgumentCaptor.forClass(String.class);
+        verify(entityManager).createQuery(jpql.capture(), eq(PostSummaryDTO.class));
+        assertTrue(jpql.getValue().contains("where p.category in ?1 and (p.createdAt < ?2 or (p.createdAt = ?2 and p.id < ?3))"));
+        verify(query).setParameter(2, cursor.createdAt());
+        verify(query).setParameter(3, 5L);
+    }
+
+    @Test
+    void search_ResolvesTextThroughSearchIndex() {
+        when(postSearchIndex.search("java", 1000)).thenReturn(List.of(3L, 1L));
+
+        postCriteriaSearch.search(PostCriterionDTO.builder().op("text").values(List.of("java")).build(), null, 20);
+
+        verify(query).setParameter(1, List.of(3L, 1L));
+    }
+
+    @Test
+    void search_PagesWithOneExtraRow() {
+        PostSummaryDTO first = summary(2L, 2);
+        PostSummaryDTO second = summary(1L, 1);
+        when(query.getResultList()).thenReturn(List.of(first, second));
+
+        PostPageDTO<PostSummaryDTO> page = postCriteriaSearch.search(null, null, 1);
+
+        verify(query).setMaxResults(2);
+        assertEquals(List.of(first), page.getItems());
+        assertTrue(page.isHasMore());
+        assertEquals(new PostCursor(first.getCreatedAt(), 2L).encode(), page.getNextCursor());
+    }
+
+    @Test
+    void search_WithoutFilterListsEverything() {
+        PostPageDTO<PostSummaryDTO> page = postCriteriaSearch.search(null, null, 20);
+
+        verify(entityManager).createQuery(endsWith("from Post p order by p.createdAt desc, p.id desc"), eq(PostSummaryDTO.class));
+        assertFalse(page.isHasMore());
+    }
+
+    private static PostCriterionDTO category(String category) {
+        return PostCriterionDTO.builder().op("in").field("category").values(List.of(category)).build();
+    }
+
+    private static PostSummaryDTO summary(Long id, int day) {
+        return PostSummaryDTO.builder()
+                .id(id)
+                .createdAt(LocalDateTime.of(2024, 1, day, 0, 0))
+                .build();
+    }
+}
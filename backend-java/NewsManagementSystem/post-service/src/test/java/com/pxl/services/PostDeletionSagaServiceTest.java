@@ -0,0 +1,132 @@
+package com.pxl.services;
+
+import com.pxl.services.config.QueueConfiguration;
+import com.pxl.services.domain.DTO.PostDeletedMessage;
+import com.pxl.services.domain.DTO.PostPurgedMessage;
+import com.pxl.services.domain.DeletionSagaStatus;
+import com.pxl.services.domain.PostDeletionSaga;
+import com.pxl.services.domain.event.PostChangedEvent;
+import com.pxl.services.repository.PostDeletionSagaRepository;
+import com.pxl.services.services.deletion.PostDeletionSagaService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class PostDeletionSagaServiceTest {
+
+    private PostDeletionSagaRepository sagaRepository;
+    private RabbitTemplate rabbitTemplate;
+    private PostDeletionSagaService sagaService;
+
+    @BeforeEach
+    void setUp() {
+        sagaRepository = mock(PostDeletionSagaRepository.class);
+        rabbitTemplate = mock(RabbitTemplate.class);
+        sagaService = new PostDeletionSagaService(sagaRepository, rabbitTemplate, Duration.ofMinutes(1), 3);
+    }
+
+    @Test
+    void begin_RecordsPendingSaga() {
+        sagaService.begin(1L);
+
+        ArgumentCaptor<PostDeletionSaga> saved = ArgumentCaptor.forClass(PostDeletionSaga.class);
+        verify(sagaRepository).save(saved.capture());
+        assertEquals(1L, saved.getValue().getPostId());
+        assertEquals(DeletionSagaStatus.PENDING, saved.getValue().getStatus());
+        assertEquals(1, saved.getValue().getAttempts());
+    }
+
+    @Test
+    void onPostChanged_PublishesOnlyDeletions() {
+        sagaService.onPostChanged(PostChangedEvent.deleted(1L));
+        sagaService.onPostChanged(PostChangedEvent.statusChanged(2L, null));
+
+        verify(rabbitTemplate).convertAndSend(QueueConfiguration.POST_DELETED_EXCHANGE, "", new PostDeletedMessage(1L));
+        verifyNoMoreInteractions(rabbitTemplate);
+    }
+
+    @Test
+    void onPostPurged_CompletesWhenBothServicesConfirmed() {
+        PostDeletionSaga saga = pendingSaga(LocalDateTime.now());
+        when(sagaRepository.findById(1L)).thenReturn(Optional.of(saga));
+
+        sagaService.onPostPurged(new PostPurgedMessage(1L, PostDeletionSagaService.REVIEW_SERVICE, 3));
+        assertEquals(DeletionSagaStatus.PENDING, saga.getStatus());
+
+        sagaService.onPostPurged(new PostPurgedMessage(1L, PostDeletionSagaService.COMMENT_SERVICE, 5));
+        assertEquals(DeletionSagaStatus.COMPLETED, saga.getStatus());
+        assertNotNull(saga.getCompletedAt());
+    }
+
+    @Test
+    void onPostPurged_IgnoresDuplicateConfirmation() {
+        PostDeletionSaga saga = pendingSaga(LocalDateTime.now());
+        saga.setStatus(DeletionSagaStatus.COMPLETED);
+        when(sagaRepository.findById(1L)).thenReturn(Optional.of(saga));
+
+        sagaService.onPostPurged(new PostPurgedMessage(1L, PostDeletionSagaService.REVIEW_SERVICE, 0));
+
+        verify(sagaRepository, never()).save(any());
+    }
+
+    @Test
+    void retryPending_RepublishesStaleSagas() {
+        PostDeletionSaga saga = pendingSaga(LocalDateTime.now().minusMinutes(5));
+        when(sagaRepository.findByStatusAndLastAttemptAtBefore(eq(DeletionSagaStatus.PENDING), any()))
+                .thenReturn(List.of(saga));
+
+        sagaService.retryPending();
+
+        assertEquals(2, saga.getAttempts());
+        verify(sagaRepository).save(saga);
+        verify(rabbitTemplate).convertAndSend(QueueConfiguration.POST_DELETED_EXCHANGE, "", new PostDeletedMessage(1L));
+    }
+
+    @Test
+    void retryPending_FailsSagasThatRanOutOfAttempts() {
+        PostDeletionSaga saga = pendingSaga(LocalDateTime.now().minusMinutes(5));
+        saga.setAttempts(3);
+        when(sagaRepository.findByStatusAndLastAttemptAtBefore(eq(DeletionSagaStatus.PENDING), any()))
+                .thenReturn(List.of(saga));
+
+        sagaService.retryPending();
+
+        assertEquals(DeletionSagaStatus.FAILED, saga.getStatus());
+        assertEquals(3, saga.getAttempts());
+        verify(sagaRepository).save(saga);
+        verifyNoInteractions(rabbitTemplate);
+    }
+
+    @Test
+    void onPostPurged_LateConfirmationsCompleteFailedSaga() {
+        PostDeletionSaga saga = pendingSaga(LocalDateTime.now());
+        saga.setStatus(DeletionSagaStatus.FAILED);
+        saga.setReviewsPurged(true);
+        when(sagaRepository.findById(1L)).thenReturn(Optional.of(saga));
+
+        sagaService.onPostPurged(new PostPurgedMessage(1L, PostDeletionSagaService.COMMENT_SERVICE, 2));
+
+        assertEquals(DeletionSagaStatus.COMPLETED, saga.getStatus());
+    }
+
+    private static PostDeletionSaga pendingSaga(LocalDateTime lastAttemptAt) {
+        return PostDeletionSaga.builder()
+                .postId(1L)
+                .status(DeletionSagaStatus.PENDING)
+                .attempts(1)
+                .startedAt(lastAttemptAt)
+                .lastAttemptAt(lastAttemptAt)
+                .build();
+    }
+}
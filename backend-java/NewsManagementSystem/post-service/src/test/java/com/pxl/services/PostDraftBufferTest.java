@@ -0,0 +1,207 @@
+package com.pxl.services;
+
+import com.pxl.services.domain.DTO.DraftPatchDTO;
+import com.pxl.services.domain.DTO.DraftStateDTO;
+import com.pxl.services.domain.DTO.TextEditDTO;
+import com.pxl.services.domain.Post;
+import com.pxl.services.domain.ReviewStatus;
+import com.pxl.services.domain.event.PostChangedEvent;
+import com.pxl.services.exceptions.InvalidDraftPatchException;
+import com.pxl.services.exceptions.PostUpdateException;
+import com.pxl.services.services.PostService;
+import com.pxl.services.services.draft.DraftText;
+import com.pxl.services.services.draft.PostDraftBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class PostDraftBufferTest {
+
+    private PostService postService;
+    private MutableClock clock;
+    private PostDraftBuffer postDraftBuffer;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        postService = mock(PostService.class);
+        clock = new MutableClock();
+        postDraftBuffer = new PostDraftBuffer(postService, Duration.ofMinutes(10), clock);
+        post = Post.builder()
+                .id(1L)
+                .title("Title")
+                .content("Hello world")
+                .author("Author")
+                .category("news")
+                .status(ReviewStatus.DRAFT)
+                .createdAt(LocalDateTime.of(2024, 1, 1, 0, 0))
+                .updatedAt(LocalDateTime.of(2024, 1, 1, 0, 0))
+                .build();
+        when(postService.getPostById(1L)).thenReturn(Optional.of(post));
+        when(postService.saveDraft(eq(1L), any(DraftText.class), any(DraftText.class))).thenReturn(Optional.of(post));
+    }
+
+    @Test
+    void patch_CoalescesEditsUntilFlush() {
+        long version = postDraftBuffer.getDraft(1L).getVersion();
+
+        DraftStateDTO first = postDraftBuffer.patch(1L, content(version, new TextEditDTO(5, 6, ", draft")));
+        DraftStateDTO second = postDraftBuffer.patch(1L, content(first.getVersion(), new TextEditDTO(12, 0, "!")));
+
+        assertTrue(second.isDirty());
+        assertEquals("Hello, draft!", postDraftBuffer.getDraft(1L).getContent());
+        verify(postService, never()).saveDraft(any(), any(), any());
+
+        postDraftBuffer.flush();
+
+        verify(postService).saveDraft(1L, new DraftText("Title", "Hello world"), new DraftText("Title", "Hello, draft!"));
+        assertFalse(postDraftBuffer.getDraft(1L).isDirty());
+    }
+
+    @Test
+    void patch_AppliesEditsOfOnePatchInOrder() {
+        DraftPatchDTO patch = DraftPatchDTO.builder()
+                .baseVersion(postDraftBuffer.getDraft(1L).getVersion())
+                .title(List.of(new TextEditDTO(0, 0, "New "), new TextEditDTO(4, 5, "Heading")))
+                .build();
+
+        postDraftBuffer.patch(1L, patch);
+
+        assertEquals("New Heading", postDraftBuffer.getDraft(1L).getTitle());
+    }
+
+    @Test
+    void patch_SaveWritesImmediately() {
+        DraftPatchDTO patch = DraftPatchDTO.builder()
+                .baseVersion(postDraftBuffer.getDraft(1L).getVersion())
+                .content(List.of(new TextEditDTO(0, 5, "Goodbye")))
+                .save(true)
+                .build();
+
+        DraftStateDTO state = postDraftBuffer.patch(1L, patch);
+
+        assertFalse(state.isDirty());
+        verify(postService).saveDraft(1L, new DraftText("Title", "Hello world"), new DraftText("Title", "Goodbye world"));
+    }
+
+    @Test
+    void patch_RejectsStaleBaseVersion() {
+        long version = postDraftBuffer.getDraft(1L).getVersion();
+        postDraftBuffer.patch(1L, content(version, new TextEditDTO(0, 0, "Oh, ")));
+
+        assertThrows(PostUpdateException.class,
+                () -> postDraftBuffer.patch(1L, content(version, new TextEditDTO(0, 0, "Well, "))));
+        assertEquals("Oh, Hello world", postDraftBuffer.getDraft(1L).getContent());
+    }
+
+    @Test
+    void patch_RejectsPatchWithoutBaseVersion() {
+        assertThrows(InvalidDraftPatchException.class,
+                () -> postDraftBuffer.patch(1L, content(null, new TextEditDTO(0, 0, "Oh, "))));
+        assertEquals("Hello world", postDraftBuffer.getDraft(1L).getContent());
+    }
+
+    @Test
+    void patch_RejectsOutOfBoundsEditWithoutApplyingAny() {
+        DraftPatchDTO patch = DraftPatchDTO.builder()
+                .baseVersion(postDraftBuffer.getDraft(1L).getVersion())
+                .content(List.of(new TextEditDTO(0, 5, "Hi"), new TextEditDTO(5, 10, "")))
+                .build();
+
+        assertThrows(InvalidDraftPatchException.class, () -> postDraftBuffer.patch(1L, patch));
+        assertEquals("Hello world", postDraftBuffer.getDraft(1L).getContent());
+    }
+
+    @Test
+    void onPostChanged_FullUpdateDiscardsDraft() {
+        long version = postDraftBuffer.getDraft(1L).getVersion();
+        postDraftBuffer.patch(1L, content(version, new TextEditDTO(0, 0, "Oh, ")));
+
+        post.setContent("Rewritten");
+        postDraftBuffer.onPostChanged(PostChangedEvent.updated(post));
+
+        assertEquals("Rewritten", postDraftBuffer.getDraft(1L).getContent());
+        assertThrows(PostUpdateException.class,
+                () -> postDraftBuffer.patch(1L, content(version + 1, new TextEditDTO(0, 0, "Well, "))));
+    }
+
+    @Test
+    void flush_DropsDraftWhenPostChangedUnderneath() {
+        when(postService.saveDraft(eq(1L), any(DraftText.class), any(DraftText.class))).thenReturn(Optional.empty());
+        postDraftBuffer.patch(1L, content(postDraftBuffer.getDraft(1L).getVersion(), new TextEditDTO(0, 0, "Oh, ")));
+
+        postDraftBuffer.flush();
+
+        assertEquals("Hello world", postDraftBuffer.getDraft(1L).getContent());
+    }
+
+    @Test
+    void flush_KeepsDraftWhenSaveFails() {
+        when(postService.saveDraft(eq(1L), any(DraftText.class), any(DraftText.class)))
+                .thenThrow(new PostUpdateException("Database down"))
+                .thenReturn(Optional.of(post));
+        postDraftBuffer.patch(1L, content(postDraftBuffer.getDraft(1L).getVersion(), new TextEditDTO(0, 0, "Oh, ")));
+
+        postDraftBuffer.flush();
+        assertTrue(postDraftBuffer.getDraft(1L).isDirty());
+
+        postDraftBuffer.flush();
+        assertFalse(postDraftBuffer.getDraft(1L).isDirty());
+    }
+
+    @Test
+    void flush_EvictsIdleCleanDrafts() {
+        postDraftBuffer.getDraft(1L);
+        clock.advance(Duration.ofMinutes(11));
+
+        postDraftBuffer.flush();
+        postDraftBuffer.getDraft(1L);
+
+        verify(postService, times(2)).getPostById(1L);
+    }
+
+    private static DraftPatchDTO content(Long baseVersion, TextEditDTO edit) {
+        return DraftPatchDTO.builder()
+                .baseVersion(baseVersion)
+                .content(List.of(edit))
+                .build();
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.pxl.services;
+
+import com.pxl.services.domain.Post;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PostExcerptTest {
+
+    @Test
+    void excerptOf_StripsMarkupAndCollapsesWhitespace() {
+        assertEquals("Breaking news today", Post.excerptOf("<p>Breaking <b>news</b>\n\n today</p>"));
+    }
+
+    @Test
+    void excerptOf_CutsLongContentAtWordBoundary() {
+        String content = "word ".repeat(100);
+
+        String excerpt = Post.excerptOf(content);
+
+        assertTrue(excerpt.endsWith("word…"));
+        assertTrue(excerpt.length() <= Post.EXCERPT_LENGTH + 1);
+    }
+
+    @Test
+    void excerptOf_Null() {
+        assertNull(Post.excerptOf(null));
+    }
+}
@@ -0,0 +1,97 @@
+package com.pxl.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.pxl.services.domain.Post;
+import com.pxl.services.domain.ReviewStatus;
+import com.pxl.services.repository.PostRepository;
+import com.pxl.services.services.PostExportService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+class PostExportServiceTest {
+
+    private PostRepository postRepository;
+    private EntityManager entityManager;
+    private ObjectMapper objectMapper;
+    private PostExportService postExportService;
+
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        entityManager = mock(EntityManager.class);
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        postExportService = new PostExportService(postRepository, entityManager, objectMapper,
+                mock(PlatformTransactionManager.class), Duration.ZERO);
+    }
+
+    @Test
+    void exportPosts_WritesOneJsonDocumentPerLine() throws Exception {
+        Post first = post(1L, "First");
+        Post second = post(2L, "Second");
+        LocalDateTime watermark = LocalDateTime.of(2024, 1, 1, 0, 0);
+        when(postRepository.streamForExport(ReviewStatus.PUBLISHED, watermark, 7L)).thenReturn(Stream.of(first, second));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long exported = postExportService.exportPosts(ReviewStatus.PUBLISHED, watermark, 7L, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, exported);
+        assertEquals(2, lines.length);
+        assertEquals("First", objectMapper.readTree(lines[0]).get("title").asText());
+        assertEquals(2L, objectMapper.readTree(lines[1]).get("id").asLong());
+        verify(entityManager).detach(first);
+        verify(entityManager).detach(second);
+    }
+
+    @Test
+    void exportPosts_EmptyResult() {
+        when(postRepository.streamForExport(null, null, 0L)).thenReturn(Stream.empty());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long exported = postExportService.exportPosts(null, null, null, out);
+
+        assertEquals(0, exported);
+        assertTrue(out.toString(StandardCharsets.UTF_8).isEmpty());
+    }
+
+    @Test
+    void exportPosts_RestartsTheOverlapWindowBeforeTheCursor() {
+        PostExportService overlapping = new PostExportService(postRepository, entityManager, objectMapper,
+                mock(PlatformTransactionManager.class), Duration.ofSeconds(5));
+        LocalDateTime watermark = LocalDateTime.of(2024, 1, 1, 0, 0, 10);
+        when(postRepository.streamForExport(null, watermark.minusSeconds(5), 0L)).thenReturn(Stream.empty());
+
+        overlapping.exportPosts(null, watermark, 7L, new ByteArrayOutputStream());
+
+        verify(postRepository).streamForExport(null, watermark.minusSeconds(5), 0L);
+    }
+
+    private static Post post(Long id, String title) {
+        return Post.builder()
+                .id(id)
+                .title(title)
+                .content("Content")
+                .author("Author")
+                .category("Category")
+                .status(ReviewStatus.PUBLISHED)
+                .createdAt(LocalDateTime.of(2024, 1, 1, 0, 0))
+                .updatedAt(LocalDateTime.of(2024, 1, 2, 0, 0))
+                .build();
+    }
+}
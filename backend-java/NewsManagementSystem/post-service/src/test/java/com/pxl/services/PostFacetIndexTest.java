@@ -0,0 +1,94 @@
+package com.pxl.services;
+
+import com.pxl.services.domain.DTO.PostFacetCountsDTO;
+import com.pxl.services.domain.PostFacets;
+import com.pxl.services.domain.ReviewStatus;
+import com.pxl.services.domain.event.PostChangedEvent;
+import com.pxl.services.repository.PostRepository;
+import com.pxl.services.services.facet.FacetFilter;
+import com.pxl.services.services.facet.PostFacetIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PostFacetIndexTest {
+
+    private static final List<PostFacets> ROWS = List.of(
+            new PostFacets(1L, ReviewStatus.DRAFT, "sports", "alice"),
+            new PostFacets(2L, ReviewStatus.PUBLISHED, "sports", "bob"),
+            new PostFacets(3L, ReviewStatus.PUBLISHED, "politics", "alice"),
+            new PostFacets(4L, ReviewStatus.PENDING, "politics", "carol"));
+
+    private PostRepository postRepository;
+    private PostFacetIndex facetIndex;
+
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        when(postRepository.findFacetsPageAfterId(eq(0L), any(Pageable.class))).thenReturn(ROWS);
+        facetIndex = new PostFacetIndex(postRepository);
+        facetIndex.rebuild();
+    }
+
+    @Test
+    void filter_OrWithinFacetAndAcrossFacets() {
+        FacetFilter filter = new FacetFilter(Set.of(ReviewStatus.DRAFT, ReviewStatus.PUBLISHED), null, Set.of("alice"));
+
+        assertEquals(List.of(3L, 1L), facetIndex.filter(filter, 10));
+    }
+
+    @Test
+    void filter_RespectsLimitNewestFirst() {
+        assertEquals(List.of(4L, 3L), facetIndex.filter(FacetFilter.none(), 2));
+    }
+
+    @Test
+    void filter_UnknownValueMatchesNothing() {
+        assertEquals(List.of(), facetIndex.filter(new FacetFilter(null, Set.of("weather"), null), 10));
+    }
+
+    @Test
+    void counts_FacetIgnoresItsOwnSelection() {
+        PostFacetCountsDTO counts = facetIndex.counts(new FacetFilter(Set.of(ReviewStatus.PUBLISHED), null, null));
+
+        assertEquals(2, counts.getTotal());
+        assertEquals(Map.of("DRAFT", 1L, "PENDING", 1L, "PUBLISHED", 2L), counts.getStatus());
+        assertEquals(Map.of("sports", 1L, "politics", 1L), counts.getCategory());
+        assertEquals(Map.of("alice", 1L, "bob", 1L), counts.getAuthor());
+    }
+
+    @Test
+    void onPostChanged_MovesStatusAndRemovesDeletedPosts() {
+        facetIndex.onPostChanged(PostChangedEvent.statusChanged(1L, ReviewStatus.PUBLISHED));
+        facetIndex.onPostChanged(PostChangedEvent.deleted(4L));
+
+        assertEquals(List.of(3L, 2L, 1L), facetIndex.filter(new FacetFilter(Set.of(ReviewStatus.PUBLISHED), null, null), 10));
+        assertEquals(Map.of("alice", 2L, "bob", 1L), facetIndex.counts(FacetFilter.none()).getAuthor());
+        assertEquals(3, facetIndex.size());
+    }
+
+    @Test
+    void rebuild_ReplaysChangesThatArriveWhileReading() {
+        when(postRepository.findFacetsPageAfterId(eq(0L), any(Pageable.class))).thenAnswer(invocation -> {
+            // Committed after the page was read, so the page still holds the post
+            facetIndex.onPostChanged(PostChangedEvent.deleted(2L));
+            return ROWS;
+        });
+
+        facetIndex.rebuild();
+
+        assertEquals(3, facetIndex.size());
+        assertFalse(facetIndex.hasStatus(2L, ReviewStatus.PUBLISHED));
+    }
+}
@@ -0,0 +1,170 @@
+package com.pxl.services;
+
+import com.pxl.services.domain.DTO.PostSummaryDTO;
+import com.pxl.services.domain.Post;
+import com.pxl.services.domain.ReviewStatus;
+import com.pxl.services.domain.event.PostChangedEvent;
+import com.pxl.services.repository.PostRepository;
+import com.pxl.services.services.feed.FeedFormat;
+import com.pxl.services.services.feed.PostFeeds;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+class PostFeedsTest {
+
+    private PostRepository postRepository;
+    private PostFeeds postFeeds;
+    private List<PostSummaryDTO> published;
+
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        postFeeds = new PostFeeds(postRepository, 2, 16, "News", "http://site/articles", "http://api");
+        published = new ArrayList<>(List.of(summary(3L, "news", 3), summary(2L, "sport", 2), summary(1L, "news", 1)));
+        when(postRepository.findFirstSummaryPage(eq(ReviewStatus.PUBLISHED), any(), any(Pageable.class)))
+                .thenAnswer(invocation -> {
+                    String category = invocation.getArgument(1);
+                    Pageable page = invocation.getArgument(2);
+                    return published.stream()
+                            .filter(summary -> category == null || category.equals(summary.getCategory()))
+                            .limit(page.getPageSize())
+                            .toList();
+                });
+    }
+
+    @Test
+    void getFeed_ServesLatestPublishedPostsFromMemory() {
+        String rss = text(postFeeds.getFeed(FeedFormat.RSS, null));
+        String again = text(postFeeds.getFeed(FeedFormat.RSS, null));
+
+        assertTrue(rss.contains("<link>http://api/api/posts/3/html</link>"));
+        assertTrue(rss.contains("<link>http://api/api/posts/2/html</link>"));
+        assertFalse(rss.contains("/api/posts/1/html"));
+        assertEquals(rss, again);
+        verify(postRepository, times(1)).findFirstSummaryPage(eq(ReviewStatus.PUBLISHED), isNull(), any(Pageable.class));
+    }
+
+    @Test
+    void getFeed_FormatsShareVersionButNotETag() {
+        PostFeeds.FeedBody rss = postFeeds.getFeed(FeedFormat.RSS, null);
+        PostFeeds.FeedBody atom = postFeeds.getFeed(FeedFormat.ATOM, null);
+        PostFeeds.FeedBody json = postFeeds.getFeed(FeedFormat.JSON, null);
+
+        assertNotEquals(rss.eTag(), atom.eTag());
+        assertEquals(rss.eTag().substring(0, 33), json.eTag().substring(0, 33));
+        assertTrue(text(atom).contains("<id>http://api/api/posts/3/html</id>"));
+        assertTrue(text(json).contains("\"url\":\"http://api/api/posts/3/html\""));
+    }
+
+    @Test
+    void getFeed_FiltersByCategory() {
+        String json = text(postFeeds.getFeed(FeedFormat.JSON, "news"));
+
+        assertTrue(json.contains("\"title\":\"News - news\""));
+        assertTrue(json.contains("/api/posts/3/html"));
+        assertTrue(json.contains("/api/posts/1/html"));
+        assertFalse(json.contains("/api/posts/2/html"));
+    }
+
+    @Test
+    void onPostChanged_InsertsNewlyPublishedPostWithoutReading() {
+        PostFeeds.FeedBody before = postFeeds.getFeed(FeedFormat.JSON, null);
+        when(postRepository.findSummaryById(4L)).thenReturn(Optional.of(summary(4L, "news", 4)));
+
+        postFeeds.onPostChanged(PostChangedEvent.statusChanged(4L, ReviewStatus.PUBLISHED));
+        PostFeeds.FeedBody after = postFeeds.getFeed(FeedFormat.JSON, null);
+
+        assertNotEquals(before.eTag(), after.eTag());
+        assertTrue(text(after).contains("/api/posts/4/html"));
+        assertTrue(text(after).contains("/api/posts/3/html"));
+        assertFalse(text(after).contains("/api/posts/2/html"));
+        verify(postRepository, times(1)).findFirstSummaryPage(eq(ReviewStatus.PUBLISHED), isNull(), any(Pageable.class));
+    }
+
+    @Test
+    void onPostChanged_UsesSummaryCarriedByEvent() {
+        postFeeds.getFeed(FeedFormat.JSON, null);
+
+        postFeeds.onPostChanged(PostChangedEvent.published(summary(4L, "news", 4)));
+
+        assertTrue(text(postFeeds.getFeed(FeedFormat.JSON, null)).contains("/api/posts/4/html"));
+        verify(postRepository, never()).findSummaryById(4L);
+    }
+
+    @Test
+    void onPostChanged_IgnoresPostOlderThanFullFeed() {
+        PostFeeds.FeedBody before = postFeeds.getFeed(FeedFormat.JSON, null);
+        when(postRepository.findSummaryById(1L)).thenReturn(Optional.of(summary(1L, "news", 1)));
+
+        postFeeds.onPostChanged(PostChangedEvent.statusChanged(1L, ReviewStatus.PUBLISHED));
+
+        assertSame(before, postFeeds.getFeed(FeedFormat.JSON, null));
+    }
+
+    @Test
+    void onPostChanged_RefillsFullFeedAfterRemoval() {
+        postFeeds.getFeed(FeedFormat.JSON, null);
+        published.remove(0);
+
+        postFeeds.onPostChanged(PostChangedEvent.statusChanged(3L, ReviewStatus.REJECTED));
+        String json = text(postFeeds.getFeed(FeedFormat.JSON, null));
+
+        assertFalse(json.contains("/api/posts/3/html"));
+        assertTrue(json.contains("/api/posts/2/html"));
+        assertTrue(json.contains("/api/posts/1/html"));
+    }
+
+    @Test
+    void onPostChanged_MovesUpdatedPostBetweenCategories() {
+        postFeeds.getFeed(FeedFormat.JSON, "news");
+        postFeeds.getFeed(FeedFormat.JSON, "sport");
+        Post moved = Post.builder()
+                .id(2L)
+                .title("Post 2")
+                .content("Content 2")
+                .author("Author")
+                .category("news")
+                .status(ReviewStatus.PUBLISHED)
+                .createdAt(LocalDateTime.of(2024, 1, 2, 0, 0))
+                .updatedAt(LocalDateTime.of(2024, 1, 5, 0, 0))
+                .build();
+
+        postFeeds.onPostChanged(PostChangedEvent.updated(moved));
+
+        assertTrue(text(postFeeds.getFeed(FeedFormat.JSON, "news")).contains("/api/posts/2/html"));
+        assertFalse(text(postFeeds.getFeed(FeedFormat.JSON, "sport")).contains("/api/posts/2/html"));
+    }
+
+    private static PostSummaryDTO summary(Long id, String category, int day) {
+        return PostSummaryDTO.builder()
+                .id(id)
+                .title("Post " + id)
+                .excerpt("Content " + id)
+                .author("Author")
+                .category(category)
+                .status(ReviewStatus.PUBLISHED)
+                .createdAt(LocalDateTime.of(2024, 1, day, 0, 0))
+                .updatedAt(LocalDateTime.of(2024, 1, day, 0, 0))
+                .build();
+    }
+
+    private static String text(PostFeeds.FeedBody feed) {
+        return new String(feed.body(), StandardCharsets.UTF_8);
+    }
+}
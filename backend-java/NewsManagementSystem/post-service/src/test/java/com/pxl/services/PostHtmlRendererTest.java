@@ -0,0 +1,53 @@
+package com.pxl.services;
+
+import com.pxl.services.services.html.PostHtmlRenderer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PostHtmlRendererTest {
+
+    @Test
+    void render_RendersPlainTextAsMarkdown() {
+        String html = PostHtmlRenderer.render("# Spring\n\nA **beginner's** guide.");
+
+        assertEquals("<h1>Spring</h1>\n<p>A <strong>beginner's</strong> guide.</p>", html);
+    }
+
+    @Test
+    void render_KeepsEditorHtmlAndItsClasses() {
+        String html = PostHtmlRenderer.render("<p class=\"ql-align-center\">Hello <em>world</em></p>");
+
+        assertEquals("<p class=\"ql-align-center\">Hello <em>world</em></p>", html);
+    }
+
+    @Test
+    void render_StripsScriptsAndEventHandlers() {
+        String html = PostHtmlRenderer.render("<p onclick=\"steal()\">Hi<script>steal()</script>"
+                + "<a href=\"javascript:steal()\">x</a><img src=\"x\" onerror=\"steal()\"></p>");
+
+        assertFalse(html.contains("script"));
+        assertFalse(html.contains("onclick"));
+        assertFalse(html.contains("onerror"));
+        assertFalse(html.contains("javascript"));
+        assertTrue(html.startsWith("<p>Hi"));
+    }
+
+    @Test
+    void render_SanitizesHtmlInsideMarkdown() {
+        String html = PostHtmlRenderer.render("Text <script>alert(1)</script> and [link](https://example.com)");
+
+        assertFalse(html.contains("<script>"));
+        assertTrue(html.contains("<a href=\"https://example.com\" rel=\"nofollow noopener noreferrer\">link</a>"));
+    }
+
+    @Test
+    void hash_DependsOnContentOnly() {
+        assertEquals(PostHtmlRenderer.hash("Body"), PostHtmlRenderer.hash("Body"));
+        assertNotEquals(PostHtmlRenderer.hash("Body"), PostHtmlRenderer.hash("Body."));
+        assertEquals(64, PostHtmlRenderer.hash(null).length());
+    }
+}
@@ -0,0 +1,111 @@
+package com.pxl.services;
+
+import com.pxl.services.domain.Post;
+import com.pxl.services.domain.PostHtml;
+import com.pxl.services.domain.ReviewStatus;
+import com.pxl.services.domain.event.PostChangedEvent;
+import com.pxl.services.repository.PostHtmlRepository;
+import com.pxl.services.services.PostService;
+import com.pxl.services.services.html.PostHtmlRenderer;
+import com.pxl.services.services.html.PostHtmlService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class PostHtmlServiceTest {
+
+    private PostHtmlRepository postHtmlRepository;
+    private PostService postService;
+    private PostHtmlService postHtmlService;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        postHtmlRepository = mock(PostHtmlRepository.class);
+        postService = mock(PostService.class);
+        postHtmlService = new PostHtmlService(postHtmlRepository, postService);
+        when(postHtmlRepository.save(any(PostHtml.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        post = Post.builder()
+                .id(1L)
+                .title("Title")
+                .content("Some *markdown*")
+                .author("Author")
+                .category("news")
+                .status(ReviewStatus.DRAFT)
+                .createdAt(LocalDateTime.of(2024, 1, 1, 0, 0))
+                .updatedAt(LocalDateTime.of(2024, 1, 1, 0, 0))
+                .build();
+    }
+
+    @Test
+    void onPostChanged_RendersOnCreateAndUpdate() {
+        postHtmlService.onPostChanged(PostChangedEvent.created(post));
+
+        verify(postHtmlRepository).save(argThat(html -> html.getPostId() == 1L
+                && html.getHtml().equals("<p>Some <em>markdown</em></p>")
+                && html.getContentHash().equals(PostHtmlRenderer.hash("Some *markdown*"))));
+    }
+
+    @Test
+    void onPostChanged_SkipsRenderWhenContentIsUnchanged() {
+        when(postHtmlRepository.findById(1L)).thenReturn(Optional.of(stored(PostHtmlRenderer.hash(post.getContent()))));
+
+        post.setTitle("Retitled");
+        postHtmlService.onPostChanged(PostChangedEvent.updated(post));
+
+        verify(postHtmlRepository, never()).save(any(PostHtml.class));
+    }
+
+    @Test
+    void onPostChanged_RenderFailureDoesNotPropagate() {
+        when(postHtmlRepository.save(any(PostHtml.class))).thenThrow(new RuntimeException("Database down"));
+
+        assertDoesNotThrow(() -> postHtmlService.onPostChanged(PostChangedEvent.created(post)));
+    }
+
+    @Test
+    void getHtml_ServesStoredRendering() {
+        PostHtml stored = stored(PostHtmlRenderer.hash(post.getContent()));
+        when(postHtmlRepository.findById(1L)).thenReturn(Optional.of(stored));
+
+        assertSame(stored, postHtmlService.getHtml(1L).orElseThrow());
+        verify(postService, never()).getPostById(1L);
+    }
+
+    @Test
+    void getHtml_RendersPostsWithoutStoredRendering() {
+        when(postHtmlRepository.findById(1L)).thenReturn(Optional.empty());
+        when(postService.getPostById(1L)).thenReturn(Optional.of(post));
+
+        PostHtml html = postHtmlService.getHtml(1L).orElseThrow();
+
+        assertEquals("<p>Some <em>markdown</em></p>", html.getHtml());
+        verify(postHtmlRepository).save(html);
+    }
+
+    @Test
+    void getHtml_UnknownPost() {
+        when(postHtmlRepository.findById(1L)).thenReturn(Optional.empty());
+        when(postService.getPostById(1L)).thenReturn(Optional.empty());
+
+        assertEquals(Optional.empty(), postHtmlService.getHtml(1L));
+    }
+
+    private static PostHtml stored(String hash) {
+        return PostHtml.builder()
+                .postId(1L)
+                .contentHash(hash)
+                .rendererVersion(PostHtmlRenderer.VERSION)
+                .html("<p>Stored</p>")
+                .renderedAt(LocalDateTime.of(2024, 1, 1, 0, 0))
+                .build();
+    }
+}
@@ -0,0 +1,116 @@
+package com.pxl.services;
+
+import com.pxl.services.domain.DTO.PostRevisionDTO;
+import com.pxl.services.domain.DTO.PostRevisionInfoDTO;
+import com.pxl.services.domain.Post;
+import com.pxl.services.domain.PostRevision;
+import com.pxl.services.domain.ReviewStatus;
+import com.pxl.services.repository.PostRevisionRepository;
+import com.pxl.services.services.revision.PostRevisionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class PostRevisionServiceTest {
+
+    private final List<PostRevision> stored = new ArrayList<>();
+    private PostRevisionService postRevisionService;
+
+    @BeforeEach
+    void setUp() {
+        PostRevisionRepository repository = mock(PostRevisionRepository.class);
+        when(repository.save(any(PostRevision.class))).thenAnswer(invocation -> {
+            stored.add(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+        when(repository.findLatestRevision(anyLong())).thenAnswer(invocation ->
+                stored.stream().map(PostRevision::getRevision).max(Integer::compare).orElse(null));
+        when(repository.findByPostIdOrderByRevisionDesc(anyLong())).thenAnswer(invocation -> newestFirst(0));
+        when(repository.findByPostIdAndRevisionGreaterThanEqualOrderByRevisionDesc(anyLong(), anyInt()))
+                .thenAnswer(invocation -> newestFirst(invocation.getArgument(1)));
+        postRevisionService = new PostRevisionService(repository);
+    }
+
+    @Test
+    void getRevision_ReconstructsEveryEarlierVersion() {
+        Post post = post("First title", "Original body", LocalDateTime.of(2024, 1, 1, 0, 0));
+        edit(post, "Second title", "Original body, extended", LocalDateTime.of(2024, 1, 2, 0, 0));
+        edit(post, "Third title", "Rewritten body", LocalDateTime.of(2024, 1, 3, 0, 0));
+
+        PostRevisionDTO first = postRevisionService.getRevision(post, 1).orElseThrow();
+        PostRevisionDTO second = postRevisionService.getRevision(post, 2).orElseThrow();
+        PostRevisionDTO current = postRevisionService.getRevision(post, 3).orElseThrow();
+
+        assertEquals("First title", first.getTitle());
+        assertEquals("Original body", first.getContent());
+        assertEquals(LocalDateTime.of(2024, 1, 1, 0, 0), first.getUpdatedAt());
+        assertEquals("Original body, extended", second.getContent());
+        assertEquals("Third title", current.getTitle());
+        assertEquals(Optional.empty(), postRevisionService.getRevision(post, 4));
+        assertEquals(Optional.empty(), postRevisionService.getRevision(post, 0));
+    }
+
+    @Test
+    void getRevisions_ListsCurrentThenStoredRevisions() {
+        Post post = post("Title", "Body", LocalDateTime.of(2024, 1, 1, 0, 0));
+        edit(post, "Title", "Body with more words", LocalDateTime.of(2024, 1, 2, 0, 0));
+
+        List<PostRevisionInfoDTO> revisions = postRevisionService.getRevisions(post);
+
+        assertEquals(2, revisions.size());
+        assertTrue(revisions.get(0).isCurrent());
+        assertEquals(2, revisions.get(0).getRevision());
+        assertEquals(1, revisions.get(1).getRevision());
+        assertEquals(LocalDateTime.of(2024, 1, 2, 0, 0), revisions.get(1).getReplacedAt());
+        assertTrue(revisions.get(1).getStoredBytes() > 0);
+    }
+
+    @Test
+    void recordEdit_SkipsUnchangedPosts() {
+        Post post = post("Title", "Body", LocalDateTime.of(2024, 1, 1, 0, 0));
+
+        edit(post, "Title", "Body", LocalDateTime.of(2024, 1, 2, 0, 0));
+
+        assertTrue(stored.isEmpty());
+    }
+
+    private void edit(Post post, String title, String content, LocalDateTime at) {
+        byte[] previous = PostRevisionService.snapshot(post);
+        LocalDateTime previousUpdatedAt = post.getUpdatedAt();
+        post.setTitle(title);
+        post.setContent(content);
+        post.setUpdatedAt(at);
+        postRevisionService.recordEdit(post, previous, previousUpdatedAt);
+    }
+
+    private List<PostRevision> newestFirst(int fromRevision) {
+        return stored.stream()
+                .filter(revision -> revision.getRevision() >= fromRevision)
+                .sorted(Comparator.comparingInt(PostRevision::getRevision).reversed())
+                .toList();
+    }
+
+    private static Post post(String title, String content, LocalDateTime updatedAt) {
+        return Post.builder()
+                .id(1L)
+                .title(title)
+                .content(content)
+                .author("Author")
+                .category("news")
+                .status(ReviewStatus.DRAFT)
+                .createdAt(updatedAt)
+                .updatedAt(updatedAt)
+                .build();
+    }
+}
@@ -0,0 +1,85 @@
+package com.pxl.services;
+
+import com.pxl.services.domain.Post;
+import com.pxl.services.domain.ReviewStatus;
+import com.pxl.services.domain.event.PostChangedEvent;
+import com.pxl.services.repository.PostRepository;
+import com.pxl.services.services.search.PostSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PostSearchIndexTest {
+
+    private PostRepository postRepository;
+    private PostSearchIndex postSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        postSearchIndex = new PostSearchIndex(postRepository);
+        when(postRepository.findPageAfterId(eq(0L), any(Pageable.class))).thenReturn(List.of(
+                post(1L, "Introduction to Spring Boot", "A beginner's guide to Spring Boot."),
+                post(2L, "Advanced Spring Security", "Learn about advanced security concepts in Spring."),
+                post(3L, "Cooking pasta", "Boil water, add salt and pasta.")
+        ));
+        postSearchIndex.rebuild();
+    }
+
+    @Test
+    void search_RanksMoreRelevantPostsFirst() {
+        List<Long> result = postSearchIndex.search("spring security", 10);
+
+        assertEquals(List.of(2L, 1L), result);
+    }
+
+    @Test
+    void search_RespectsLimit() {
+        List<Long> result = postSearchIndex.search("spring", 1);
+
+        assertEquals(1, result.size());
+    }
+
+    @Test
+    void search_IgnoresStopWordsAndUnknownTerms() {
+        assertTrue(postSearchIndex.search("the and of", 10).isEmpty());
+        assertTrue(postSearchIndex.search("kubernetes", 10).isEmpty());
+    }
+
+    @Test
+    void onPostChanged_UpdatesIndexIncrementally() {
+        postSearchIndex.onPostChanged(PostChangedEvent.created(post(4L, "Kubernetes basics", "Pods and services.")));
+        assertEquals(List.of(4L), postSearchIndex.search("kubernetes", 10));
+
+        postSearchIndex.onPostChanged(PostChangedEvent.updated(post(4L, "Docker basics", "Images and containers.")));
+        assertTrue(postSearchIndex.search("kubernetes", 10).isEmpty());
+        assertEquals(List.of(4L), postSearchIndex.search("docker", 10));
+
+        postSearchIndex.onPostChanged(PostChangedEvent.deleted(4L));
+        assertTrue(postSearchIndex.search("docker", 10).isEmpty());
+        assertEquals(3, postSearchIndex.size());
+    }
+
+    private static Post post(Long id, String title, String content) {
+        return Post.builder()
+                .id(id)
+                .title(title)
+                .content(content)
+                .author("Test Author")
+                .category("Test Category")
+                .status(ReviewStatus.PUBLISHED)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
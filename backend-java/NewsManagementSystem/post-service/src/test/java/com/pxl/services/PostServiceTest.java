@@ -1,19 +1,31 @@
 package com.pxl.services;
 
-import com.pxl.services.clients.ReviewClient;
 import com.pxl.services.domain.DTO.PostDTO;
+import com.pxl.services.domain.DTO.PostPageDTO;
+import com.pxl.services.domain.DTO.PostSummaryDTO;
 import com.pxl.services.domain.DTO.ReviewDTO;
 import com.pxl.services.domain.Post;
+import com.pxl.services.domain.PostCursor;
 import com.pxl.services.domain.ReviewStatus;
 import com.pxl.services.domain.mapper.PostMapper;
 import com.pxl.services.exceptions.*;
 import com.pxl.services.repository.PostRepository;
 import com.pxl.services.services.PostService;
+import com.pxl.services.services.cache.PostCache;
+import com.pxl.services.services.deletion.PostDeletionSagaService;
+import com.pxl.services.services.draft.DraftText;
+import com.pxl.services.services.facet.FacetFilter;
+import com.pxl.services.services.facet.PostFacetIndex;
+import com.pxl.services.services.html.PostHtmlService;
+import com.pxl.services.services.revision.PostRevisionService;
+import com.pxl.services.services.search.PostSearchIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
@@ -25,6 +37,7 @@ import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -46,9 +59,19 @@ public class PostServiceTest {
     @MockBean
     private PostMapper postMapper;
     @MockBean
-    private ReviewClient reviewClient;
+    private PostDeletionSagaService postDeletionSagaService;
+    @MockBean
+    private PostSearchIndex postSearchIndex;
+    @MockBean
+    private PostFacetIndex postFacetIndex;
+    @MockBean
+    private PostRevisionService postRevisionService;
+    @MockBean
+    private PostHtmlService postHtmlService;
     @Autowired
     private PostService postService;
+    @Autowired
+    private PostCache postCache;
 
     private PostDTO testPostDTO;
     private Post testPost;
@@ -64,6 +87,7 @@ public class PostServiceTest {
     @BeforeEach
     void setUp() {
         clearInvocations(postRepository);
+        postCache.invalidateAll();
 
         LocalDateTime now = LocalDateTime.now();
 
@@ -135,6 +159,63 @@ public class PostServiceTest {
         assertEquals("Updated Category", result.get().getCategory());
         verify(postRepository).findById(1L);
         verify(postRepository).save(any(Post.class));
+        verify(postRevisionService).recordEdit(eq(testPost), any(byte[].class), any(LocalDateTime.class));
+    }
+
+    @Test
+    void saveDraft_Success() {
+        when(postRepository.findById(1L)).thenReturn(Optional.of(testPost));
+        when(postRepository.save(any(Post.class))).thenReturn(testPost);
+
+        Optional<Post> result = postService.saveDraft(1L, new DraftText("Test Title", "Test Content"),
+                new DraftText("Draft Title", "Draft Content"));
+
+        assertTrue(result.isPresent());
+        assertEquals("Draft Title", result.get().getTitle());
+        assertEquals("Draft Content", result.get().getContent());
+        assertEquals("Test Author", result.get().getAuthor());
+        verify(postRevisionService).recordEdit(eq(testPost), any(byte[].class), any(LocalDateTime.class));
+    }
+
+    @Test
+    void saveDraft_StoredTextChanged() {
+        when(postRepository.findById(1L)).thenReturn(Optional.of(testPost));
+
+        Optional<Post> result = postService.saveDraft(1L, new DraftText("Test Title", "Older Content"),
+                new DraftText("Draft Title", "Draft Content"));
+
+        assertTrue(result.isEmpty());
+        assertEquals("Test Content", testPost.getContent());
+        verify(postRepository, never()).save(any(Post.class));
+    }
+
+    @Test
+    void schedulePublication_Success() {
+        testPost.setStatus(ReviewStatus.APPROVED);
+        LocalDateTime publishAt = LocalDateTime.now().plusHours(2);
+        when(postRepository.findById(1L)).thenReturn(Optional.of(testPost));
+        when(postRepository.save(any(Post.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Optional<Post> result = postService.schedulePublication(1L, publishAt);
+
+        assertTrue(result.isPresent());
+        assertEquals(publishAt, result.get().getPublishAt());
+        assertEquals(ReviewStatus.APPROVED, result.get().getStatus());
+    }
+
+    @Test
+    void schedulePublication_RequiresApprovedPost() {
+        when(postRepository.findById(1L)).thenReturn(Optional.of(testPost));
+
+        assertThrows(PostPublishException.class,
+                () -> postService.schedulePublication(1L, LocalDateTime.now().plusHours(2)));
+        verify(postRepository, never()).save(any(Post.class));
+    }
+
+    @Test
+    void schedulePublication_RejectsPastTime() {
+        assertThrows(InvalidScheduleException.class,
+                () -> postService.schedulePublication(1L, LocalDateTime.now().minusMinutes(1)));
     }
 
     @Test
@@ -167,17 +248,159 @@ public class PostServiceTest {
         verify(postRepository).findAll();
     }
 
+    @Test
+    void getPostPage_FirstPageWithMore() {
+        Post olderPost = Post.builder()
+                .id(2L)
+                .title("Older Title")
+                .content("Older Content")
+                .author("Test Author")
+                .createdAt(testPost.getCreatedAt().minusDays(1))
+                .updatedAt(testPost.getUpdatedAt())
+                .status(ReviewStatus.DRAFT)
+                .category("Test Category")
+                .build();
+        when(postRepository.findFirstPage(eq(ReviewStatus.DRAFT), isNull(), any(Pageable.class)))
+                .thenReturn(List.of(testPost, olderPost));
+
+        PostPageDTO<Post> result = postService.getPostPage(null, 1, ReviewStatus.DRAFT, null);
+
+        assertEquals(List.of(testPost), result.getItems());
+        assertTrue(result.isHasMore());
+        assertEquals(PostCursor.of(testPost).encode(), result.getNextCursor());
+        verify(postRepository).findFirstPage(eq(ReviewStatus.DRAFT), isNull(), eq(PageRequest.of(0, 2)));
+    }
+
+    @Test
+    void getPostPage_AfterCursorLastPage() {
+        PostCursor cursor = new PostCursor(testPost.getCreatedAt().plusDays(1), 5L);
+        when(postRepository.findPageAfter(isNull(), eq("Test Category"), eq(cursor.createdAt()), eq(5L), any(Pageable.class)))
+                .thenReturn(List.of(testPost));
+
+        PostPageDTO<Post> result = postService.getPostPage(cursor.encode(), 20, null, "Test Category");
+
+        assertEquals(List.of(testPost), result.getItems());
+        assertFalse(result.isHasMore());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void getPostSummaries_FirstPageWithMore() {
+        PostSummaryDTO newer = summary(3L, testPost.getCreatedAt());
+        PostSummaryDTO older = summary(2L, testPost.getCreatedAt().minusDays(1));
+        when(postRepository.findFirstSummaryPage(isNull(), eq("Test Category"), any(Pageable.class)))
+                .thenReturn(List.of(newer, older));
+
+        PostPageDTO<PostSummaryDTO> result = postService.getPostSummaries(null, 1, null, "Test Category");
+
+        assertEquals(List.of(newer), result.getItems());
+        assertTrue(result.isHasMore());
+        assertEquals(new PostCursor(newer.getCreatedAt(), 3L).encode(), result.getNextCursor());
+        verify(postRepository, never()).findFirstPage(any(), any(), any());
+    }
+
+    @Test
+    void getPostSummaries_AfterCursor() {
+        PostCursor cursor = new PostCursor(testPost.getCreatedAt(), 3L);
+        PostSummaryDTO older = summary(2L, testPost.getCreatedAt().minusDays(1));
+        when(postRepository.findSummaryPageAfter(isNull(), isNull(), eq(cursor.createdAt()), eq(3L), any(Pageable.class)))
+                .thenReturn(List.of(older));
+
+        PostPageDTO<PostSummaryDTO> result = postService.getPostSummaries(cursor.encode(), 20, null, null);
+
+        assertEquals(List.of(older), result.getItems());
+        assertFalse(result.isHasMore());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void filterPosts_HydratesInIndexOrder() {
+        Post olderPost = Post.builder()
+                .id(2L)
+                .title("Older Title")
+                .content("Older Content")
+                .author("Test Author")
+                .createdAt(testPost.getCreatedAt())
+                .updatedAt(testPost.getUpdatedAt())
+                .status(ReviewStatus.DRAFT)
+                .category("Test Category")
+                .build();
+        FacetFilter filter = new FacetFilter(Set.of(ReviewStatus.DRAFT), null, null);
+        when(postFacetIndex.filter(filter, PostService.MAX_PAGE_SIZE)).thenReturn(List.of(2L, 1L));
+        when(postRepository.findAllById(List.of(2L, 1L))).thenReturn(List.of(testPost, olderPost));
+
+        List<Post> result = postService.filterPosts(filter, 1000);
+
+        assertEquals(List.of(olderPost, testPost), result);
+    }
+
+    @Test
+    void getRelatedPosts_UnknownPost() {
+        when(postRepository.findUpdatedAtById(99L)).thenReturn(Optional.empty());
+
+        assertThrows(PostNotFoundException.class, () -> postService.getRelatedPosts(99L, 5));
+    }
+
+    @Test
+    void getPostPage_InvalidCursor() {
+        assertThrows(InvalidCursorException.class,
+                () -> postService.getPostPage("not-a-cursor", 20, null, null));
+    }
+
     @Test
     void searchPosts_Success() {
-        List<Post> posts = Collections.singletonList(testPost);
-        when(postRepository.findByContentContainingOrCategoryOrAuthor(
-                "content", "category", "author")).thenReturn(posts);
+        when(postSearchIndex.search("content", PostService.SEARCH_RESULT_LIMIT)).thenReturn(List.of(1L));
+        when(postRepository.findAllById(List.of(1L))).thenReturn(List.of(testPost));
+        when(postRepository.findByCategoryOrAuthor("category", "author")).thenReturn(List.of(testPost));
 
         List<Post> result = postService.searchPosts("content", "category", "author");
 
+        assertEquals(List.of(testPost), result);
+        verify(postSearchIndex).search("content", PostService.SEARCH_RESULT_LIMIT);
+        verify(postRepository).findByCategoryOrAuthor("category", "author");
+    }
+
+    @Test
+    void searchPosts_RepeatedQueryServedFromCache() {
+        when(postSearchIndex.search("content", PostService.SEARCH_RESULT_LIMIT)).thenReturn(List.of(1L));
+        when(postRepository.findAllById(List.of(1L))).thenReturn(List.of(testPost));
+        when(postRepository.findById(1L)).thenReturn(Optional.of(testPost));
+
+        postService.searchPosts("content", null, null);
+        List<Post> result = postService.searchPosts("  Content ", null, null);
+
+        assertEquals(List.of(testPost), result);
+        verify(postSearchIndex, times(1)).search("content", PostService.SEARCH_RESULT_LIMIT);
+    }
+
+    @Test
+    void searchPosts_CachesCategoryAndAuthorByExactValue() {
+        when(postRepository.findByCategoryOrAuthor(any(), any())).thenReturn(List.of());
+
+        postService.searchPosts(null, "News", null);
+        postService.searchPosts(null, "news", null);
+        postService.searchPosts(null, "  ", null);
+        postService.searchPosts(null, null, "  ");
+        postService.searchPosts(null, "a|b", "c");
+        postService.searchPosts(null, "a", "b|c");
+
+        verify(postRepository).findByCategoryOrAuthor("News", null);
+        verify(postRepository).findByCategoryOrAuthor("news", null);
+        verify(postRepository).findByCategoryOrAuthor("  ", null);
+        verify(postRepository).findByCategoryOrAuthor(null, "  ");
+        verify(postRepository).findByCategoryOrAuthor("a|b", "c");
+        verify(postRepository).findByCategoryOrAuthor("a", "b|c");
+    }
+
+    @Test
+    void searchPosts_WithoutContent() {
+        List<Post> posts = Collections.singletonList(testPost);
+        when(postRepository.findByCategoryOrAuthor("category", null)).thenReturn(posts);
+
+        List<Post> result = postService.searchPosts(null, "category", null);
+
         assertEquals(posts, result);
-        verify(postRepository).findByContentContainingOrCategoryOrAuthor(
-                "content", "category", "author");
+        verify(postSearchIndex, never()).search(anyString(), anyInt());
     }
 
     @Test
@@ -191,18 +414,52 @@ public class PostServiceTest {
         verify(postRepository).findById(1L);
     }
 
+    @Test
+    void getRevisions_ReadsCurrentTextFromRepository() {
+        when(postRepository.findById(1L)).thenReturn(Optional.of(testPost));
+        postService.getPostById(1L);
+        Post edited = Post.builder()
+                .id(1L)
+                .title("Edited Title")
+                .content("Edited Content")
+                .author(testPost.getAuthor())
+                .category(testPost.getCategory())
+                .status(testPost.getStatus())
+                .createdAt(testPost.getCreatedAt())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        when(postRepository.findById(1L)).thenReturn(Optional.of(edited));
+
+        postService.getRevisions(1L);
+
+        verify(postRevisionService).getRevisions(edited);
+    }
+
+    @Test
+    void getPostById_ServedFromCacheUntilStatusChanges() {
+        when(postRepository.findById(1L)).thenReturn(Optional.of(testPost));
+        when(postRepository.save(any(Post.class))).thenReturn(testPost);
+
+        postService.getPostById(1L);
+        postService.getPostById(1L);
+        verify(postRepository, times(1)).findById(1L);
+
+        postService.updateStatus(1L, "PUBLISHED");
+        postService.getPostById(1L);
+        verify(postRepository, times(3)).findById(1L);
+    }
+
     @Test
     void deletePost_Success() {
         when(postRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(reviewClient).deleteReviewsByPostId(1L);
         doNothing().when(postRepository).deleteById(1L);
 
         boolean result = postService.deletePost(1L);
 
         assertTrue(result);
         verify(postRepository).existsById(1L);
-        verify(reviewClient).deleteReviewsByPostId(1L);
         verify(postRepository).deleteById(1L);
+        verify(postDeletionSagaService).begin(1L);
     }
 
     @Test
@@ -213,37 +470,68 @@ public class PostServiceTest {
     }
 
     @Test
-    void processReviewMessage_Success() {
-        ReviewDTO reviewDTO = new ReviewDTO(
-                1L,
-                ReviewStatus.PUBLISHED,
-                "Test Comment",
-                LocalDateTime.now()
+    void processReviewMessages_CoalescesToLatestStatusPerPost() {
+        LocalDateTime now = LocalDateTime.now();
+        List<ReviewDTO> reviews = List.of(
+                new ReviewDTO(1L, ReviewStatus.PENDING, "First", now),
+                new ReviewDTO(2L, ReviewStatus.PUBLISHED, "Other post", now),
+                new ReviewDTO(1L, ReviewStatus.PUBLISHED, "Second", now)
         );
+        when(postRepository.findIdsByIdIn(anyCollection())).thenReturn(List.of(1L, 2L));
+        when(postRepository.updateStatusByIdIn(eq(ReviewStatus.PUBLISHED), any(LocalDateTime.class), anyCollection()))
+                .thenReturn(2);
 
-        when(postRepository.findById(1L)).thenReturn(Optional.of(testPost));
-        when(postRepository.save(any(Post.class))).thenReturn(testPost);
+        postService.processReviewMessages(reviews);
 
-        postService.processReviewMessage(reviewDTO);
+        verify(postRepository).updateStatusByIdIn(eq(ReviewStatus.PUBLISHED), any(LocalDateTime.class), eq(List.of(1L, 2L)));
+        verify(postRepository, never()).updateStatusByIdIn(eq(ReviewStatus.PENDING), any(LocalDateTime.class), anyCollection());
+        verify(postRepository, never()).save(any(Post.class));
+    }
 
-        verify(postRepository).findById(1L);
-        verify(postRepository).save(any(Post.class));
+    @Test
+    void processReviewMessages_OneUpdatePerStatus() {
+        LocalDateTime now = LocalDateTime.now();
+        List<ReviewDTO> reviews = List.of(
+                new ReviewDTO(1L, ReviewStatus.APPROVED, "Approved", now),
+                new ReviewDTO(2L, ReviewStatus.REJECTED, "Rejected", now),
+                new ReviewDTO(3L, ReviewStatus.APPROVED, "Approved", now)
+        );
+        when(postRepository.findIdsByIdIn(anyCollection())).thenReturn(List.of(1L, 2L, 3L));
+
+        postService.processReviewMessages(reviews);
+
+        verify(postRepository).updateStatusByIdIn(eq(ReviewStatus.APPROVED), any(LocalDateTime.class), eq(List.of(1L, 3L)));
+        verify(postRepository).updateStatusByIdIn(eq(ReviewStatus.REJECTED), any(LocalDateTime.class), eq(List.of(2L)));
     }
 
     @Test
-    void processReviewMessage_PostNotFound() {
+    void processReviewMessages_ThrowsException() {
         ReviewDTO reviewDTO = new ReviewDTO(
                 1L,
                 ReviewStatus.PUBLISHED,
                 "Test Comment",
                 LocalDateTime.now()
         );
+        when(postRepository.findIdsByIdIn(anyCollection())).thenReturn(List.of(1L));
+        when(postRepository.updateStatusByIdIn(any(ReviewStatus.class), any(LocalDateTime.class), anyCollection()))
+                .thenThrow(new RuntimeException("Update failed"));
 
-        when(postRepository.findById(1L)).thenReturn(Optional.empty());
+        assertThrows(RuntimeException.class, () -> postService.processReviewMessages(List.of(reviewDTO)));
+        verify(postRepository).updateStatusByIdIn(eq(ReviewStatus.PUBLISHED), any(LocalDateTime.class), eq(List.of(1L)));
+    }
 
-        postService.processReviewMessage(reviewDTO);
-        verify(postRepository).findById(1L);
-        verify(postRepository, never()).save(any(Post.class));
+    @Test
+    void processReviewMessages_SkipsMissingPosts() {
+        LocalDateTime now = LocalDateTime.now();
+        List<ReviewDTO> reviews = List.of(
+                new ReviewDTO(1L, ReviewStatus.PUBLISHED, "Exists", now),
+                new ReviewDTO(2L, ReviewStatus.PUBLISHED, "Deleted", now)
+        );
+        when(postRepository.findIdsByIdIn(anyCollection())).thenReturn(List.of(1L));
+
+        postService.processReviewMessages(reviews);
+
+        verify(postRepository).updateStatusByIdIn(eq(ReviewStatus.PUBLISHED), any(LocalDateTime.class), eq(List.of(1L)));
     }
 
     @Test
@@ -266,13 +554,12 @@ public class PostServiceTest {
 
     @Test
     void searchPosts_ThrowsException() {
-        when(postRepository.findByContentContainingOrCategoryOrAuthor(anyString(), anyString(), anyString()))
-                .thenThrow(new RuntimeException("Search failed"));
+        when(postSearchIndex.search("content", PostService.SEARCH_RESULT_LIMIT)).thenReturn(List.of(1L));
+        when(postRepository.findAllById(List.of(1L))).thenThrow(new RuntimeException("Search failed"));
 
         assertThrows(RuntimeException.class,
                 () -> postService.searchPosts("content", "category", "author"));
-        verify(postRepository).findByContentContainingOrCategoryOrAuthor(
-                "content", "category", "author");
+        verify(postRepository).findAllById(List.of(1L));
     }
 
     @Test
@@ -284,33 +571,14 @@ public class PostServiceTest {
     }
 
     @Test
-    void deletePost_ReviewClientThrowsException() {
+    void deletePost_RepositoryThrowsException() {
         when(postRepository.existsById(1L)).thenReturn(true);
         doThrow(RuntimeException.class)
-                .when(reviewClient).deleteReviewsByPostId(1L);
+                .when(postRepository).deleteById(1L);
 
         assertThrows(PostDeletionException.class, () -> postService.deletePost(1L));
         verify(postRepository).existsById(1L);
-        verify(reviewClient).deleteReviewsByPostId(1L);
-        verify(postRepository, never()).deleteById(1L);
-    }
-
-    @Test
-    void processReviewMessage_ThrowsException() {
-        ReviewDTO reviewDTO = new ReviewDTO(
-                1L,
-                ReviewStatus.PUBLISHED,
-                "Test Comment",
-                LocalDateTime.now()
-        );
-
-        when(postRepository.findById(1L)).thenReturn(Optional.of(testPost));
-        when(postRepository.save(any(Post.class))).thenThrow(new RuntimeException("Save failed"));
-
-        postService.processReviewMessage(reviewDTO);
-
-        verify(postRepository).findById(1L);
-        verify(postRepository).save(any(Post.class));
+        verify(postDeletionSagaService, never()).begin(1L);
     }
 
     @Test
@@ -345,4 +613,17 @@ public class PostServiceTest {
         verify(postRepository).findById(1L);
         verify(postRepository, never()).save(any(Post.class));
     }
-}
\ No newline at end of file
+
+    private PostSummaryDTO summary(Long id, LocalDateTime createdAt) {
+        return PostSummaryDTO.builder()
+                .id(id)
+                .title("Title " + id)
+                .excerpt("Excerpt")
+                .author("Test Author")
+                .category("Test Category")
+                .status(ReviewStatus.DRAFT)
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .build();
+    }
+}
@@ -0,0 +1,106 @@
+package com.pxl.services;
+
+import com.pxl.services.domain.DTO.PostSummaryDTO;
+import com.pxl.services.domain.DTO.SuggestionDTO;
+import com.pxl.services.domain.Post;
+import com.pxl.services.domain.ReviewStatus;
+import com.pxl.services.domain.event.PostChangedEvent;
+import com.pxl.services.repository.PostRepository;
+import com.pxl.services.services.suggest.PostSuggestionIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+class PostSuggestionIndexTest {
+
+    private PostRepository postRepository;
+    private PostSuggestionIndex index;
+
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        when(postRepository.findSummaryPageAfterId(eq(ReviewStatus.PUBLISHED), eq(0L), any(Pageable.class))).thenReturn(List.of(
+                summary(1L, "Budget approved", "Bob", "politics"),
+                summary(2L, "Bus lanes extended", "Bob", "mobility")));
+        index = new PostSuggestionIndex(postRepository);
+        index.rebuild();
+    }
+
+    @Test
+    void suggest_MatchesAllFieldsByPopularity() {
+        assertEquals(List.of(
+                new SuggestionDTO("Bob", "AUTHOR", 2),
+                new SuggestionDTO("Budget approved", "TITLE", 1),
+                new SuggestionDTO("Bus lanes extended", "TITLE", 1)), index.suggest("B", 10));
+    }
+
+    @Test
+    void onPostChanged_ReplacesOldValues() {
+        index.onPostChanged(PostChangedEvent.updated(post(2L, "Tram line opened", "Alice", "mobility")));
+
+        assertEquals(List.of(new SuggestionDTO("Bob", "AUTHOR", 1), new SuggestionDTO("Budget approved", "TITLE", 1)),
+                index.suggest("b", 10));
+        assertEquals(List.of(new SuggestionDTO("Tram line opened", "TITLE", 1)), index.suggest("tram  l", 10));
+    }
+
+    @Test
+    void onPostChanged_DeletedPostsDisappear() {
+        index.onPostChanged(PostChangedEvent.deleted(1L));
+
+        assertEquals(List.of(), index.suggest("politics", 10));
+    }
+
+    @Test
+    void onPostChanged_OnlyPublishedPostsAreSuggested() {
+        Post draft = post(3L, "Tram line opened", "Alice", "mobility");
+        draft.setStatus(ReviewStatus.DRAFT);
+        index.onPostChanged(PostChangedEvent.created(draft));
+
+        assertEquals(List.of(), index.suggest("tram", 10));
+
+        when(postRepository.findSummaryById(3L)).thenReturn(Optional.of(summary(3L, "Tram line opened", "Alice", "mobility")));
+        index.onPostChanged(PostChangedEvent.statusChanged(3L, ReviewStatus.PUBLISHED));
+
+        assertEquals(List.of(new SuggestionDTO("Tram line opened", "TITLE", 1)), index.suggest("tram", 10));
+    }
+
+    @Test
+    void onPostChanged_UsesSummaryCarriedByEvent() {
+        index.onPostChanged(PostChangedEvent.published(summary(3L, "Tram line opened", "Alice", "mobility")));
+
+        assertEquals(List.of(new SuggestionDTO("Tram line opened", "TITLE", 1)), index.suggest("tram", 10));
+        verify(postRepository, never()).findSummaryById(3L);
+    }
+
+    @Test
+    void onPostChanged_WithdrawnPostsDisappear() {
+        index.onPostChanged(PostChangedEvent.statusChanged(1L, ReviewStatus.REJECTED));
+
+        assertEquals(List.of(), index.suggest("politics", 10));
+        verify(postRepository, never()).findSummaryById(1L);
+    }
+
+    private static PostSummaryDTO summary(Long id, String title, String author, String category) {
+        return PostSummaryDTO.builder().id(id).title(title).author(author).category(category).build();
+    }
+
+    private static Post post(Long id, String title, String author, String category) {
+        return Post.builder()
+                .id(id)
+                .title(title)
+                .content("Content")
+                .author(author)
+                .category(category)
+                .status(ReviewStatus.PUBLISHED)
+                .createdAt(LocalDateTime.of(2024, 1, 1, 0, 0))
+                .updatedAt(LocalDateTime.of(2024, 1, 1, 0, 0))
+                .build();
+    }
+}
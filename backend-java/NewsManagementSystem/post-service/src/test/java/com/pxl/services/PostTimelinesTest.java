@@ -0,0 +1,198 @@
+package com.pxl.services;
+
+import com.pxl.services.domain.DTO.PostPageDTO;
+import com.pxl.services.domain.DTO.PostSummaryDTO;
+import com.pxl.services.domain.PostCursor;
+import com.pxl.services.domain.ReviewStatus;
+import com.pxl.services.domain.event.PostChangedEvent;
+import com.pxl.services.repository.PostFollowRepository;
+import com.pxl.services.repository.PostRepository;
+import com.pxl.services.services.timeline.PostTimelines;
+import com.pxl.services.services.timeline.TimelineBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class PostTimelinesTest {
+
+    private PostRepository postRepository;
+    private PostFollowRepository postFollowRepository;
+    private PostTimelines postTimelines;
+    private List<PostSummaryDTO> posts;
+
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        postFollowRepository = mock(PostFollowRepository.class);
+        postTimelines = new PostTimelines(postRepository, postFollowRepository, 3, 1, 100,
+                Duration.ofMinutes(30), Duration.ofMinutes(5));
+        posts = new ArrayList<>(List.of(
+                post(1L, "alice", 1),
+                post(2L, "bob", 2),
+                post(3L, "carol", 3),
+                post(4L, "alice", 4)));
+
+        when(postFollowRepository.findAuthorsByReader("reader")).thenReturn(List.of("alice", "bob"));
+        when(postFollowRepository.findReadersByAuthor("alice")).thenReturn(List.of("reader"));
+        when(postFollowRepository.countByAuthor(any())).thenReturn(1L);
+        when(postRepository.findPositionsByAuthorIn(eq(ReviewStatus.PUBLISHED), anyCollection(), any(), any(), any(Pageable.class)))
+                .thenAnswer(invocation -> {
+                    Collection<String> authors = invocation.getArgument(1);
+                    LocalDateTime createdAt = invocation.getArgument(2);
+                    Long id = invocation.getArgument(3);
+                    Pageable page = invocation.getArgument(4);
+                    PostCursor after = createdAt == null ? null : new PostCursor(createdAt, id);
+                    return posts.stream()
+                            .filter(post -> post.getStatus() == ReviewStatus.PUBLISHED && authors.contains(post.getAuthor()))
+                            .map(post -> new PostCursor(post.getCreatedAt(), post.getId()))
+                            .filter(position -> after == null || TimelineBuffer.NEWEST_FIRST.compare(position, after) > 0)
+                            .sorted(TimelineBuffer.NEWEST_FIRST)
+                            .limit(page.getPageSize())
+                            .toList();
+                });
+        when(postRepository.findSummariesByIdIn(anyCollection(), eq(ReviewStatus.PUBLISHED)))
+                .thenAnswer(invocation -> {
+                    Collection<Long> ids = invocation.getArgument(0);
+                    return posts.stream()
+                            .filter(post -> post.getStatus() == ReviewStatus.PUBLISHED && ids.contains(post.getId()))
+                            .toList();
+                });
+    }
+
+    @Test
+    void getTimeline_ShowsFollowedAuthorsNewestFirst() {
+        PostPageDTO<PostSummaryDTO> page = postTimelines.getTimeline("reader", null, 20);
+
+        assertEquals(List.of(4L, 2L, 1L), ids(page));
+        assertFalse(page.isHasMore());
+    }
+
+    @Test
+    void getTimeline_PagesWithCursor() {
+        PostPageDTO<PostSummaryDTO> first = postTimelines.getTimeline("reader", null, 2);
+        PostPageDTO<PostSummaryDTO> second = postTimelines.getTimeline("reader", first.getNextCursor(), 2);
+
+        assertEquals(List.of(4L, 2L), ids(first));
+        assertTrue(first.isHasMore());
+        assertEquals(List.of(1L), ids(second));
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    void onPostChanged_PushesPublishedPostIntoCachedTimeline() {
+        postTimelines.getTimeline("reader", null, 20);
+        posts.add(post(5L, "alice", 5));
+        when(postRepository.findSummaryById(5L)).thenReturn(Optional.of(posts.get(4)));
+
+        postTimelines.onPostChanged(PostChangedEvent.statusChanged(5L, ReviewStatus.PUBLISHED));
+        PostPageDTO<PostSummaryDTO> page = postTimelines.getTimeline("reader", null, 20);
+
+        assertEquals(List.of(5L, 4L, 2L, 1L), ids(page));
+        verify(postRepository, times(1)).findPositionsByAuthorIn(eq(ReviewStatus.PUBLISHED), eq(List.of("alice", "bob")),
+                isNull(), isNull(), any(Pageable.class));
+    }
+
+    @Test
+    void onPostChanged_UsesSummaryCarriedByEvent() {
+        postTimelines.getTimeline("reader", null, 20);
+        posts.add(post(5L, "alice", 5));
+
+        postTimelines.onPostChanged(PostChangedEvent.published(posts.get(4)));
+
+        assertEquals(List.of(5L, 4L, 2L, 1L), ids(postTimelines.getTimeline("reader", null, 20)));
+        verify(postRepository, never()).findSummaryById(5L);
+    }
+
+    @Test
+    void getTimeline_ReadsWideAuthorsPerRequest() {
+        when(postFollowRepository.countByAuthor("bob")).thenReturn(5L);
+        postTimelines.getTimeline("reader", null, 20);
+        posts.add(post(5L, "bob", 5));
+        when(postRepository.findSummaryById(5L)).thenReturn(Optional.of(posts.get(4)));
+
+        postTimelines.onPostChanged(PostChangedEvent.statusChanged(5L, ReviewStatus.PUBLISHED));
+        PostPageDTO<PostSummaryDTO> page = postTimelines.getTimeline("reader", null, 20);
+
+        verify(postFollowRepository, never()).findReadersByAuthor("bob");
+        assertEquals(5L, ids(page).get(0));
+        assertEquals(ids(page).size(), ids(page).stream().distinct().count());
+    }
+
+    @Test
+    void getTimeline_FallsBackToDatabasePastFullBuffer() {
+        posts.add(post(5L, "alice", 5));
+        posts.add(post(6L, "alice", 6));
+
+        PostPageDTO<PostSummaryDTO> first = postTimelines.getTimeline("reader", null, 3);
+        PostPageDTO<PostSummaryDTO> second = postTimelines.getTimeline("reader", first.getNextCursor(), 3);
+
+        assertEquals(List.of(6L, 5L, 4L), ids(first));
+        assertEquals(List.of(2L, 1L), ids(second));
+    }
+
+    @Test
+    void getTimeline_FallsBackToDatabaseAfterWithdrawnPostLeavesFullBuffer() {
+        posts.add(post(5L, "alice", 5));
+        postTimelines.getTimeline("reader", null, 20);
+        posts.get(4).setStatus(ReviewStatus.REJECTED);
+        postTimelines.getTimeline("reader", null, 20);
+        String afterFour = new PostCursor(posts.get(3).getCreatedAt(), 4L).encode();
+
+        PostPageDTO<PostSummaryDTO> page = postTimelines.getTimeline("reader", afterFour, 3);
+
+        assertEquals(List.of(2L, 1L), ids(page));
+    }
+
+    @Test
+    void getTimeline_DropsWithdrawnPosts() {
+        postTimelines.getTimeline("reader", null, 20);
+        posts.get(3).setStatus(ReviewStatus.REJECTED);
+
+        PostPageDTO<PostSummaryDTO> page = postTimelines.getTimeline("reader", null, 20);
+
+        assertEquals(List.of(2L, 1L), ids(page));
+    }
+
+    @Test
+    void follow_RebuildsTimeline() {
+        postTimelines.getTimeline("reader", null, 20);
+        when(postFollowRepository.findAuthorsByReader("reader")).thenReturn(List.of("alice", "bob", "carol"));
+
+        postTimelines.follow("reader", "carol");
+        PostPageDTO<PostSummaryDTO> page = postTimelines.getTimeline("reader", null, 20);
+
+        verify(postFollowRepository).save(any());
+        assertEquals(List.of(4L, 3L, 2L, 1L), ids(page));
+    }
+
+    private static PostSummaryDTO post(Long id, String author, int day) {
+        return PostSummaryDTO.builder()
+                .id(id)
+                .title("Post " + id)
+                .author(author)
+                .category("news")
+                .status(ReviewStatus.PUBLISHED)
+                .createdAt(LocalDateTime.of(2024, 1, day, 0, 0))
+                .updatedAt(LocalDateTime.of(2024, 1, day, 0, 0))
+                .build();
+    }
+
+    private static List<Long> ids(PostPageDTO<PostSummaryDTO> page) {
+        return page.getItems().stream().map(PostSummaryDTO::getId).toList();
+    }
+}
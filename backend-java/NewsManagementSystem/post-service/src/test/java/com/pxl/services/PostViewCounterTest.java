@@ -0,0 +1,137 @@
+package com.pxl.services;
+
+import com.pxl.services.domain.DTO.PostViewsDTO;
+import com.pxl.services.domain.PostView;
+import com.pxl.services.domain.event.PostChangedEvent;
+import com.pxl.services.exceptions.PostNotFoundException;
+import com.pxl.services.repository.PostRepository;
+import com.pxl.services.repository.PostViewRepository;
+import com.pxl.services.services.trending.TrendingPosts;
+import com.pxl.services.services.views.PostViewCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class PostViewCounterTest {
+
+    private PostRepository postRepository;
+    private PostViewRepository postViewRepository;
+    private JdbcTemplate jdbcTemplate;
+    private TrendingPosts trendingPosts;
+    private PostViewCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        postViewRepository = mock(PostViewRepository.class);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        trendingPosts = mock(TrendingPosts.class);
+        counter = new PostViewCounter(postRepository, postViewRepository, jdbcTemplate, trendingPosts);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            int[] updated = new int[invocation.<List<?>>getArgument(1).size()];
+            Arrays.fill(updated, 1);
+            return updated;
+        });
+        when(postRepository.existsById(anyLong())).thenReturn(true);
+    }
+
+    @Test
+    void getViews_AddsPendingToPersisted() {
+        when(postViewRepository.findById(1L)).thenReturn(Optional.of(new PostView(1L, 10)));
+        counter.recordView(1L);
+        counter.recordView(1L);
+
+        PostViewsDTO views = counter.getViews(1L);
+
+        assertEquals(12, views.getViews());
+        assertEquals(2, views.getPending());
+    }
+
+    @Test
+    void getViews_ThrowsForUnknownPost() {
+        when(postRepository.existsById(2L)).thenReturn(false);
+
+        assertThrows(PostNotFoundException.class, () -> counter.getViews(2L));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_WritesOneBatchOfDeltas() {
+        counter.recordView(1L);
+        counter.recordView(1L);
+        counter.recordView(2L);
+
+        counter.flush();
+        counter.flush();
+
+        ArgumentCaptor<List<Object[]>> batch = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), batch.capture());
+        assertEquals(2, batch.getValue().size());
+        assertArrayEquals(new Object[]{2L, 1L}, batch.getValue().stream().filter(row -> row[1].equals(1L)).findFirst().orElseThrow());
+        assertEquals(0, counter.getViews(1L).getPending());
+        verify(trendingPosts).recordViews(1L, 2L);
+        verify(trendingPosts).recordViews(2L, 1L);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_CountsViewsOfPostsEvictedWhileIdle() {
+        counter.recordView(1L);
+        counter.flush();
+        counter.flush();
+
+        counter.recordView(1L);
+        counter.flush();
+
+        ArgumentCaptor<List<Object[]>> batch = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), batch.capture());
+        assertArrayEquals(new Object[]{1L, 1L}, batch.getAllValues().get(1).get(0));
+        assertEquals(0, counter.getViews(1L).getPending());
+    }
+
+    @Test
+    void flush_KeepsDeltasWhenWriteFails() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new DataAccessResourceFailureException("down"));
+        counter.recordView(1L);
+
+        counter.flush();
+
+        assertEquals(1, counter.getViews(1L).getPending());
+        verifyNoInteractions(trendingPosts);
+    }
+
+    @Test
+    void flush_SkipsTrendingForPostsThatNoLongerExist() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[]{0});
+        counter.recordView(1L);
+
+        counter.flush();
+
+        verifyNoInteractions(trendingPosts);
+    }
+
+    @Test
+    void onPostChanged_DropsCountsOfDeletedPosts() {
+        counter.recordView(1L);
+
+        counter.onPostChanged(PostChangedEvent.deleted(1L));
+        counter.flush();
+
+        verify(postViewRepository).deleteById(1L);
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
@@ -0,0 +1,61 @@
+package com.pxl.services;
+
+import com.pxl.services.services.suggest.PrefixTrie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PrefixTrieTest {
+
+    private PrefixTrie trie;
+
+    @BeforeEach
+    void setUp() {
+        trie = new PrefixTrie();
+        trie.add("tech", "Tech", 5);
+        trie.add("technology", "Technology", 2);
+        trie.add("team news", "Team news", 7);
+        trie.add("sports", "Sports", 9);
+    }
+
+    @Test
+    void top_ReturnsMatchesHeaviestFirst() {
+        assertEquals(List.of(
+                new PrefixTrie.Entry("Team news", 7),
+                new PrefixTrie.Entry("Tech", 5),
+                new PrefixTrie.Entry("Technology", 2)), trie.top("te", 10));
+    }
+
+    @Test
+    void top_PrefixEndingInsideAnEdge() {
+        assertEquals(List.of(new PrefixTrie.Entry("Technology", 2)), trie.top("techno", 10));
+        assertTrue(trie.top("technox", 10).isEmpty());
+    }
+
+    @Test
+    void top_StopsAtLimit() {
+        assertEquals(List.of(new PrefixTrie.Entry("Sports", 9), new PrefixTrie.Entry("Team news", 7)),
+                trie.top("", 2));
+    }
+
+    @Test
+    void add_NegativeDeltaRemovesKeyAndKeepsOthers() {
+        trie.add("tech", "Tech", -5);
+
+        assertEquals(3, trie.size());
+        assertEquals(List.of(new PrefixTrie.Entry("Technology", 2)), trie.top("tec", 10));
+        assertEquals(List.of(new PrefixTrie.Entry("Team news", 7)), trie.top("tea", 10));
+    }
+
+    @Test
+    void add_RemovingUnknownKeyIsIgnored() {
+        trie.add("tea", "Tea", -1);
+
+        assertEquals(4, trie.size());
+        assertEquals(List.of(new PrefixTrie.Entry("Team news", 7)), trie.top("tea", 10));
+    }
+}
@@ -0,0 +1,96 @@
+package com.pxl.services;
+
+import com.pxl.services.domain.DTO.PostSummaryDTO;
+import com.pxl.services.domain.Post;
+import com.pxl.services.domain.ReviewStatus;
+import com.pxl.services.domain.ScheduledPublication;
+import com.pxl.services.domain.event.PostChangedEvent;
+import com.pxl.services.repository.PostRepository;
+import com.pxl.services.repository.PublisherLeaseRepository;
+import com.pxl.services.services.publishing.PublicationScheduler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class PublicationSchedulerTest {
+
+    private PostRepository postRepository;
+    private PublisherLeaseRepository leaseRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private PublicationScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        leaseRepository = mock(PublisherLeaseRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        scheduler = new PublicationScheduler(postRepository, leaseRepository, eventPublisher,
+                mock(PlatformTransactionManager.class), Duration.ofSeconds(15), 500);
+        when(postRepository.findScheduledPublications()).thenReturn(List.of(
+                new ScheduledPublication(1L, LocalDateTime.now().minusSeconds(5)),
+                new ScheduledPublication(2L, LocalDateTime.now().plusDays(1))));
+    }
+
+    @Test
+    void tick_LeaderPublishesDuePostsInOneBatch() {
+        when(leaseRepository.acquire(anyString(), anyString(), any(), any())).thenReturn(1);
+        when(postRepository.findDuePublications(eq(List.of(1L)), any())).thenReturn(List.of(1L));
+        PostSummaryDTO summary = PostSummaryDTO.builder().id(1L).status(ReviewStatus.PUBLISHED).build();
+        when(postRepository.findSummariesByIdIn(List.of(1L), ReviewStatus.PUBLISHED)).thenReturn(List.of(summary));
+
+        scheduler.tick();
+
+        verify(postRepository).publishDue(eq(List.of(1L)), any(LocalDateTime.class));
+        verify(eventPublisher).publishEvent(PostChangedEvent.published(summary));
+    }
+
+    @Test
+    void tick_FollowerDoesNotPublish() {
+        when(leaseRepository.acquire(anyString(), anyString(), any(), any())).thenReturn(0);
+        scheduler.reload();
+
+        scheduler.tick();
+
+        verify(postRepository, never()).publishDue(anyCollection(), any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void onPostChanged_FollowsScheduleChanges() {
+        when(leaseRepository.acquire(anyString(), anyString(), any(), any())).thenReturn(1);
+        when(postRepository.findScheduledPublications()).thenReturn(List.of());
+        scheduler.tick();
+        when(postRepository.findDuePublications(anyCollection(), any())).thenAnswer(invocation -> List.copyOf(invocation.getArgument(0)));
+
+        scheduler.onPostChanged(PostChangedEvent.updated(approvedPost(3L)));
+        scheduler.onPostChanged(PostChangedEvent.statusChanged(3L, ReviewStatus.DRAFT));
+        scheduler.onPostChanged(PostChangedEvent.updated(approvedPost(4L)));
+        scheduler.tick();
+
+        verify(postRepository).publishDue(eq(List.of(4L)), any(LocalDateTime.class));
+        verify(eventPublisher, never()).publishEvent(argThat((Object event) ->
+                event instanceof PostChangedEvent changed && changed.postId().equals(3L)));
+    }
+
+    private static Post approvedPost(Long id) {
+        return Post.builder()
+                .id(id)
+                .title("Title")
+                .content("Content")
+                .author("Author")
+                .category("news")
+                .status(ReviewStatus.APPROVED)
+                .publishAt(LocalDateTime.now().minusSeconds(1))
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
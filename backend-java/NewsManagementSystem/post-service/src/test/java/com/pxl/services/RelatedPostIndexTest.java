@@ -0,0 +1,74 @@
+package com.pxl.services;
+
+import com.pxl.services.domain.Post;
+import com.pxl.services.domain.ReviewStatus;
+import com.pxl.services.domain.event.PostChangedEvent;
+import com.pxl.services.repository.PostRepository;
+import com.pxl.services.services.related.RelatedPostIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+class RelatedPostIndexTest {
+    private static final String ELECTION = "The city council approved the new budget for public transport "
+            + "after a long debate about bus lanes, cycling routes and the price of monthly tickets";
+
+    private PostRepository postRepository;
+    private RelatedPostIndex index;
+
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        index = new RelatedPostIndex(postRepository);
+        when(postRepository.findPageAfterId(eq(0L), any(Pageable.class))).thenReturn(List.of(
+                post(1L, ELECTION, ReviewStatus.PUBLISHED),
+                post(2L, ELECTION + " on Tuesday evening", ReviewStatus.PUBLISHED),
+                post(3L, "Local football club wins the regional cup final in a penalty shootout", ReviewStatus.PUBLISHED),
+                post(4L, ELECTION + " again", ReviewStatus.DRAFT)));
+        index.rebuild();
+    }
+
+    @Test
+    void related_ReturnsSimilarPublishedPosts() {
+        assertEquals(List.of(2L), index.related(1L, 5));
+    }
+
+    @Test
+    void related_FollowsStatusChanges() {
+        index.onPostChanged(PostChangedEvent.statusChanged(4L, ReviewStatus.PUBLISHED));
+
+        assertEquals(List.of(2L, 4L), index.related(1L, 5).stream().sorted().toList());
+    }
+
+    @Test
+    void related_ForgetsDeletedPosts() {
+        index.onPostChanged(PostChangedEvent.deleted(2L));
+
+        assertTrue(index.related(1L, 5).isEmpty());
+    }
+
+    @Test
+    void related_UnknownPost() {
+        assertTrue(index.related(42L, 5).isEmpty());
+    }
+
+    private static Post post(Long id, String content, ReviewStatus status) {
+        return Post.builder()
+                .id(id)
+                .title("Title")
+                .content(content)
+                .author("Author")
+                .category("news")
+                .status(status)
+                .createdAt(LocalDateTime.of(2024, 1, 1, 0, 0))
+                .updatedAt(LocalDateTime.of(2024, 1, 1, 0, 0))
+                .build();
+    }
+}
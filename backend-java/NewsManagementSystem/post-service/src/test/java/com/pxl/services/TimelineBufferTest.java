@@ -0,0 +1,97 @@
+package com.pxl.services;
+
+import com.pxl.services.domain.PostCursor;
+import com.pxl.services.services.timeline.TimelineBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimelineBufferTest {
+
+    @Test
+    void add_KeepsNewestFirstAndDropsOldestWhenFull() {
+        TimelineBuffer buffer = new TimelineBuffer(3);
+
+        buffer.add(at(1L, 1));
+        buffer.add(at(3L, 3));
+        buffer.add(at(2L, 2));
+        buffer.add(at(4L, 4));
+
+        assertEquals(List.of(4L, 3L, 2L), ids(buffer.page(null, 10)));
+        assertTrue(buffer.isTruncated());
+        assertEquals(2L, buffer.oldest().id());
+    }
+
+    @Test
+    void add_RejectsDuplicatesAndPostsOlderThanFullBuffer() {
+        TimelineBuffer buffer = new TimelineBuffer(2);
+        buffer.add(at(2L, 2));
+        buffer.add(at(3L, 3));
+
+        assertFalse(buffer.add(at(3L, 3)));
+        assertFalse(buffer.isTruncated());
+        assertFalse(buffer.add(at(1L, 1)));
+        assertTrue(buffer.isTruncated());
+        assertEquals(List.of(3L, 2L), ids(buffer.page(null, 10)));
+    }
+
+    @Test
+    void remove_KeepsTruncation() {
+        TimelineBuffer buffer = new TimelineBuffer(2);
+        buffer.add(at(1L, 1));
+        buffer.add(at(2L, 2));
+        buffer.add(at(3L, 3));
+
+        buffer.remove(3L);
+
+        assertEquals(1, buffer.size());
+        assertTrue(buffer.isTruncated());
+    }
+
+    @Test
+    void add_WrapsAroundManyTimes() {
+        TimelineBuffer buffer = new TimelineBuffer(4);
+
+        for (long id = 1; id <= 50; id++) {
+            buffer.add(at(id, (int) id));
+        }
+
+        assertEquals(List.of(50L, 49L, 48L, 47L), ids(buffer.page(null, 10)));
+    }
+
+    @Test
+    void page_StartsAfterCursor() {
+        TimelineBuffer buffer = new TimelineBuffer(5);
+        for (long id = 1; id <= 5; id++) {
+            buffer.add(at(id, (int) id));
+        }
+
+        assertEquals(List.of(3L, 2L), ids(buffer.page(at(4L, 4), 2)));
+    }
+
+    @Test
+    void remove_ClosesTheGap() {
+        TimelineBuffer buffer = new TimelineBuffer(3);
+        buffer.add(at(1L, 1));
+        buffer.add(at(2L, 2));
+        buffer.add(at(3L, 3));
+
+        assertTrue(buffer.remove(2L));
+        buffer.add(at(0L, 0));
+
+        assertEquals(List.of(3L, 1L, 0L), ids(buffer.page(null, 10)));
+    }
+
+    private static PostCursor at(Long id, int minute) {
+        return new PostCursor(LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(minute), id);
+    }
+
+    private static List<Long> ids(List<PostCursor> positions) {
+        return positions.stream().map(PostCursor::id).toList();
+    }
+}
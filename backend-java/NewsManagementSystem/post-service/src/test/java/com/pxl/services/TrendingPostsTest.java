@@ -0,0 +1,126 @@
+package com.pxl.services;
+
+import com.pxl.services.domain.ReviewStatus;
+import com.pxl.services.domain.event.PostChangedEvent;
+import com.pxl.services.services.trending.TrendingPosts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class TrendingPostsTest {
+
+    private MutableClock clock;
+    private Set<Long> unpublished;
+    private TrendingPosts trendingPosts;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        unpublished = new HashSet<>();
+        trendingPosts = new TrendingPosts(clock, postId -> !unpublished.contains(postId), Duration.ofHours(1), 2, 1024, 4);
+    }
+
+    @Test
+    void top_DecaysScoresByHalfLife() {
+        trendingPosts.recordViews(1L, 8);
+
+        clock.advance(Duration.ofHours(2));
+
+        assertEquals(2.0, trendingPosts.top(10).get(1L), 1e-9);
+    }
+
+    @Test
+    void top_RecentActivityOutranksOlderActivity() {
+        trendingPosts.recordViews(1L, 10);
+        clock.advance(Duration.ofHours(3));
+        trendingPosts.recordViews(2L, 2);
+
+        assertEquals(List.of(2L, 1L), List.copyOf(trendingPosts.top(10).keySet()));
+    }
+
+    @Test
+    void record_KeepsOnlyTopK() {
+        trendingPosts.recordViews(1L, 5);
+        trendingPosts.recordViews(2L, 1);
+        trendingPosts.recordViews(3L, 3);
+
+        Map<Long, Double> top = trendingPosts.top(10);
+
+        assertEquals(List.of(1L, 3L), List.copyOf(top.keySet()));
+    }
+
+    @Test
+    void record_SurvivesLandmarkRebase() {
+        trendingPosts.recordViews(1L, 4);
+        clock.advance(Duration.ofHours(100));
+        trendingPosts.recordViews(2L, 1);
+
+        Map<Long, Double> top = trendingPosts.top(10);
+
+        assertEquals(1.0, top.get(2L), 1e-9);
+        assertEquals(4 * Math.pow(2, -100), top.get(1L), 1e-35);
+    }
+
+    @Test
+    void onPostChanged_DropsDeletedPosts() {
+        trendingPosts.recordViews(1L, 5);
+
+        trendingPosts.onPostChanged(PostChangedEvent.deleted(1L));
+
+        assertFalse(trendingPosts.top(10).containsKey(1L));
+    }
+
+    @Test
+    void record_IgnoresUnpublishedPosts() {
+        unpublished.add(2L);
+
+        trendingPosts.recordViews(1L, 1);
+        trendingPosts.recordViews(2L, 10);
+
+        assertEquals(List.of(1L), List.copyOf(trendingPosts.top(10).keySet()));
+    }
+
+    @Test
+    void onPostChanged_DropsWithdrawnPosts() {
+        trendingPosts.recordViews(1L, 5);
+
+        trendingPosts.onPostChanged(PostChangedEvent.statusChanged(1L, ReviewStatus.REJECTED));
+
+        assertFalse(trendingPosts.top(10).containsKey(1L));
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
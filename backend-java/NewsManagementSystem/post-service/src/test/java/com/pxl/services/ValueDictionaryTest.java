@@ -0,0 +1,99 @@
+package com.pxl.services;
+
+import com.pxl.services.services.dictionary.DictionaryStore;
+import com.pxl.services.services.dictionary.ValueDictionary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValueDictionaryTest {
+
+    private InMemoryStore store;
+    private ValueDictionary dictionary;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryStore();
+        store.rows.put("news", 1);
+        dictionary = new ValueDictionary(store, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void lookup_KnownAndUnknownValues() {
+        assertEquals(1, dictionary.lookup("news"));
+        assertEquals(ValueDictionary.UNKNOWN_ID, dictionary.lookup("sports"));
+        assertNull(dictionary.lookup(null));
+        assertEquals(1, store.rows.size());
+    }
+
+    @Test
+    void lookup_RemembersUnknownValuesUntilRegistered() {
+        dictionary.lookup("sports");
+        dictionary.lookup("sports");
+
+        assertEquals(1, store.idLookups);
+        int id = dictionary.register("sports");
+        assertEquals(id, dictionary.lookup("sports"));
+    }
+
+    @Test
+    void register_AddsOnlyNewValues() {
+        int id = dictionary.register("sports");
+
+        assertEquals(id, dictionary.register("sports"));
+        assertEquals(1, dictionary.register("news"));
+        assertEquals(1, store.inserts);
+        assertEquals("sports", dictionary.nameOf(id));
+    }
+
+    @Test
+    void nameOf_SharesOneInstancePerValue() {
+        assertSame(dictionary.nameOf(1), dictionary.nameOf(1));
+        assertNull(dictionary.nameOf(42));
+    }
+
+    @Test
+    void missesFallBackToStoreForValuesAddedElsewhere() {
+        assertEquals(1, dictionary.size());
+        store.rows.put("weather", 7);
+
+        assertEquals(7, dictionary.lookup("weather"));
+        assertEquals("weather", dictionary.nameOf(7));
+    }
+
+    private static class InMemoryStore implements DictionaryStore {
+        private final Map<String, Integer> rows = new HashMap<>();
+        private int inserts;
+        private int idLookups;
+
+        @Override
+        public Map<String, Integer> loadAll() {
+            return new HashMap<>(rows);
+        }
+
+        @Override
+        public Optional<Integer> findId(String name) {
+            idLookups++;
+            return Optional.ofNullable(rows.get(name));
+        }
+
+        @Override
+        public Optional<String> findName(int id) {
+            return rows.entrySet().stream().filter(row -> row.getValue() == id).map(Map.Entry::getKey).findFirst();
+        }
+
+        @Override
+        public int insert(String name) {
+            inserts++;
+            int id = rows.size() + 1;
+            rows.put(name, id);
+            return id;
+        }
+    }
+}
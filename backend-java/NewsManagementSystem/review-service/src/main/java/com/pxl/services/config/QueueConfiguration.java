@@ -1,5 +1,9 @@
 package com.pxl.services.config;
 
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.FanoutExchange;
+import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
@@ -9,6 +13,9 @@ import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class QueueConfiguration {
+    public static final String POST_DELETED_EXCHANGE = "postDeletedExchange";
+    public static final String POST_DELETED_QUEUE = "reviewPostDeletedQueue";
+    public static final String POST_PURGED_QUEUE = "postPurgedQueue";
 
     @Bean
     public MessageConverter jsonMessageConverter() {
@@ -22,4 +29,24 @@ public class QueueConfiguration {
         return rabbitTemplate;
     }
 
-}
\ No newline at end of file
+    @Bean
+    public FanoutExchange postDeletedExchange() {
+        return new FanoutExchange(POST_DELETED_EXCHANGE);
+    }
+
+    @Bean
+    public Queue postDeletedQueue() {
+        return new Queue(POST_DELETED_QUEUE);
+    }
+
+    @Bean
+    public Binding postDeletedBinding(Queue postDeletedQueue, FanoutExchange postDeletedExchange) {
+        return BindingBuilder.bind(postDeletedQueue).to(postDeletedExchange);
+    }
+
+    @Bean
+    public Queue postPurgedQueue() {
+        return new Queue(POST_PURGED_QUEUE);
+    }
+
+}
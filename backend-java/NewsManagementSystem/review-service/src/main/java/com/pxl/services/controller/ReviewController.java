@@ -1,14 +1,19 @@
 package com.pxl.services.controller;
 
+import com.pxl.services.domain.ListVersion;
 import com.pxl.services.domain.Review;
 import com.pxl.services.domain.ReviewStatus;
 import com.pxl.services.services.ReviewService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.Optional;
 
@@ -65,10 +70,17 @@ public class ReviewController {
     }
 
     @GetMapping("/post/{postId}")
-    public ResponseEntity<List<Review>> getReviewsByPostId(@PathVariable Long postId) {
+    public ResponseEntity<List<Review>> getReviewsByPostId(@PathVariable Long postId, WebRequest request) {
         log.info("Get reviews by post id: {}", postId);
+        ListVersion version = reviewService.getReviewsVersion(postId);
+        String eTag = eTag(postId, version);
+        long lastModified = toEpochMilli(version.lastModified());
+        if (request.checkNotModified(eTag, lastModified)) {
+            return validated(HttpStatus.NOT_MODIFIED, eTag, lastModified).build();
+        }
+
         List<Review> reviews = reviewService.getReviewsByPostId(postId);
-        return ResponseEntity.ok(reviews);
+        return validated(HttpStatus.OK, eTag, lastModified).body(reviews);
     }
 
     @GetMapping("/status/{status}")
@@ -84,4 +96,18 @@ public class ReviewController {
         reviewService.deleteReviewsByPostId(postId);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    // An empty list has no edit time, and -1 would be sent as a Last-Modified in 1969
+    private static ResponseEntity.BodyBuilder validated(HttpStatus status, String eTag, long lastModified) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(status).eTag(eTag);
+        return lastModified < 0 ? builder : builder.lastModified(lastModified);
+    }
+
+    private static String eTag(Long postId, ListVersion version) {
+        return "W/\"" + postId + "-" + version.count() + "-" + toEpochMilli(version.lastModified()) + "\"";
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime == null ? -1 : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,10 @@
+package com.pxl.services.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * Size and newest {@code reviewedAt} of the reviews on a post, used as a weak validator for
+ * the list.
+ */
+public record ListVersion(Long count, LocalDateTime lastModified) {
+}
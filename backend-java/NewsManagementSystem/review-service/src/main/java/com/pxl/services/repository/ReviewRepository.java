@@ -1,16 +1,29 @@
 package com.pxl.services.repository;
 
+import com.pxl.services.domain.ListVersion;
 import com.pxl.services.domain.Review;
 import com.pxl.services.domain.ReviewStatus;
+import com.pxl.services.purge.PostScopedRepository;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
-public interface ReviewRepository extends JpaRepository<Review, Long> {
+public interface ReviewRepository extends JpaRepository<Review, Long>, PostScopedRepository {
     List<Review> findByPostId(Long postId);
 
+    @Override
+    @Query("select r.id from Review r where r.postId = :postId order by r.id")
+    List<Long> findIdsByPostId(@Param("postId") Long postId, Pageable pageable);
+
+    @Query("select new com.pxl.services.domain.ListVersion(count(r), max(r.reviewedAt)) " +
+            "from Review r where r.postId = :postId")
+    ListVersion findListVersionByPostId(@Param("postId") Long postId);
+
     List<Review> findByStatus(ReviewStatus status);
     
     void deleteByPostId(Long postId);
@@ -2,6 +2,7 @@ package com.pxl.services.services;
 
 import com.pxl.services.client.NotificationClient;
 import com.pxl.services.domain.DTO.ReviewDTO;
+import com.pxl.services.domain.ListVersion;
 import com.pxl.services.domain.NotificationRequest;
 import com.pxl.services.domain.Review;
 import com.pxl.services.domain.ReviewStatus;
@@ -80,6 +81,11 @@ public class ReviewService {
         return reviewRepository.findByPostId(postId);
     }
 
+    public ListVersion getReviewsVersion(Long postId) {
+        log.info("Getting reviews version by post id: {}", postId);
+        return reviewRepository.findListVersionByPostId(postId);
+    }
+
     public List<Review> getReviewsByStatus(ReviewStatus status) {
         log.info("Getting reviews by reviewer status: {}", status);
         return reviewRepository.findByStatus(status);
@@ -0,0 +1,10 @@
+-- Baseline matching the schema previously generated by Hibernate (ddl-auto=update)
+create table if not exists review
+(
+    id          bigint        not null auto_increment,
+    comment     varchar(1000),
+    post_id     bigint        not null,
+    reviewed_at datetime(6)   not null,
+    status      enum ('APPROVED','DRAFT','PENDING','PUBLISHED','REJECTED') not null,
+    primary key (id)
+) engine = InnoDB;
@@ -0,0 +1,5 @@
+-- findByPostId and deleteByPostId, newest review first
+create index idx_review_post_id_reviewed_at on review (post_id, reviewed_at);
+
+-- findByStatus
+create index idx_review_status on review (status);
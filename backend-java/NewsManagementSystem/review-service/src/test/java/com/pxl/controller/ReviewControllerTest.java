@@ -1,6 +1,7 @@
 package com.pxl.controller;
 
 import com.pxl.services.controller.ReviewController;
+import com.pxl.services.domain.ListVersion;
 import com.pxl.services.domain.Review;
 import com.pxl.services.domain.ReviewStatus;
 import com.pxl.services.services.ReviewService;
@@ -10,8 +11,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -20,6 +25,9 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -158,13 +166,41 @@ class ReviewControllerTest {
     @Test
     void getReviewsByPostId_ShouldReturnReviews() {
         List<Review> mockReviews = Collections.singletonList(mockReview);
+        when(reviewService.getReviewsVersion(mockPostId)).thenReturn(new ListVersion(1L, mockReview.getReviewedAt()));
         when(reviewService.getReviewsByPostId(mockPostId)).thenReturn(mockReviews);
 
-        ResponseEntity<List<Review>> response = reviewController.getReviewsByPostId(mockPostId);
+        ResponseEntity<List<Review>> response = reviewController.getReviewsByPostId(mockPostId, webRequest(new MockHttpServletRequest()));
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(mockReviews, response.getBody());
         verify(reviewService).getReviewsByPostId(mockPostId);
+        assertNotNull(response.getHeaders().getETag());
+    }
+
+    @Test
+    void getReviewsByPostId_ShouldOmitLastModifiedForEmptyList() {
+        when(reviewService.getReviewsVersion(mockPostId)).thenReturn(new ListVersion(0L, null));
+        when(reviewService.getReviewsByPostId(mockPostId)).thenReturn(List.of());
+
+        ResponseEntity<List<Review>> response = reviewController.getReviewsByPostId(mockPostId, webRequest(new MockHttpServletRequest()));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getHeaders().getETag());
+        assertFalse(response.getHeaders().containsKey(HttpHeaders.LAST_MODIFIED));
+    }
+
+    @Test
+    void getReviewsByPostId_ShouldReturnNotModifiedWhenUnchanged() {
+        when(reviewService.getReviewsVersion(mockPostId)).thenReturn(new ListVersion(1L, mockReview.getReviewedAt()));
+        ResponseEntity<List<Review>> first = reviewController.getReviewsByPostId(mockPostId, webRequest(new MockHttpServletRequest()));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/reviews/post/" + mockPostId);
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, first.getHeaders().getETag());
+
+        ResponseEntity<List<Review>> response = reviewController.getReviewsByPostId(mockPostId, webRequest(request));
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+        verify(reviewService, times(1)).getReviewsByPostId(mockPostId);
     }
 
     @Test
@@ -187,4 +223,8 @@ class ReviewControllerTest {
         assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
         verify(reviewService).deleteReviewsByPostId(mockPostId);
     }
-}
\ No newline at end of file
+
+    private static ServletWebRequest webRequest(MockHttpServletRequest request) {
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+}
@@ -0,0 +1,65 @@
+package com.pxl.services;
+
+import com.pxl.services.config.QueueConfiguration;
+import com.pxl.services.domain.DTO.PostDeletedMessage;
+import com.pxl.services.domain.DTO.PostPurgedMessage;
+import com.pxl.services.repository.ReviewRepository;
+import com.pxl.services.services.PostDeletionListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class PostDeletionListenerTest {
+
+    private ReviewRepository reviewRepository;
+    private RabbitTemplate rabbitTemplate;
+    private PostDeletionListener listener;
+
+    @BeforeEach
+    void setUp() {
+        reviewRepository = mock(ReviewRepository.class);
+        rabbitTemplate = mock(RabbitTemplate.class);
+        listener = new PostDeletionListener(reviewRepository, rabbitTemplate, 2);
+    }
+
+    @Test
+    void onPostDeleted_PurgesInChunksAndConfirms() {
+        when(reviewRepository.findIdsByPostId(100L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(1L, 2L))
+                .thenReturn(List.of(3L));
+
+        listener.onPostDeleted(new PostDeletedMessage(100L));
+
+        verify(reviewRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(reviewRepository).deleteAllByIdInBatch(List.of(3L));
+        verify(rabbitTemplate).convertAndSend(QueueConfiguration.POST_PURGED_QUEUE,
+                new PostPurgedMessage(100L, "review-service", 3));
+    }
+
+    @Test
+    void onPostDeleted_AlreadyPurgedStillConfirms() {
+        when(reviewRepository.findIdsByPostId(100L, PageRequest.of(0, 2))).thenReturn(List.of());
+
+        listener.onPostDeleted(new PostDeletedMessage(100L));
+
+        verify(reviewRepository, never()).deleteAllByIdInBatch(any());
+        verify(rabbitTemplate).convertAndSend(QueueConfiguration.POST_PURGED_QUEUE,
+                new PostPurgedMessage(100L, "review-service", 0));
+    }
+
+    @Test
+    void onPostDeleted_FailureIsNotRequeued() {
+        when(reviewRepository.findIdsByPostId(100L, PageRequest.of(0, 2))).thenThrow(new RuntimeException("Database error"));
+
+        assertThrows(AmqpRejectAndDontRequeueException.class, () -> listener.onPostDeleted(new PostDeletedMessage(100L)));
+        verifyNoInteractions(rabbitTemplate);
+    }
+}